@@ -0,0 +1,66 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files and prints the relative change per benchmark.
+ * Scores are average times, so a negative change is an improvement.
+ */
+public final class BenchmarkComparison {
+
+  private BenchmarkComparison() {
+  }
+
+  /**
+   * Prints a comparison table.
+   *
+   * @param args the baseline result file followed by the candidate result file
+   * @throws IOException if either file cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+      System.exit(2);
+    }
+    Map<String, JsonNode> baseline = read(Path.of(args[0]));
+    Map<String, JsonNode> candidate = read(Path.of(args[1]));
+
+    System.out.printf("%-70s %14s %14s %9s %s%n",
+        "Benchmark", "Baseline", "Candidate", "Change", "Unit");
+    candidate.forEach((key, current) -> {
+      JsonNode previous = baseline.get(key);
+      double score = current.path("score").asDouble();
+      String unit = current.path("scoreUnit").asText();
+      if (previous == null) {
+        System.out.printf("%-70s %14s %14.3f %9s %s%n", key, "-", score, "new", unit);
+        return;
+      }
+      double before = previous.path("score").asDouble();
+      double change = (score - before) / before * 100;
+      System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %s%n", key, before, score, change, unit);
+    });
+    baseline.keySet().stream()
+        .filter(key -> !candidate.containsKey(key))
+        .forEach(key -> System.out.printf("%-70s %14.3f %14s %9s%n",
+            key, baseline.get(key).path("score").asDouble(), "-", "removed"));
+  }
+
+  private static Map<String, JsonNode> read(Path file) throws IOException {
+    Map<String, JsonNode> results = new LinkedHashMap<>();
+    for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+      StringBuilder key = new StringBuilder(run.path("benchmark").asText()
+          .replace(BenchmarkComparison.class.getPackageName() + ".", ""));
+      run.path("params").fields()
+          .forEachRemaining(param -> key.append(' ').append(param.getKey())
+              .append('=').append(param.getValue().asText()));
+      results.put(key.toString(), run.path("primaryMetric"));
+    }
+    return results;
+  }
+}
@@ -0,0 +1,71 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic data shared by the benchmarks so that sizes are comparable between runs.
+ */
+final class BenchmarkFixtures {
+
+  static final String EMAIL = "benchmark@example.com";
+  static final String BCRYPT_HASH =
+      "$2a$10$jh6gQ9nc6knrd2DcI95sV.WCCTvvGXYRU7FYqBFn/YGjhHCw.L0F2";
+  static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  private BenchmarkFixtures() {
+  }
+
+  static UserEntity userEntity() {
+    UserEntity user = new UserEntity();
+    user.setId(1L);
+    user.setEmail(EMAIL);
+    user.setPassword(BCRYPT_HASH);
+    user.setName("Benchmark User");
+    return user;
+  }
+
+  static Money amount(int row) {
+    long cents = 1000 + row % 50_000;
+    return Money.ofMinor(type(row) == TransactionType.EXPENSE ? -cents : cents);
+  }
+
+  static String description(int row) {
+    return "Transaction " + row;
+  }
+
+  static String category(int row) {
+    return "Category " + row % 20;
+  }
+
+  static TransactionType type(int row) {
+    return row % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+  }
+
+  static LocalDateTime date(int row) {
+    return START.plusMinutes(row);
+  }
+
+  static List<TransactionEntity> transactionEntities(UserEntity user, int rows) {
+    List<TransactionEntity> entities = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      TransactionEntity entity = new TransactionEntity();
+      entity.setId((long) i);
+      entity.setAmountMinor(amount(i).minorUnits());
+      entity.setCurrency(Money.DEFAULT_CURRENCY);
+      entity.setDescription(description(i));
+      entity.setCategory(category(i));
+      entity.setType(type(i));
+      entity.setDate(date(i));
+      entity.setUser(user);
+      entities.add(entity);
+    }
+    return entities;
+  }
+}
@@ -0,0 +1,222 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.FinanceManagerApplication;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.application.usecase.UserUseCase;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test of {@code GET /dashboard} with a fixed number of requests in flight, to compare
+ * Tomcat's platform thread pool with virtual threads. Each mode starts the application on a
+ * random port with its own in-memory database, signs in one user with a few hundred
+ * transactions and reports the throughput and latency percentiles of the measured requests.
+ * The virtual-thread mode needs Java 21 and is skipped on older runtimes.
+ *
+ * <p>Arguments are {@code --requests}, {@code --concurrency}, {@code --transactions} and
+ * {@code --modes} (a comma-separated subset of {@code platform,virtual}).
+ */
+public final class DashboardLoadTest {
+
+  private static final String PASSWORD = "Load@2024";
+  private static final Pattern CSRF_TOKEN =
+      Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+  private final int requests;
+  private final int concurrency;
+  private final int transactions;
+
+  private DashboardLoadTest(int requests, int concurrency, int transactions) {
+    this.requests = requests;
+    this.concurrency = concurrency;
+    this.transactions = transactions;
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args the options described on the class
+   * @throws Exception if the application cannot be started or signed in to
+   */
+  public static void main(String[] args) throws Exception {
+    int requests = 20_000;
+    int concurrency = 1000;
+    int transactions = 500;
+    List<String> modes = List.of("platform", "virtual");
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      switch (args[i]) {
+        case "--requests" -> requests = Integer.parseInt(args[i + 1]);
+        case "--concurrency" -> concurrency = Integer.parseInt(args[i + 1]);
+        case "--transactions" -> transactions = Integer.parseInt(args[i + 1]);
+        case "--modes" -> modes = Arrays.asList(args[i + 1].split(","));
+        default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+    }
+
+    // DevTools would otherwise restart the application in a new class loader on every start.
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    DashboardLoadTest loadTest = new DashboardLoadTest(requests, concurrency, transactions);
+    List<Result> results = new ArrayList<>();
+    for (String mode : modes) {
+      boolean virtual = mode.equals("virtual");
+      if (virtual && Runtime.version().feature() < 21) {
+        System.out.println("Skipping virtual threads, which need Java 21 (running "
+            + Runtime.version() + ")");
+        continue;
+      }
+      results.add(loadTest.run(mode, virtual));
+    }
+
+    System.out.printf("%n%-10s %10s %10s %10s %10s %10s %8s%n",
+        "Mode", "Requests", "Req/s", "p50 ms", "p99 ms", "Max ms", "Errors");
+    for (Result result : results) {
+      System.out.printf(Locale.ROOT, "%-10s %10d %10.0f %10.1f %10.1f %10.1f %8d%n",
+          result.mode(), result.requests(), result.throughput(), result.p50Millis(),
+          result.p99Millis(), result.maxMillis(), result.errors());
+    }
+  }
+
+  private Result run(String mode, boolean virtual) throws Exception {
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        FinanceManagerApplication.class)
+        .run("--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtual,
+            "--spring.datasource.url=jdbc:h2:mem:load-" + mode
+                + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.jpa.show-sql=false",
+            "--spring.h2.console.enabled=false",
+            "--finance.balances.reconciliation.cron=-",
+            "--logging.level.root=WARN",
+            "--logging.level.com.finance.manager=WARN");
+    try {
+      String email = "load-" + mode + "@example.com";
+      seed(context, email);
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      URI base = URI.create("http://localhost:" + port);
+      HttpClient client = HttpClient.newBuilder()
+          .cookieHandler(new CookieManager())
+          .followRedirects(HttpClient.Redirect.NEVER)
+          .connectTimeout(Duration.ofSeconds(30))
+          .build();
+      signIn(client, base, email);
+
+      HttpRequest dashboard = HttpRequest.newBuilder(base.resolve("/dashboard")).build();
+      fire(client, dashboard, Math.min(requests, 2000));
+      long start = System.nanoTime();
+      Latencies latencies = fire(client, dashboard, requests);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      return latencies.summarize(mode, seconds);
+    } finally {
+      context.close();
+    }
+  }
+
+  private void seed(ConfigurableApplicationContext context, String email) {
+    User user = context.getBean(UserUseCase.class).registerUser(email, PASSWORD, "Load User");
+    List<Transaction> batch = new ArrayList<>(transactions);
+    for (int i = 0; i < transactions; i++) {
+      Transaction transaction = new Transaction(BenchmarkFixtures.amount(i),
+          BenchmarkFixtures.description(i), BenchmarkFixtures.category(i),
+          BenchmarkFixtures.type(i), user);
+      transaction.setDate(BenchmarkFixtures.date(i));
+      batch.add(transaction);
+    }
+    context.getBean(TransactionUseCase.class).addTransactions(user, batch);
+  }
+
+  private static void signIn(HttpClient client, URI base, String email)
+      throws IOException, InterruptedException {
+    HttpResponse<String> loginPage = client.send(
+        HttpRequest.newBuilder(base.resolve("/login")).build(),
+        HttpResponse.BodyHandlers.ofString());
+    Matcher token = CSRF_TOKEN.matcher(loginPage.body());
+    if (!token.find()) {
+      throw new IllegalStateException("No CSRF token on the login page");
+    }
+    String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+        + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8)
+        + "&_csrf=" + URLEncoder.encode(token.group(1), StandardCharsets.UTF_8);
+    HttpResponse<Void> login = client.send(HttpRequest.newBuilder(base.resolve("/login"))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build(),
+        HttpResponse.BodyHandlers.discarding());
+    String location = login.headers().firstValue("Location").orElse("");
+    if (!location.endsWith("/dashboard")) {
+      throw new IllegalStateException("Sign-in failed, redirected to " + location);
+    }
+  }
+
+  private Latencies fire(HttpClient client, HttpRequest request, int count)
+      throws InterruptedException {
+    Latencies latencies = new Latencies(count);
+    Semaphore inFlight = new Semaphore(concurrency);
+    for (int i = 0; i < count; i++) {
+      inFlight.acquire();
+      int index = i;
+      long sent = System.nanoTime();
+      client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, error) -> {
+            latencies.record(index, System.nanoTime() - sent,
+                error == null && response.statusCode() == 200);
+            inFlight.release();
+          });
+    }
+    inFlight.acquire(concurrency);
+    return latencies;
+  }
+
+  private static final class Latencies {
+
+    private final long[] nanos;
+    private final AtomicInteger errors = new AtomicInteger();
+
+    Latencies(int count) {
+      nanos = new long[count];
+    }
+
+    void record(int index, long elapsed, boolean ok) {
+      nanos[index] = elapsed;
+      if (!ok) {
+        errors.incrementAndGet();
+      }
+    }
+
+    Result summarize(String mode, double seconds) {
+      long[] sorted = nanos.clone();
+      Arrays.sort(sorted);
+      return new Result(mode, sorted.length, sorted.length / seconds,
+          percentile(sorted, 0.50), percentile(sorted, 0.99),
+          sorted[sorted.length - 1] / 1e6, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+      int index = (int) Math.ceil(fraction * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1e6;
+    }
+  }
+
+  private record Result(String mode, int requests, double throughput, double p50Millis,
+      double p99Millis, double maxMillis, int errors) {}
+}
@@ -0,0 +1,114 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.FinanceManagerApplication;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering the dashboard view, layout decoration included, for a page of a given
+ * number of rows. The {@code default} profile re-parses every template on each render, as in
+ * development; the {@code prod} profile caches parsed templates and the rendered navigation.
+ * Only the view is rendered: the model is built up front, so no database work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardRenderBenchmark {
+
+  @Param({"20", "100", "1000"})
+  private int rows;
+
+  @Param({"default", "prod"})
+  private String profile;
+
+  private ConfigurableApplicationContext context;
+  private View view;
+  private Map<String, Object> model;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    context = new SpringApplicationBuilder(FinanceManagerApplication.class)
+        .web(WebApplicationType.SERVLET)
+        .profiles(profile)
+        .run("--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:render;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "--spring.devtools.add-properties=false",
+            "--spring.devtools.restart.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.finance.manager=WARN");
+    view = context.getBean(ThymeleafViewResolver.class).resolveViewName("dashboard", Locale.US);
+
+    UserEntity userEntity = BenchmarkFixtures.userEntity();
+    User user = userEntity.toDomainModel();
+    List<TransactionDto> transactions = BenchmarkFixtures.transactionEntities(userEntity, rows)
+        .stream()
+        .map(entity -> TransactionDto.fromDomain(entity.toDomainModel(user)))
+        .toList();
+    model = new HashMap<>();
+    model.put("transactions", transactions);
+    model.put("nextCursor", null);
+    model.put("firstPage", true);
+    model.put("pageSize", rows);
+    model.put("totalIncome", new BigDecimal("125000.00"));
+    model.put("totalExpenses", new BigDecimal("98765.43"));
+    model.put("balance", new BigDecimal("26234.57"));
+    model.put("currency", Money.DEFAULT_CURRENCY.getCurrencyCode());
+    model.put("newTransaction", new TransactionDto());
+    model.put("transactionTypes", TransactionType.values());
+
+    // The JMH worker thread is not the setup thread, so share the signed-in user globally.
+    SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    SecurityContextHolder.getContext().setAuthentication(
+        UsernamePasswordAuthenticationToken.authenticated(BenchmarkFixtures.EMAIL, null,
+            AuthorityUtils.createAuthorityList("ROLE_USER")));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+    context.close();
+  }
+
+  /**
+   * Renders one dashboard page into a buffer.
+   */
+  @Benchmark
+  public MockHttpServletResponse renderDashboard() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(
+        ((WebApplicationContext) context).getServletContext(), "GET", "/dashboard");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    view.render(model, request, response);
+    return response;
+  }
+}
@@ -0,0 +1,83 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building transactions and moving them across the web boundary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainMappingBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  private int rows;
+
+  private User owner;
+  private List<Transaction> transactions;
+  private List<TransactionDto> dtos;
+
+  @Setup
+  public void setUp() {
+    owner = BenchmarkFixtures.userEntity().toDomainModel();
+    transactions = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      transactions.add(newTransaction(i));
+    }
+    dtos = transactions.stream().map(TransactionDto::fromDomain).toList();
+  }
+
+  /**
+   * Builds transactions through the validating constructor, as form submissions do.
+   */
+  @Benchmark
+  public void construct(Blackhole blackhole) {
+    for (int i = 0; i < rows; i++) {
+      blackhole.consume(newTransaction(i));
+    }
+  }
+
+  /**
+   * Converts domain objects to DTOs, as the dashboard does for every listed row.
+   */
+  @Benchmark
+  public void dtoFromDomain(Blackhole blackhole) {
+    for (Transaction transaction : transactions) {
+      blackhole.consume(TransactionDto.fromDomain(transaction));
+    }
+  }
+
+  /**
+   * Converts DTOs to domain objects, as the add and API endpoints do.
+   */
+  @Benchmark
+  public void dtoToDomain(Blackhole blackhole) {
+    for (TransactionDto dto : dtos) {
+      blackhole.consume(dto.toDomain(owner));
+    }
+  }
+
+  private Transaction newTransaction(int row) {
+    Transaction transaction = new Transaction(BenchmarkFixtures.amount(row),
+        BenchmarkFixtures.description(row), BenchmarkFixtures.category(row),
+        BenchmarkFixtures.type(row), owner);
+    transaction.setId((long) row);
+    transaction.setDate(BenchmarkFixtures.date(row));
+    return transaction;
+  }
+}
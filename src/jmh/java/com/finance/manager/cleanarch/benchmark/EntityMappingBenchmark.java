@@ -0,0 +1,124 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting a user's transactions from entities to domain objects.
+ * The validating path is how rows were mapped before trusted rehydration existed, including
+ * the user validation of that time, which matched each field with {@link String#matches} and
+ * so compiled both patterns again for every row.
+ * Run with {@code -prof gc} to compare the bytes allocated per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityMappingBenchmark {
+
+  private static final int LEGACY_MIN_PASSWORD_LENGTH = 8;
+  private static final int LEGACY_MAX_NAME_LENGTH = 100;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  private int rows;
+
+  private List<TransactionEntity> entities;
+  private List<Transaction> transactions;
+  private User owner;
+
+  @Setup
+  public void setUp() {
+    UserEntity user = BenchmarkFixtures.userEntity();
+    owner = user.toDomainModel();
+    entities = BenchmarkFixtures.transactionEntities(user, rows);
+    transactions = entities.stream().map(entity -> entity.toDomainModel(owner)).toList();
+  }
+
+  /**
+   * Maps every row through the validating constructors, as the adapters did before.
+   */
+  @Benchmark
+  public void validatingConstructors(Blackhole blackhole) {
+    for (TransactionEntity entity : entities) {
+      UserEntity owner = entity.getUser();
+      User user = legacyUser(owner.getId(), owner.getEmail(), owner.getPassword(),
+          owner.getName());
+      Transaction transaction = new Transaction(
+          new Money(entity.getAmountMinor(), entity.getCurrency()), entity.getDescription(),
+          entity.getCategory(), entity.getType(), user);
+      transaction.setId(entity.getId());
+      transaction.setDate(entity.getDate());
+      blackhole.consume(transaction);
+    }
+  }
+
+  /**
+   * Maps every row through the trusted rehydration path used by single-row lookups.
+   */
+  @Benchmark
+  public void trustedRehydration(Blackhole blackhole) {
+    for (TransactionEntity entity : entities) {
+      blackhole.consume(entity.toDomainModel());
+    }
+  }
+
+  /**
+   * Maps every row onto one shared owner, as user-scoped repository queries do.
+   */
+  @Benchmark
+  public void sharedOwnerRehydration(Blackhole blackhole) {
+    for (TransactionEntity entity : entities) {
+      blackhole.consume(entity.toDomainModel(owner));
+    }
+  }
+
+  /**
+   * Converts domain objects back to entities, as every save does.
+   */
+  @Benchmark
+  public void toEntity(Blackhole blackhole) {
+    for (Transaction transaction : transactions) {
+      blackhole.consume(new TransactionEntity(transaction));
+    }
+  }
+
+  /**
+   * Validates a user the way its constructor did before trusted rehydration existed, then
+   * creates it without validating again.
+   */
+  private static User legacyUser(Long id, String email, String password, String name) {
+    if (email == null || email.trim().isEmpty()) {
+      throw new IllegalArgumentException("Email cannot be empty");
+    }
+    if (!email.matches(User.getEmailPattern())) {
+      throw new IllegalArgumentException("Invalid email format");
+    }
+    if (password == null || password.trim().isEmpty()) {
+      throw new IllegalArgumentException("Password cannot be empty");
+    }
+    if (password.length() < LEGACY_MIN_PASSWORD_LENGTH) {
+      throw new IllegalArgumentException("Password must be at least 8 characters long");
+    }
+    if (!password.matches(User.getPasswordPattern())) {
+      throw new IllegalArgumentException("Password must meet complexity requirements");
+    }
+    if (name == null || name.trim().isEmpty() || name.length() > LEGACY_MAX_NAME_LENGTH) {
+      throw new IllegalArgumentException("Invalid name");
+    }
+    return User.rehydrate(id, email, password, name);
+  }
+}
@@ -0,0 +1,121 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.FinanceManagerApplication;
+import com.finance.manager.cleanarch.application.usecase.BalanceReconciliationUseCase;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.DashboardView;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.FinancialSummary;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the dashboard reads against an in-memory H2 schema built by Flyway,
+ * so the production indexes are in place. The statement cache is disabled because H2
+ * otherwise replays the previous result of an unchanged table instead of running the query.
+ * Rows are inserted with plain JDBC, so the user's stored totals are built by reconciliation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FinancialSummaryBenchmark {
+
+  private static final int BATCH_SIZE = 10_000;
+  private static final int PAGE_SIZE = 20;
+
+  @Param({"1000", "100000", "1000000"})
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+  private TransactionUseCase transactionUseCase;
+  private TransactionRepository transactionRepository;
+  private User user;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(FinanceManagerApplication.class)
+        .web(WebApplicationType.NONE)
+        .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;QUERY_CACHE_SIZE=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.finance.manager=WARN");
+    transactionUseCase = context.getBean(TransactionUseCase.class);
+
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    jdbcTemplate.update("INSERT INTO users (email, password, name) VALUES (?, ?, ?)",
+        BenchmarkFixtures.EMAIL, BenchmarkFixtures.BCRYPT_HASH, "Benchmark User");
+    user = context.getBean(UserRepository.class).findByEmail(BenchmarkFixtures.EMAIL)
+        .orElseThrow();
+    insertTransactions(jdbcTemplate);
+    context.getBean(BalanceReconciliationUseCase.class).reconcile(user.getId());
+    transactionRepository = context.getBean(TransactionRepository.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  /**
+   * Reads the income, expense and balance totals shown on the dashboard.
+   */
+  @Benchmark
+  public FinancialSummary getFinancialSummary() {
+    return transactionUseCase.getFinancialSummary(user);
+  }
+
+  /**
+   * Aggregates the same totals from the transactions, as the summary did before the
+   * totals were stored, and as the reconciliation still does.
+   */
+  @Benchmark
+  public Map<TransactionType, Money> aggregateLedger() {
+    return transactionRepository.sumAmountByType(user);
+  }
+
+  /**
+   * Loads the first dashboard page together with its totals.
+   */
+  @Benchmark
+  public DashboardView getDashboard() {
+    return transactionUseCase.getDashboard(user, null, PAGE_SIZE);
+  }
+
+  private void insertTransactions(JdbcTemplate jdbcTemplate) {
+    String sql = "INSERT INTO transactions"
+        + " (user_id, description, amount_minor, type, category, date)"
+        + " VALUES (?, ?, ?, ?, ?, ?)";
+    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < rows; i++) {
+      batch.add(new Object[] {user.getId(), BenchmarkFixtures.description(i),
+          BenchmarkFixtures.amount(i).minorUnits(), BenchmarkFixtures.type(i).name(),
+          BenchmarkFixtures.category(i), Timestamp.valueOf(BenchmarkFixtures.date(i))});
+      if (batch.size() == BATCH_SIZE || i == rows - 1) {
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+      }
+    }
+  }
+}
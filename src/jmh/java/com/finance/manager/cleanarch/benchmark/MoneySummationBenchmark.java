@@ -0,0 +1,96 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of summing a large history of amounts as doubles, the way the summary was computed
+ * before amounts became {@link Money}, against exact sums of minor units.
+ * Run with {@code -prof gc} to confirm that the minor unit paths do not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneySummationBenchmark {
+
+  @Param({"1000000"})
+  private int rows;
+
+  private double[] doubles;
+  private long[] minorUnits;
+  private List<Transaction> transactions;
+
+  @Setup
+  public void setUp() {
+    User owner = BenchmarkFixtures.userEntity().toDomainModel();
+    doubles = new double[rows];
+    minorUnits = new long[rows];
+    transactions = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      Money amount = BenchmarkFixtures.amount(i);
+      doubles[i] = amount.toBigDecimal().doubleValue();
+      minorUnits[i] = amount.minorUnits();
+      transactions.add(Transaction.rehydrate((long) i, amount, BenchmarkFixtures.description(i),
+          BenchmarkFixtures.category(i), BenchmarkFixtures.type(i), BenchmarkFixtures.date(i),
+          owner));
+    }
+  }
+
+  /**
+   * Sums doubles with {@code DoubleStream.sum()}, as {@code mapToDouble(...).sum()} did.
+   */
+  @Benchmark
+  public double doubleStreamSum() {
+    return Arrays.stream(doubles).sum();
+  }
+
+  /**
+   * Sums doubles in a plain loop, without the stream's compensated summation.
+   */
+  @Benchmark
+  public double doubleLoopSum() {
+    double sum = 0;
+    for (double amount : doubles) {
+      sum += amount;
+    }
+    return sum;
+  }
+
+  /**
+   * Sums minor units exactly, failing on overflow instead of drifting.
+   */
+  @Benchmark
+  public long minorUnitsSum() {
+    long sum = 0;
+    for (long amount : minorUnits) {
+      sum = Math.addExact(sum, amount);
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the minor units of domain transactions, as in-memory aggregation over them would.
+   */
+  @Benchmark
+  public long transactionMinorUnitsSum() {
+    long sum = 0;
+    for (Transaction transaction : transactions) {
+      sum = Math.addExact(sum, transaction.getAmount().minorUnits());
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,312 @@
+package com.finance.manager.cleanarch.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cold start of the startup build ({@code mvn -Pstartup package}) as the time from
+ * launching the JVM to the first successful {@code GET /dashboard}. Each run starts a fresh
+ * process on a free port with its own in-memory database, waits for the login page, registers
+ * and signs in a user, and requests the dashboard. The registration hashes one password, which
+ * costs the same in every mode. The JVM modes differ only in the JVM and Spring options:
+ * <ul>
+ *   <li>{@code jvm}: no optimization;</li>
+ *   <li>{@code cds}: the AppCDS archive recorded by the build;</li>
+ *   <li>{@code aot}: the bean definitions generated by Spring AOT;</li>
+ *   <li>{@code lazy}: the {@code startup} profile, which initializes most beans lazily;</li>
+ *   <li>{@code all}: the three together.</li>
+ * </ul>
+ * The {@code native} mode runs the native image ({@code mvn -Pnative native:compile}) instead.
+ * After the dashboard has been served, the resident set size of the process is read from
+ * {@code /proc}, where available.
+ *
+ * <p>Arguments are {@code --jar} (defaults to the startup jar in {@code target/startup}),
+ * {@code --native} (defaults to {@code target/personal-finance-manager}), {@code --runs} and
+ * {@code --modes} (a comma-separated subset of the modes above, by default the JVM modes). The
+ * median and the minimum of each mode are reported, for both the login page and the dashboard,
+ * with the median resident set size.
+ */
+public final class StartupBenchmark {
+
+  private static final String PASSWORD = "Startup@2024";
+  private static final Duration TIMEOUT = Duration.ofMinutes(2);
+  private static final Pattern CSRF_TOKEN =
+      Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+  private static final String NATIVE = "native";
+  private static final Map<String, List<String>> MODES = new LinkedHashMap<>();
+
+  static {
+    String cds = "-XX:SharedArchiveFile=application.jsa";
+    String aot = "-Dspring.aot.enabled=true";
+    String lazy = "-Dspring.profiles.active=startup";
+    MODES.put("jvm", List.of());
+    MODES.put("cds", List.of(cds));
+    MODES.put("aot", List.of(aot));
+    MODES.put("lazy", List.of(lazy));
+    MODES.put("all", List.of(cds, aot, lazy));
+  }
+
+  private final Path jar;
+  private final Path nativeImage;
+
+  private StartupBenchmark(Path jar, Path nativeImage) {
+    this.jar = jar;
+    this.nativeImage = nativeImage;
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the options described on the class
+   * @throws Exception if the application does not start or cannot be signed in to
+   */
+  public static void main(String[] args) throws Exception {
+    Path jar = null;
+    Path nativeImage = Path.of("target", "personal-finance-manager");
+    int runs = 5;
+    List<String> modes = new ArrayList<>(MODES.keySet());
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      switch (args[i]) {
+        case "--jar" -> jar = Path.of(args[i + 1]);
+        case "--native" -> nativeImage = Path.of(args[i + 1]);
+        case "--runs" -> runs = Integer.parseInt(args[i + 1]);
+        case "--modes" -> modes = Arrays.asList(args[i + 1].split(","));
+        default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+    }
+    for (String mode : modes) {
+      if (!MODES.containsKey(mode) && !NATIVE.equals(mode)) {
+        throw new IllegalArgumentException("Unknown mode " + mode);
+      }
+    }
+    if (jar == null && modes.stream().anyMatch(MODES::containsKey)) {
+      jar = findStartupJar();
+    }
+    if (modes.contains(NATIVE) && !Files.isExecutable(nativeImage)) {
+      throw new IllegalStateException(
+          "Build the native image first: mvn -Pnative native:compile, or pass --native");
+    }
+    StartupBenchmark benchmark = new StartupBenchmark(jar, nativeImage);
+
+    List<Result> results = new ArrayList<>();
+    for (String mode : modes) {
+      long[] ready = new long[runs];
+      long[] dashboard = new long[runs];
+      long[] rss = new long[runs];
+      for (int run = 0; run < runs; run++) {
+        long[] sample = benchmark.start(mode, run);
+        ready[run] = sample[0];
+        dashboard[run] = sample[1];
+        rss[run] = sample[2];
+        System.out.printf(Locale.ROOT, "%-6s run %d: login page %d ms, dashboard %d ms, RSS %s%n",
+            mode, run + 1, ready[run], dashboard[run], megabytes(rss[run]));
+      }
+      results.add(new Result(mode, median(ready), min(ready), median(dashboard),
+          min(dashboard), median(rss)));
+    }
+
+    System.out.printf("%n%-6s %14s %14s %18s %18s %12s%n", "Mode", "Login p50 ms",
+        "Login min ms", "Dashboard p50 ms", "Dashboard min ms", "RSS p50 MB");
+    for (Result result : results) {
+      System.out.printf(Locale.ROOT, "%-6s %14d %14d %18d %18d %12s%n", result.mode(),
+          result.readyMedian(), result.readyMin(), result.dashboardMedian(),
+          result.dashboardMin(), megabytes(result.rssMedian()));
+    }
+  }
+
+  private long[] start(String mode, int run) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    Path executable;
+    if (NATIVE.equals(mode)) {
+      executable = nativeImage;
+      command.add(nativeImage.toAbsolutePath().toString());
+    } else {
+      executable = jar;
+      command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+      command.addAll(MODES.get(mode));
+      command.addAll(List.of("-jar", jar.toAbsolutePath().toString()));
+    }
+    Path directory = executable.toAbsolutePath().getParent();
+    command.addAll(List.of(
+        "--server.port=" + port,
+        "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "--logging.level.root=WARN",
+        "--logging.level.com.finance.manager=WARN"));
+    Path log = directory.resolve("startup-" + mode + "-" + (run + 1) + ".log");
+
+    long launched = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+        .directory(directory.toFile())
+        .redirectErrorStream(true)
+        .redirectOutput(log.toFile())
+        .start();
+    try {
+      URI base = URI.create("http://localhost:" + port);
+      HttpClient client = HttpClient.newBuilder()
+          .cookieHandler(new CookieManager())
+          .followRedirects(HttpClient.Redirect.NEVER)
+          .build();
+      String loginPage = awaitLoginPage(client, base, process, log);
+      long ready = elapsedMillis(launched);
+      String email = "startup-" + mode + "@example.com";
+      register(client, base, email);
+      signIn(client, base, email, loginPage);
+      HttpResponse<Void> dashboard = client.send(
+          HttpRequest.newBuilder(base.resolve("/dashboard")).build(),
+          HttpResponse.BodyHandlers.discarding());
+      if (dashboard.statusCode() != 200) {
+        throw new IllegalStateException("Dashboard answered " + dashboard.statusCode());
+      }
+      long served = elapsedMillis(launched);
+      return new long[] {ready, served, residentSetKilobytes(process.pid())};
+    } finally {
+      process.destroy();
+      if (!process.waitFor(30, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static String awaitLoginPage(HttpClient client, URI base, Process process, Path log)
+      throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    HttpRequest login = HttpRequest.newBuilder(base.resolve("/login")).build();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("The application exited, see " + log);
+      }
+      try {
+        HttpResponse<String> response = client.send(login, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+          return response.body();
+        }
+      } catch (ConnectException e) {
+        // not listening yet
+      }
+      Thread.sleep(10);
+    }
+    throw new IllegalStateException("The application did not start within " + TIMEOUT);
+  }
+
+  private static void register(HttpClient client, URI base, String email)
+      throws IOException, InterruptedException {
+    HttpResponse<String> page = client.send(
+        HttpRequest.newBuilder(base.resolve("/register")).build(),
+        HttpResponse.BodyHandlers.ofString());
+    String form = "name=Startup+User"
+        + "&email=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+        + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8)
+        + "&passwordConfirmation=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8)
+        + "&_csrf=" + URLEncoder.encode(csrfToken(page.body()), StandardCharsets.UTF_8);
+    String location = postForm(client, base.resolve("/register"), form);
+    if (!location.contains("/login")) {
+      throw new IllegalStateException("Registration failed, redirected to " + location);
+    }
+  }
+
+  private static void signIn(HttpClient client, URI base, String email, String loginPage)
+      throws IOException, InterruptedException {
+    String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+        + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8)
+        + "&_csrf=" + URLEncoder.encode(csrfToken(loginPage), StandardCharsets.UTF_8);
+    String location = postForm(client, base.resolve("/login"), form);
+    if (!location.endsWith("/dashboard")) {
+      throw new IllegalStateException("Sign-in failed, redirected to " + location);
+    }
+  }
+
+  private static String postForm(HttpClient client, URI uri, String form)
+      throws IOException, InterruptedException {
+    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build(),
+        HttpResponse.BodyHandlers.discarding());
+    return response.headers().firstValue("Location").orElse("");
+  }
+
+  private static String csrfToken(String page) {
+    Matcher token = CSRF_TOKEN.matcher(page);
+    if (!token.find()) {
+      throw new IllegalStateException("No CSRF token on the page");
+    }
+    return token.group(1);
+  }
+
+  private static Path findStartupJar() throws IOException {
+    Path directory = Path.of("target", "startup");
+    if (!Files.isDirectory(directory)) {
+      throw new IllegalStateException("Build the startup jar first: mvn -Pstartup package");
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(file -> file.getFileName().toString().endsWith("-startup.jar"))
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("No startup jar in " + directory));
+    }
+  }
+
+  /**
+   * Reads {@code VmRSS} from {@code /proc/<pid>/status}, or returns -1 where there is none.
+   */
+  private static long residentSetKilobytes(long pid) throws IOException {
+    Path status = Path.of("/proc", Long.toString(pid), "status");
+    if (!Files.isReadable(status)) {
+      return -1;
+    }
+    for (String line : Files.readAllLines(status)) {
+      if (line.startsWith("VmRSS:")) {
+        return Long.parseLong(line.replaceAll("\\D", ""));
+      }
+    }
+    return -1;
+  }
+
+  private static String megabytes(long kilobytes) {
+    return kilobytes < 0 ? "-" : Long.toString(kilobytes / 1024);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static long elapsedMillis(long start) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  private static long min(long[] values) {
+    return Arrays.stream(values).min().orElseThrow();
+  }
+
+  private record Result(String mode, long readyMedian, long readyMin, long dashboardMedian,
+      long dashboardMin, long rssMedian) {}
+}
@@ -1,13 +1,16 @@
 package com.finance.manager.cleanarch;
 
+import com.finance.manager.cleanarch.infrastructure.config.FinanceRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main application class for the Personal Finance Manager.
  * Uses Spring Boot for auto-configuration and component scanning.
  */
 @SpringBootApplication
+@ImportRuntimeHints(FinanceRuntimeHints.class)
 public class FinanceManagerApplication {
 
   /**
@@ -0,0 +1,78 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserBalanceRepository;
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for checking the stored running totals of users against their transactions.
+ * The transactions are the source of truth: totals that drifted from them are reported
+ * and corrected.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceReconciliationUseCase {
+
+  private final UserRepository userRepository;
+  private final TransactionRepository transactionRepository;
+  private final UserBalanceRepository balanceRepository;
+
+  /**
+   * Gets the IDs of the users whose totals can be reconciled.
+   *
+   * @return the user IDs in ascending order
+   */
+  public List<Long> getUserIds() {
+    return userRepository.findAllIds();
+  }
+
+  /**
+   * Recomputes the totals of one user from the transactions and corrects the stored totals
+   * if they differ. The stored totals are locked while the transactions are aggregated, so
+   * transactions added concurrently are counted exactly once.
+   *
+   * @param userId the ID of the user to reconcile
+   * @return the drift that was corrected, or empty if the stored totals were right
+   * @throws IllegalArgumentException if the user does not exist
+   */
+  @Transactional
+  public Optional<BalanceDrift> reconcile(Long userId) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+    Optional<UserBalance> stored = balanceRepository.lockByUser(user);
+    UserBalance ledger = UserBalance.of(userId, transactionRepository.sumAmountByType(user));
+
+    if (stored.isEmpty() ? ledger.isEmpty() : stored.get().equals(ledger)) {
+      return Optional.empty();
+    }
+    balanceRepository.replace(ledger);
+    return Optional.of(new BalanceDrift(
+        stored.orElseGet(() -> UserBalance.empty(userId, ledger.currency())), ledger));
+  }
+
+  /**
+   * Difference between the stored totals of a user and the totals of the transactions.
+   *
+   * @param stored the totals as they were stored
+   * @param ledger the totals recomputed from the transactions
+   */
+  public record BalanceDrift(UserBalance stored, UserBalance ledger) {
+
+    /**
+     * Gets the ID of the user whose totals drifted.
+     *
+     * @return the user ID
+     */
+    public Long userId() {
+      return ledger.userId();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportResult;
+
+/**
+ * Thrown when an import stops partway, because the source could not be read or a chunk could
+ * not be saved. The chunks saved before the failure stay committed; the partial result tells
+ * how many transactions they hold, so that the rest of the source can be imported without
+ * adding them twice.
+ */
+public class ImportInterruptedException extends RuntimeException {
+
+  private final transient ImportResult partialResult;
+
+  /**
+   * Creates the exception.
+   *
+   * @param partialResult the transactions saved and the rows rejected before the failure
+   * @param cause the failure that stopped the import
+   */
+  public ImportInterruptedException(ImportResult partialResult, RuntimeException cause) {
+    super("Import stopped after " + partialResult.imported() + " saved transactions", cause);
+    this.partialResult = partialResult;
+  }
+
+  /**
+   * Gets what the import did before it stopped.
+   *
+   * @return the transactions saved and the rows rejected before the failure
+   */
+  public ImportResult getPartialResult() {
+    return partialResult;
+  }
+}
@@ -0,0 +1,47 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use case for recomputing the monthly rollups of users from their transactions.
+ * Rollups are normally maintained on write; rebuilding them backfills history that was
+ * written before the rollups existed or repairs buckets that drifted.
+ */
+@Service
+@RequiredArgsConstructor
+public class RollupRebuildUseCase {
+
+  private final UserRepository userRepository;
+  private final TransactionRepository transactionRepository;
+
+  /**
+   * Gets the IDs of the users whose rollups can be rebuilt.
+   *
+   * @return the user IDs in ascending order
+   */
+  public List<Long> getUserIds() {
+    return userRepository.findAllIds();
+  }
+
+  /**
+   * Replaces the rollups of one user with totals recomputed from the transactions.
+   * The user row is locked meanwhile, so no transaction is added halfway through.
+   *
+   * @param userId the ID of the user whose rollups to rebuild
+   * @return the number of rollup buckets written
+   * @throws IllegalArgumentException if the user does not exist
+   */
+  @Transactional
+  public int rebuild(Long userId) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+    return transactionRepository.rebuildRollups(user);
+  }
+}
@@ -0,0 +1,158 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Use case for importing transactions in bulk, for example from bank statements.
+ * Rows are consumed one at a time and saved in fixed-size chunks, so the size of an import
+ * is not limited by memory. Each chunk is committed on its own, together with its change to
+ * the user's totals: a failure while reading the source or saving a chunk keeps the chunks
+ * that were already saved, and is reported with their count.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionImportUseCase {
+
+  static final int CHUNK_SIZE = 500;
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  private final TransactionUseCase transactionUseCase;
+
+  /**
+   * Imports transactions for a user.
+   * Rows that break the transaction rules are skipped and reported with their line number.
+   *
+   * @param user the user who owns the imported transactions
+   * @param rows the rows to import, read lazily
+   * @return the number of imported and rejected rows, with the first rejection reasons
+   * @throws ImportInterruptedException if reading the rows or saving a chunk fails; the
+   *     chunks saved before stay committed
+   */
+  public ImportResult importTransactions(User user, Iterator<ImportRow> rows) {
+    if (user == null) {
+      throw new IllegalArgumentException("User cannot be null");
+    }
+
+    List<Transaction> chunk = new ArrayList<>(CHUNK_SIZE);
+    List<RowError> errors = new ArrayList<>();
+    int imported = 0;
+    int rejected = 0;
+    try {
+      while (rows.hasNext()) {
+        ImportRow row = rows.next();
+        try {
+          chunk.add(toTransaction(row, user));
+        } catch (IllegalArgumentException e) {
+          rejected++;
+          if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(row.line(), e.getMessage()));
+          }
+          continue;
+        }
+        if (chunk.size() == CHUNK_SIZE) {
+          imported += saveChunk(user, chunk);
+        }
+      }
+      imported += saveChunk(user, chunk);
+    } catch (RuntimeException e) {
+      throw new ImportInterruptedException(new ImportResult(imported, rejected, errors), e);
+    }
+    return new ImportResult(imported, rejected, errors);
+  }
+
+  private int saveChunk(User user, List<Transaction> chunk) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+    transactionUseCase.addTransactions(user, chunk);
+    int saved = chunk.size();
+    chunk.clear();
+    return saved;
+  }
+
+  private Transaction toTransaction(ImportRow row, User user) {
+    Money amount = parseAmount(row.amount());
+    TransactionType type = parseType(row.type(), amount);
+    Transaction transaction = new Transaction(amount, row.description(), row.category(),
+        type, user);
+    transaction.setDate(parseDate(row.date()));
+    return transaction;
+  }
+
+  private Money parseAmount(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Transaction amount is required");
+    }
+    return Money.parse(value);
+  }
+
+  private TransactionType parseType(String value, Money amount) {
+    if (value == null || value.isBlank()) {
+      return amount.isNegative() ? TransactionType.EXPENSE : TransactionType.INCOME;
+    }
+    try {
+      return TransactionType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid transaction type: " + value);
+    }
+  }
+
+  private LocalDateTime parseDate(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Transaction date is required");
+    }
+    String date = value.trim();
+    try {
+      if (date.length() == 10) {
+        return LocalDate.parse(date).atStartOfDay();
+      }
+      return LocalDateTime.parse(date.replace(' ', 'T'));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid date: " + value);
+    }
+  }
+
+  /**
+   * One source row, with fields as read from the file.
+   * Dates are ISO-8601 dates or date-times. When the type is blank it follows the amount sign.
+   *
+   * @param line the line number of the row in the source, for error reporting
+   * @param date the transaction date
+   * @param description the transaction description
+   * @param category the transaction category
+   * @param type the transaction type, or blank
+   * @param amount the transaction amount
+   */
+  public record ImportRow(long line, String date, String description, String category,
+      String type, String amount) {}
+
+  /**
+   * A rejected row.
+   *
+   * @param line the line number of the row in the source
+   * @param message why the row was rejected
+   */
+  public record RowError(long line, String message) {}
+
+  /**
+   * Import result record.
+   *
+   * @param imported number of saved transactions
+   * @param rejected number of rejected rows
+   * @param errors the first {@value TransactionImportUseCase#MAX_REPORTED_ERRORS} rejected rows
+   */
+  public record ImportResult(int imported, int rejected, List<RowError> errors) {}
+}
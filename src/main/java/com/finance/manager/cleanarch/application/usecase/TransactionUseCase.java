@@ -1,36 +1,113 @@
 package com.finance.manager.cleanarch.application.usecase;
 
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
 import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
 import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
 import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserBalanceRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Use case for managing transactions.
  * Acts as an application service in the clean architecture.
+ * Every operation is timed as {@code finance.usecase}.
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "finance.usecase", histogram = true)
 public class TransactionUseCase {
 
+  private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
   private final TransactionRepository transactionRepository;
+  private final UserBalanceRepository balanceRepository;
+  private final TransactionOperations transactionOperations;
 
   /**
    * Adds a new transaction.
    * If the transaction is an expense, the amount will be converted to negative.
    * If the transaction is an income, the amount will be converted to positive.
+   * The user's stored totals and monthly rollups are updated in the same database
+   * transaction.
    *
    * @param user the user who owns the transaction
    * @param transaction the transaction to add
    * @return the added transaction
    */
+  @Transactional
   public Transaction addTransaction(User user, Transaction transaction) {
     validateTransaction(transaction);
     transaction.setUser(user);
-    return transactionRepository.save(transaction);
+    // Rollups lock the user row, which must come before the stored totals are touched.
+    transactionRepository.addToRollups(user, List.of(transaction));
+    Transaction saved = transactionRepository.save(transaction);
+    balanceRepository.add(UserBalance.of(user.getId(), List.of(saved)));
+    return saved;
+  }
+
+  /**
+   * Adds a new transaction at most once per idempotency key.
+   * A request retried with a key that was already used gets the transaction added by the
+   * first request, usually found by primary key through the store of recent keys, and
+   * nothing is inserted. If two requests with the same key race, the unique constraint on
+   * the key lets only one of them insert, and the other returns that transaction.
+   *
+   * @param user the user who owns the transaction
+   * @param transaction the transaction to add
+   * @param idempotencyKey the client's key for this transaction, or null to always add it
+   * @return the added transaction, or the one added earlier with the same key
+   * @throws IllegalArgumentException if the key is blank or longer than 64 characters
+   */
+  public Transaction addTransaction(User user, Transaction transaction, String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return transactionOperations.execute(status -> addTransaction(user, transaction));
+    }
+    validateIdempotencyKey(idempotencyKey);
+    Optional<Transaction> original =
+        transactionRepository.findByIdempotencyKey(user, idempotencyKey);
+    if (original.isPresent()) {
+      return original.get();
+    }
+    transaction.setIdempotencyKey(idempotencyKey);
+    try {
+      return transactionOperations.execute(status -> addTransaction(user, transaction));
+    } catch (DataIntegrityViolationException e) {
+      return transactionRepository.findByIdempotencyKey(user, idempotencyKey)
+          .orElseThrow(() -> e);
+    }
+  }
+
+  /**
+   * Adds a batch of new, already validated transactions of one user.
+   * The transactions and the changes to the user's stored totals and monthly rollups are
+   * committed together.
+   *
+   * @param user the user who owns the transactions
+   * @param transactions the transactions to add
+   */
+  @Transactional
+  public void addTransactions(User user, List<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+    transactionRepository.addToRollups(user, transactions);
+    transactionRepository.saveAll(transactions);
+    balanceRepository.add(UserBalance.of(user.getId(), transactions));
   }
 
   /**
@@ -43,23 +120,126 @@ public class TransactionUseCase {
     return transactionRepository.findByUser(user);
   }
 
+  /**
+   * Exports all transactions of a user, most recent first.
+   * Transactions are handed to the consumer as they are read, so exports of any size run
+   * in constant memory.
+   *
+   * @param user the user to export transactions for
+   * @param consumer receives each transaction
+   */
+  public void exportTransactions(User user, Consumer<Transaction> consumer) {
+    transactionRepository.forEachByUser(user, consumer);
+  }
+
+  /**
+   * Gets one page of a user's transactions, ordered by date and ID descending.
+   *
+   * @param user the user to get transactions for
+   * @param after the position to continue from, or null for the most recent transactions
+   * @param pageSize the maximum number of transactions in the page
+   * @return the page of transactions with the cursor to the next page, if any
+   */
+  public TransactionPage getTransactionPage(User user, TransactionCursor after, int pageSize) {
+    return transactionRepository.findPageByUser(user, after, pageSize);
+  }
+
+  /**
+   * Gets the dashboard view for a user.
+   * Only one page of transactions is loaded; the totals always cover the whole history
+   * and are aggregated by the repository.
+   *
+   * @param user the user to get the dashboard for
+   * @param after the position to continue from, or null for the most recent transactions
+   * @param pageSize the maximum number of transactions to show
+   * @return the page of transactions ordered by date descending together with the summary
+   */
+  public DashboardView getDashboard(User user, TransactionCursor after, int pageSize) {
+    return new DashboardView(getTransactionPage(user, after, pageSize),
+        getFinancialSummary(user));
+  }
+
   /**
    * Gets financial summary for a user.
+   * The totals are read from the user's stored running totals with a single lookup;
+   * a user without stored totals has no transactions yet.
    *
    * @param user the user to get summary for
    * @return financial summary
    */
   public FinancialSummary getFinancialSummary(User user) {
-    List<Transaction> transactions = getUserTransactions(user);
-    double totalIncome = transactions.stream()
-        .filter(t -> t.getType() == Transaction.TransactionType.INCOME)
-        .mapToDouble(Transaction::getAmount)
-        .sum();
-    double totalExpenses = transactions.stream()
-        .filter(t -> t.getType() == Transaction.TransactionType.EXPENSE)
-        .mapToDouble(Transaction::getAbsoluteAmount)
-        .sum();
-    return new FinancialSummary(totalIncome, totalExpenses, totalIncome - totalExpenses);
+    UserBalance balance = balanceRepository.findByUser(user)
+        .orElseGet(() -> UserBalance.empty(user.getId(), Money.DEFAULT_CURRENCY));
+    return new FinancialSummary(balance.totalIncome(), balance.totalExpenses(),
+        balance.balance());
+  }
+
+  /**
+   * Gets the income and expense totals of a user per month, for time-series charts.
+   * Each month is read from the rollups maintained on write, so the cost depends on the
+   * number of months and categories, not on the number of transactions.
+   *
+   * @param user the user to get totals for
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals ordered by month; months without transactions are absent
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public List<MonthlyTotal> getMonthlyTotals(User user, YearMonth from, YearMonth to) {
+    validateRange(from, to);
+    return transactionRepository.findMonthlyTotals(user, from, to);
+  }
+
+  /**
+   * Gets the totals of a user per category and type over a range of months, for category
+   * breakdown charts. The totals are read from the rollups maintained on write.
+   *
+   * @param user the user to get totals for
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals, largest first
+   * @throws IllegalArgumentException if the range is empty
+   */
+  public List<CategoryTotal> getCategoryBreakdown(User user, YearMonth from, YearMonth to) {
+    validateRange(from, to);
+    return transactionRepository.findCategoryTotals(user, from, to);
+  }
+
+  /**
+   * Gets the totals of a user per category and type over all transactions, for the
+   * dashboard's category breakdown. The transactions are grouped by the database, so memory
+   * use depends on the number of categories, not on the number of transactions.
+   *
+   * @param user the user to get totals for
+   * @return the totals, largest first
+   */
+  public List<CategoryTotal> getCategoryBreakdown(User user) {
+    return transactionRepository.findCategoryTotals(user);
+  }
+
+  /**
+   * Gets the data version of a user. The version changes with every transaction written
+   * through this use case, so readers can tell whether a view they rendered earlier is still
+   * current without reading any transactions.
+   *
+   * @param user the user to get the data version for
+   * @return the data version, 0 for a user without transactions
+   */
+  public long getDataVersion(User user) {
+    return balanceRepository.findDataVersion(user);
+  }
+
+  private void validateRange(YearMonth from, YearMonth to) {
+    if (from == null || to == null || from.isAfter(to)) {
+      throw new IllegalArgumentException("Invalid month range: " + from + " to " + to);
+    }
+  }
+
+  private void validateIdempotencyKey(String idempotencyKey) {
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+      throw new IllegalArgumentException("Idempotency key must have between 1 and "
+          + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+    }
   }
 
   private void validateTransaction(Transaction transaction) {
@@ -78,5 +258,13 @@ public class TransactionUseCase {
    * @param totalExpenses total expenses
    * @param balance current balance
    */
-  public record FinancialSummary(double totalIncome, double totalExpenses, double balance) {}
+  public record FinancialSummary(Money totalIncome, Money totalExpenses, Money balance) {}
+
+  /**
+   * Dashboard view record.
+   *
+   * @param page the page of transactions ordered by date descending
+   * @param summary financial summary of all the user's transactions
+   */
+  public record DashboardView(TransactionPage page, FinancialSummary summary) {}
 }
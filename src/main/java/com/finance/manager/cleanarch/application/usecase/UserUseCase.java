@@ -2,14 +2,17 @@ package com.finance.manager.cleanarch.application.usecase;
 
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
  * Application service for managing user-related business operations.
  * This class orchestrates the domain objects and implements use case logic.
+ * Every operation is timed as {@code finance.usecase}.
  */
 @Service
+@Timed(value = "finance.usecase", histogram = true)
 public class UserUseCase {
 
   private final UserRepository userRepository;
@@ -0,0 +1,14 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+
+/**
+ * Total of one category and transaction type over a range of months, a slice of a
+ * category breakdown chart.
+ *
+ * @param category the category
+ * @param type the transaction type
+ * @param total the sum of absolute amounts
+ * @param count the number of transactions
+ */
+public record CategoryTotal(String category, TransactionType type, Money total, long count) {}
@@ -0,0 +1,188 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Immutable monetary amount stored as a count of the currency's minor units, such as cents.
+ * Arithmetic is exact and overflow is reported instead of wrapping around.
+ *
+ * @param minorUnits the amount in minor units of the currency
+ * @param currency the currency of the amount
+ */
+public record Money(long minorUnits, Currency currency) {
+
+  /**
+   * Currency used where none is given. All amounts entered in the application are in it.
+   */
+  public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+  /**
+   * Creates an amount.
+   *
+   * @throws IllegalArgumentException if the currency is null
+   */
+  public Money {
+    if (currency == null) {
+      throw new IllegalArgumentException("Currency cannot be null");
+    }
+  }
+
+  /**
+   * Creates an amount in the default currency from a count of minor units.
+   *
+   * @param minorUnits the amount in minor units
+   * @return the amount
+   */
+  public static Money ofMinor(long minorUnits) {
+    return new Money(minorUnits, DEFAULT_CURRENCY);
+  }
+
+  /**
+   * Creates an amount from a decimal value in the default currency.
+   *
+   * @param amount the amount in major units, such as dollars
+   * @return the amount
+   * @throws IllegalArgumentException if the amount is null or has more decimal places
+   *     than the currency allows
+   */
+  public static Money of(BigDecimal amount) {
+    return of(amount, DEFAULT_CURRENCY);
+  }
+
+  /**
+   * Creates an amount from a decimal value.
+   *
+   * @param amount the amount in major units, such as dollars
+   * @param currency the currency of the amount
+   * @return the amount
+   * @throws IllegalArgumentException if the amount is null or has more decimal places
+   *     than the currency allows
+   */
+  public static Money of(BigDecimal amount, Currency currency) {
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+    if (currency == null) {
+      throw new IllegalArgumentException("Currency cannot be null");
+    }
+    try {
+      return new Money(amount.movePointRight(currency.getDefaultFractionDigits())
+          .longValueExact(), currency);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Amount " + amount.toPlainString()
+          + " cannot be represented in " + currency.getCurrencyCode());
+    }
+  }
+
+  /**
+   * Parses a decimal amount in the default currency, such as {@code "-12.50"}.
+   *
+   * @param amount the amount in major units
+   * @return the amount
+   * @throws IllegalArgumentException if the text is not a valid amount
+   */
+  public static Money parse(String amount) {
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+    try {
+      return of(new BigDecimal(amount.trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid amount: " + amount);
+    }
+  }
+
+  /**
+   * Gets a zero amount.
+   *
+   * @param currency the currency of the amount
+   * @return the zero amount
+   */
+  public static Money zero(Currency currency) {
+    return new Money(0, currency);
+  }
+
+  /**
+   * Adds another amount in the same currency.
+   *
+   * @param other the amount to add
+   * @return the sum
+   * @throws IllegalArgumentException if the currencies differ
+   * @throws ArithmeticException if the sum overflows
+   */
+  public Money plus(Money other) {
+    requireSameCurrency(other);
+    return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+  }
+
+  /**
+   * Subtracts another amount in the same currency.
+   *
+   * @param other the amount to subtract
+   * @return the difference
+   * @throws IllegalArgumentException if the currencies differ
+   * @throws ArithmeticException if the difference overflows
+   */
+  public Money minus(Money other) {
+    requireSameCurrency(other);
+    return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+  }
+
+  /**
+   * Gets the amount with its sign inverted.
+   *
+   * @return the negated amount
+   */
+  public Money negate() {
+    return new Money(Math.negateExact(minorUnits), currency);
+  }
+
+  /**
+   * Gets the absolute value of the amount.
+   *
+   * @return the absolute amount
+   */
+  public Money abs() {
+    return minorUnits < 0 ? negate() : this;
+  }
+
+  /**
+   * Checks whether the amount is zero.
+   *
+   * @return true if the amount is zero
+   */
+  public boolean isZero() {
+    return minorUnits == 0;
+  }
+
+  /**
+   * Checks whether the amount is below zero.
+   *
+   * @return true if the amount is negative
+   */
+  public boolean isNegative() {
+    return minorUnits < 0;
+  }
+
+  /**
+   * Converts the amount to a decimal in major units, with the currency's number of decimals.
+   *
+   * @return the decimal amount
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+  }
+
+  private void requireSameCurrency(Money other) {
+    if (!currency.equals(other.currency)) {
+      throw new IllegalArgumentException("Cannot combine " + currency.getCurrencyCode()
+          + " and " + other.currency.getCurrencyCode() + " amounts");
+    }
+  }
+}
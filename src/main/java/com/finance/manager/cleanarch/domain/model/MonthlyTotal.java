@@ -0,0 +1,15 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+
+import java.time.YearMonth;
+
+/**
+ * Total of one transaction type in one month, a point of a time-series chart.
+ *
+ * @param month the month
+ * @param type the transaction type
+ * @param total the sum of absolute amounts
+ * @param count the number of transactions
+ */
+public record MonthlyTotal(YearMonth month, TransactionType type, Money total, long count) {}
@@ -16,7 +16,7 @@ public final class Transaction {
 
   @Setter
   private Long id;
-  private double amount;
+  private Money amount;
   private String description;
   private String category;
   private TransactionType type;
@@ -24,18 +24,23 @@ public final class Transaction {
   private LocalDateTime date;
   @Setter
   private User user;
+  /**
+   * Key the client sent with the request that added this transaction, or null.
+   */
+  @Setter
+  private String idempotencyKey;
 
   /**
    * Creates a new transaction with the specified details.
    *
-   * @param amount the transaction amount (must be non-zero)
+   * @param amount the transaction amount (must be non-zero); the sign is set by the type
    * @param description the transaction description
    * @param category the transaction category
    * @param type the transaction type (INCOME or EXPENSE)
    * @param user the user who owns this transaction
-   * @throws IllegalArgumentException if description/category is invalid
+   * @throws IllegalArgumentException if amount/description/category is invalid
    */
-  public Transaction(double amount, 
+  public Transaction(final Money amount,
                      final String description, 
                      final String category, 
                      final TransactionType type,
@@ -50,7 +55,7 @@ public final class Transaction {
       throw new IllegalArgumentException("User cannot be null");
     }
 
-    this.amount = type == TransactionType.EXPENSE ? -Math.abs(amount) : Math.abs(amount);
+    this.amount = signedAmount(amount, type);
     this.description = description;
     this.category = category;
     this.type = type;
@@ -58,17 +63,64 @@ public final class Transaction {
     this.date = LocalDateTime.now();
   }
 
+  private Transaction(Long id,
+                      Money amount,
+                      String description,
+                      String category,
+                      TransactionType type,
+                      LocalDateTime date,
+                      User user) {
+    this.id = id;
+    this.amount = signedAmount(amount, type);
+    this.description = description;
+    this.category = category;
+    this.type = type;
+    this.date = date;
+    this.user = user;
+  }
+
+  /**
+   * Restores a transaction that was validated when it was first stored.
+   * Input validation is skipped, so this must only be used by persistence adapters.
+   * The amount sign is still normalized by type, as stored rows may use either sign.
+   *
+   * @param id the transaction ID
+   * @param amount the transaction amount
+   * @param description the transaction description
+   * @param category the transaction category
+   * @param type the transaction type
+   * @param date the transaction date
+   * @param user the user who owns this transaction
+   * @return the restored transaction
+   */
+  public static Transaction rehydrate(Long id,
+                                      Money amount,
+                                      String description,
+                                      String category,
+                                      TransactionType type,
+                                      LocalDateTime date,
+                                      User user) {
+    return new Transaction(id, amount, description, category, type, date, user);
+  }
+
   /**
    * Gets the absolute value of the transaction amount.
    *
    * @return the absolute transaction amount
    */
-  public double getAbsoluteAmount() {
-    return Math.abs(amount);
+  public Money getAbsoluteAmount() {
+    return amount.abs();
   }
 
-  private void validateAmount(double amount) {
-    if (amount == 0) {
+  private static Money signedAmount(Money amount, TransactionType type) {
+    return type == TransactionType.EXPENSE ? amount.abs().negate() : amount.abs();
+  }
+
+  private void validateAmount(Money amount) {
+    if (amount == null) {
+      throw new IllegalArgumentException("Transaction amount cannot be null");
+    }
+    if (amount.isZero()) {
       throw new IllegalArgumentException("Transaction amount cannot be zero");
     }
   }
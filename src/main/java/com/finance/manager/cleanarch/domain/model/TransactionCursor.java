@@ -0,0 +1,62 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a user's transaction list ordered by date and ID descending.
+ * The next page starts strictly after this position, so reading a deep page costs the same
+ * as reading the first one.
+ *
+ * @param date the date of the last transaction on the previous page
+ * @param id the ID of the last transaction on the previous page
+ */
+public record TransactionCursor(LocalDateTime date, Long id) {
+
+  private static final char SEPARATOR = '|';
+
+  /**
+   * Creates a cursor positioned on the given transaction.
+   *
+   * @param transaction the last transaction of a page
+   * @return the cursor pointing after that transaction
+   */
+  public static TransactionCursor after(Transaction transaction) {
+    return new TransactionCursor(transaction.getDate(), transaction.getId());
+  }
+
+  /**
+   * Decodes a cursor from its opaque token form.
+   *
+   * @param token the token produced by {@link #toToken()}
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static TransactionCursor fromToken(String token) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = value.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new TransactionCursor(
+          LocalDateTime.parse(value.substring(0, separator)),
+          Long.valueOf(value.substring(separator + 1)));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque, URL-safe token.
+   *
+   * @return the token
+   */
+  public String toToken() {
+    String value = date.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,21 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a user's transactions ordered by date and ID descending.
+ *
+ * @param transactions the transactions of this page
+ * @param nextCursor the position to continue from, or null if this is the last page
+ */
+public record TransactionPage(List<Transaction> transactions, TransactionCursor nextCursor) {
+
+  /**
+   * Checks whether more transactions follow this page.
+   *
+   * @return true if a next page exists, false otherwise
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -4,6 +4,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.regex.Pattern;
+
 /**
  * Domain model representing a user.
  * This class is final and not designed for extension.
@@ -19,6 +21,8 @@ public final class User {
       "^[A-Za-z0-9][A-Za-z0-9+_.-]*[A-Za-z0-9]@"         // Local part with valid start/end
       + "[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9])?"      // Domain first part
       + "(?:\\.[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9])?)+$";  // Domain parts
+  private static final Pattern PASSWORD_REGEX = Pattern.compile(PASSWORD_PATTERN);
+  private static final Pattern EMAIL_REGEX = Pattern.compile(EMAIL_PATTERN);
 
   @Setter
   private Long id;
@@ -44,6 +48,28 @@ public final class User {
     this.name = name;
   }
 
+  private User(Long id, String email, String password, String name) {
+    this.id = id;
+    this.email = email;
+    this.password = password;
+    this.name = name;
+  }
+
+  /**
+   * Restores a user that was validated when it was first stored.
+   * Input validation is skipped, so this must only be used by persistence adapters;
+   * the stored password is a hash that the raw password rules do not apply to.
+   *
+   * @param id the user's ID
+   * @param email the user's email
+   * @param password the user's encoded password
+   * @param name the user's name
+   * @return the restored user
+   */
+  public static User rehydrate(Long id, String email, String password, String name) {
+    return new User(id, email, password, name);
+  }
+
   /**
    * Validates if the email address is in a valid format.
    *
@@ -116,7 +142,7 @@ public final class User {
     if (email == null || email.trim().isEmpty()) {
       throw new IllegalArgumentException("Email cannot be empty");
     }
-    if (!email.matches(EMAIL_PATTERN)) {
+    if (!EMAIL_REGEX.matcher(email).matches()) {
       throw new IllegalArgumentException("Invalid email format");
     }
   }
@@ -128,7 +154,7 @@ public final class User {
     if (password.length() < MIN_PASSWORD_LENGTH) {
       throw new IllegalArgumentException("Password must be at least 8 characters long");
     }
-    if (!password.matches(PASSWORD_PATTERN)) {
+    if (!PASSWORD_REGEX.matcher(password).matches()) {
       throw new IllegalArgumentException("Password must meet complexity requirements: "
           + "digit, lowercase, uppercase, special char, no spaces");
     }
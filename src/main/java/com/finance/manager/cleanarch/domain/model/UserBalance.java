@@ -0,0 +1,123 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running totals of a user's transactions.
+ * The totals are kept up to date as transactions are written, so they can be read without
+ * aggregating the user's history. A balance also describes the change that a set of new
+ * transactions makes to the stored totals.
+ *
+ * @param userId the ID of the user the totals belong to
+ * @param totalIncome the sum of all income
+ * @param totalExpenses the sum of all expenses, as a positive amount
+ */
+public record UserBalance(Long userId, Money totalIncome, Money totalExpenses) {
+
+  /**
+   * Creates a balance.
+   *
+   * @throws IllegalArgumentException if a total is null or the totals are in different
+   *     currencies
+   */
+  public UserBalance {
+    if (totalIncome == null || totalExpenses == null) {
+      throw new IllegalArgumentException("Balance totals cannot be null");
+    }
+    if (!totalIncome.currency().equals(totalExpenses.currency())) {
+      throw new IllegalArgumentException("Balance totals must be in the same currency");
+    }
+  }
+
+  /**
+   * Creates a balance with no income and no expenses.
+   *
+   * @param userId the ID of the user
+   * @param currency the currency of the totals
+   * @return the empty balance
+   */
+  public static UserBalance empty(Long userId, Currency currency) {
+    return new UserBalance(userId, Money.zero(currency), Money.zero(currency));
+  }
+
+  /**
+   * Creates the balance of a set of transactions, which is the change they make to the
+   * stored totals when they are added.
+   *
+   * @param userId the ID of the user who owns the transactions
+   * @param transactions the transactions to total
+   * @return the totals of the transactions
+   * @throws IllegalArgumentException if the transactions are in different currencies
+   */
+  public static UserBalance of(Long userId, List<Transaction> transactions) {
+    UserBalance balance = empty(userId, transactions.isEmpty()
+        ? Money.DEFAULT_CURRENCY
+        : transactions.get(0).getAmount().currency());
+    for (Transaction transaction : transactions) {
+      balance = balance.plus(transaction);
+    }
+    return balance;
+  }
+
+  /**
+   * Creates a balance from totals per transaction type, as aggregated from the ledger.
+   *
+   * @param userId the ID of the user
+   * @param totals the sum of absolute amounts per type; missing types count as zero
+   * @return the balance
+   * @throws IllegalArgumentException if the totals are in different currencies
+   */
+  public static UserBalance of(Long userId, Map<TransactionType, Money> totals) {
+    Money zero = Money.zero(totals.values().stream()
+        .findFirst()
+        .map(Money::currency)
+        .orElse(Money.DEFAULT_CURRENCY));
+    return new UserBalance(userId, totals.getOrDefault(TransactionType.INCOME, zero),
+        totals.getOrDefault(TransactionType.EXPENSE, zero));
+  }
+
+  /**
+   * Adds a transaction to the totals.
+   *
+   * @param transaction the transaction to add
+   * @return the new totals
+   * @throws IllegalArgumentException if the transaction is in another currency
+   */
+  public UserBalance plus(Transaction transaction) {
+    Money amount = transaction.getAbsoluteAmount();
+    return transaction.getType() == TransactionType.INCOME
+        ? new UserBalance(userId, totalIncome.plus(amount), totalExpenses)
+        : new UserBalance(userId, totalIncome, totalExpenses.plus(amount));
+  }
+
+  /**
+   * Gets the currency of the totals.
+   *
+   * @return the currency
+   */
+  public Currency currency() {
+    return totalIncome.currency();
+  }
+
+  /**
+   * Gets the balance, which is income minus expenses.
+   *
+   * @return the balance
+   */
+  public Money balance() {
+    return totalIncome.minus(totalExpenses);
+  }
+
+  /**
+   * Checks whether both totals are zero.
+   *
+   * @return true if there is neither income nor expense
+   */
+  public boolean isEmpty() {
+    return totalIncome.isZero() && totalExpenses.isZero();
+  }
+}
@@ -1,10 +1,19 @@
 package com.finance.manager.cleanarch.domain.repository;
 
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
 import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
 import com.finance.manager.cleanarch.domain.model.User;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for managing Transaction entities in the domain layer.
@@ -28,6 +37,23 @@ public interface TransactionRepository {
    */
   Transaction save(Transaction transaction);
 
+  /**
+   * Finds the transaction a user added with an idempotency key.
+   *
+   * @param user the user who sent the key
+   * @param idempotencyKey the key sent with the transaction
+   * @return an Optional containing the transaction if the key was used
+   */
+  Optional<Transaction> findByIdempotencyKey(User user, String idempotencyKey);
+
+  /**
+   * Saves a batch of new transactions in one unit of work.
+   * Saved transactions are not returned, so callers can stream large imports in chunks.
+   *
+   * @param transactions the transactions to save
+   */
+  void saveAll(List<Transaction> transactions);
+
   /**
    * Finds all transactions belonging to a specific user, ordered by date descending.
    *
@@ -36,6 +62,17 @@ public interface TransactionRepository {
    */
   List<Transaction> findByUserOrderByDateDesc(User user);
 
+  /**
+   * Finds one page of a user's transactions, ordered by date and ID descending.
+   * Pages are addressed by keyset position rather than offset.
+   *
+   * @param user the user whose transactions to find
+   * @param after the position to continue from, or null for the first page
+   * @param size the maximum number of transactions in the page
+   * @return the page of transactions with the cursor to the next page, if any
+   */
+  TransactionPage findPageByUser(User user, TransactionCursor after, int size);
+
   /**
    * Finds all transactions for a specific user.
    *
@@ -43,4 +80,70 @@ public interface TransactionRepository {
    * @return list of all transactions for the user
    */
   List<Transaction> findByUser(User user);
+
+  /**
+   * Passes every transaction of a user to an action, most recent first.
+   * Transactions are read incrementally, so the whole history is never held in memory.
+   *
+   * @param user the user whose transactions to read
+   * @param action the action to apply to each transaction
+   */
+  void forEachByUser(User user, Consumer<Transaction> action);
+
+  /**
+   * Sums the absolute transaction amounts of a user, grouped by transaction type.
+   * Types without transactions are absent from the result.
+   *
+   * @param user the user whose transactions to sum
+   * @return map of transaction type to the sum of absolute amounts
+   */
+  Map<TransactionType, Money> sumAmountByType(User user);
+
+  /**
+   * Adds new transactions of a user to the user's monthly totals per category and type.
+   * Must be called in the same unit of work that saves the transactions.
+   *
+   * @param user the user who owns the transactions
+   * @param transactions the new transactions
+   */
+  void addToRollups(User user, List<Transaction> transactions);
+
+  /**
+   * Finds the totals of a user per month and transaction type, read from the rollups.
+   * Months without transactions are absent from the result.
+   *
+   * @param user the user whose totals to find
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals ordered by month
+   */
+  List<MonthlyTotal> findMonthlyTotals(User user, YearMonth from, YearMonth to);
+
+  /**
+   * Finds the totals of a user per category and transaction type over a range of months,
+   * read from the rollups.
+   *
+   * @param user the user whose totals to find
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals, largest first
+   */
+  List<CategoryTotal> findCategoryTotals(User user, YearMonth from, YearMonth to);
+
+  /**
+   * Finds the totals of a user per category and transaction type over all transactions,
+   * aggregated by the database.
+   *
+   * @param user the user whose totals to find
+   * @return the totals, largest first
+   */
+  List<CategoryTotal> findCategoryTotals(User user);
+
+  /**
+   * Recomputes the rollups of a user from the stored transactions.
+   *
+   * @param user the user whose rollups to rebuild
+   * @return the number of rollup buckets written
+   */
+  int rebuildRollups(User user);
 }
@@ -0,0 +1,56 @@
+package com.finance.manager.cleanarch.domain.repository;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the stored running totals of users.
+ * Next to the totals, a data version is kept for each user. Every addition and replacement
+ * advances it, so it changes whenever the user's transactions do.
+ * This interface follows the Clean Architecture principle of depending on abstractions.
+ */
+public interface UserBalanceRepository {
+
+  /**
+   * Finds the stored totals of a user.
+   *
+   * @param user the user whose totals to find
+   * @return an Optional containing the totals, or empty if none were stored yet
+   */
+  Optional<UserBalance> findByUser(User user);
+
+  /**
+   * Finds the data version of a user without reading the totals.
+   *
+   * @param user the user whose data version to find
+   * @return the data version, or 0 if no totals were stored yet
+   */
+  long findDataVersion(User user);
+
+  /**
+   * Finds the stored totals of a user and locks them against concurrent writes until the
+   * current transaction ends. The lock is taken even when no totals are stored yet.
+   *
+   * @param user the user whose totals to lock
+   * @return an Optional containing the totals, or empty if none were stored yet
+   */
+  Optional<UserBalance> lockByUser(User user);
+
+  /**
+   * Atomically adds amounts to the stored totals of a user, creating them if needed.
+   * Concurrent additions for the same user are never lost. Amounts in another currency
+   * than the stored totals are rejected.
+   *
+   * @param delta the user and the amounts to add
+   */
+  void add(UserBalance delta);
+
+  /**
+   * Overwrites the stored totals of a user, creating them if needed.
+   *
+   * @param balance the new totals
+   */
+  void replace(UserBalance balance);
+}
@@ -2,6 +2,7 @@ package com.finance.manager.cleanarch.domain.repository;
 
 import com.finance.manager.cleanarch.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -41,4 +42,11 @@ public interface UserRepository {
    * @return true if a user with the email exists, false otherwise
    */
   boolean existsByEmail(String email);
+
+  /**
+   * Finds the IDs of all users, in ascending order.
+   *
+   * @return the user IDs
+   */
+  List<Long> findAllIds();
 }
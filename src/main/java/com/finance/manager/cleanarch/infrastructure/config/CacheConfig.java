@@ -0,0 +1,52 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.IdempotencyKeyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Enables caching of user lookups.
+ * The caches themselves are Caffeine caches configured through the {@code spring.cache}
+ * properties, which bound their size and expire entries after a fixed time.
+ * Idempotency keys are kept in a Caffeine cache of their own, with a longer lifetime.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * Domain users by email address.
+   */
+  public static final String USERS_BY_EMAIL = "usersByEmail";
+
+  /**
+   * Domain users by ID.
+   */
+  public static final String USERS_BY_ID = "usersById";
+
+  /**
+   * Spring Security user details by username, which is the email address.
+   */
+  public static final String USER_DETAILS = "userDetails";
+
+  /**
+   * Creates the store of recently used idempotency keys.
+   *
+   * @param timeToLive how long a key is kept after its transaction was added
+   * @param maximumSize the most keys kept
+   * @param registry where the cache metrics are published
+   * @return the store
+   */
+  @Bean
+  public IdempotencyKeyStore idempotencyKeyStore(
+      @Value("${finance.transactions.idempotency-keys.time-to-live:24h}") Duration timeToLive,
+      @Value("${finance.transactions.idempotency-keys.maximum-size:100000}") long maximumSize,
+      MeterRegistry registry) {
+    return new IdempotencyKeyStore(timeToLive, maximumSize, registry);
+  }
+}
@@ -0,0 +1,89 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportResult;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.RowError;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionRollupEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserBalanceEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.interfaces.dto.CategoryTotalDto;
+import com.finance.manager.cleanarch.interfaces.dto.FinancialSummaryDto;
+import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
+import com.finance.manager.cleanarch.interfaces.dto.UserDto;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Reachability metadata for the native image ({@code mvn -Pnative native:compile}) that Spring
+ * AOT cannot infer from the bean definitions:
+ * <ul>
+ *   <li>the entities, whose fields Hibernate reads and writes and whose Lombok accessors the
+ *   mappers call;</li>
+ *   <li>the DTOs, records and enum that Thymeleaf expressions read and that form binding fills
+ *   in through their Lombok setters;</li>
+ *   <li>the templates, static assets and Flyway migrations, which are loaded from the class
+ *   path by name;</li>
+ *   <li>the JDK proxies datasource-proxy wraps around connections and statements.</li>
+ * </ul>
+ * Projection interfaces returned by the Spring Data repositories are registered by Spring Data
+ * itself, and the libraries are covered by the GraalVM reachability metadata repository.
+ */
+public class FinanceRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final Class<?>[] ENTITIES = {
+      TransactionEntity.class,
+      UserEntity.class,
+      UserBalanceEntity.class,
+      TransactionRollupEntity.class,
+      TransactionRollupEntity.Key.class
+  };
+
+  private static final Class<?>[] VIEW_MODELS = {
+      TransactionDto.class,
+      UserDto.class,
+      FinancialSummaryDto.class,
+      CategoryTotalDto.class,
+      ImportResult.class,
+      RowError.class
+  };
+
+  private static final Class<?>[] JDBC_TYPES = {
+      Connection.class,
+      Statement.class,
+      PreparedStatement.class,
+      CallableStatement.class,
+      ResultSet.class
+  };
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (Class<?> entity : ENTITIES) {
+      hints.reflection().registerType(entity,
+          MemberCategory.DECLARED_FIELDS,
+          MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+        VIEW_MODELS);
+    hints.reflection().registerType(TransactionType.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+    hints.resources()
+        .registerPattern("templates/**")
+        .registerPattern("static/**")
+        .registerPattern("db/migration/*.sql");
+
+    for (Class<?> jdbcType : JDBC_TYPES) {
+      hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+    }
+  }
+}
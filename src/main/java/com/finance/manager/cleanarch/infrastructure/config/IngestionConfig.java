@@ -0,0 +1,50 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.infrastructure.ingestion.TransactionIngestionQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Creates the write-behind queue behind {@code POST /api/transactions/ingest}.
+ * The queue is closed, and drained, when the context shuts down. Spring destroys it before
+ * the use case and the transaction manager it writes through, and after the web server has
+ * stopped taking requests.
+ */
+@Configuration
+public class IngestionConfig {
+
+  /**
+   * Creates the queue and starts its writer.
+   *
+   * @param transactionUseCase writes each batch
+   * @param transactionManager commits each batch
+   * @param capacity the most transactions waiting to be written
+   * @param batchSize the most transactions written in one commit
+   * @param offerTimeout the longest a request waits for room in a full queue
+   * @param commitTimeout the longest a request waits for its commit when it asks to
+   * @param shutdownTimeout the longest shutdown waits for the queue to drain
+   * @param registry where the queue metrics are published
+   * @return the queue
+   */
+  @Bean
+  public TransactionIngestionQueue transactionIngestionQueue(
+      TransactionUseCase transactionUseCase,
+      PlatformTransactionManager transactionManager,
+      @Value("${finance.ingestion.queue-capacity:10000}") int capacity,
+      @Value("${finance.ingestion.batch-size:500}") int batchSize,
+      @Value("${finance.ingestion.offer-timeout:100ms}") Duration offerTimeout,
+      @Value("${finance.ingestion.commit-timeout:10s}") Duration commitTimeout,
+      @Value("${finance.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+      MeterRegistry registry) {
+    return new TransactionIngestionQueue(transactionUseCase,
+        new TransactionTemplate(transactionManager), capacity, batchSize, offerTimeout,
+        commitTimeout, shutdownTimeout, registry);
+  }
+}
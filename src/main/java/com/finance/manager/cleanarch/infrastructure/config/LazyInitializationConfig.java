@@ -0,0 +1,31 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Keeps the persistence unit eager when {@code spring.main.lazy-initialization} is set, as it
+ * is in the {@code startup} profile. The data source and the entity manager factory, and with
+ * them the Flyway migration, are built before the application takes traffic, so a broken
+ * migration or mapping fails the start rather than the first request. Spring Boot already
+ * keeps beans with {@code @Scheduled} methods eager. Everything else, such as the controllers,
+ * Thymeleaf and the password hashing pool, is created on first use.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+  /**
+   * Excludes the persistence unit from lazy initialization.
+   *
+   * @return the filter
+   */
+  @Bean
+  public static LazyInitializationExcludeFilter eagerPersistenceUnit() {
+    return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class,
+        EntityManagerFactory.class);
+  }
+}
@@ -0,0 +1,89 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Routes every JDBC statement through a {@link QueryMonitor}, which times it and reports slow
+ * statements and possible N+1 queries. The data source is wrapped in a datasource-proxy
+ * {@link ProxyDataSource}; the pool underneath, and its metrics, are left unchanged.
+ */
+@Configuration
+public class QueryMonitoringConfig {
+
+  /**
+   * Creates the monitor of the JDBC statements.
+   *
+   * @param registry where the metrics are published
+   * @param slowThreshold the execution time above which a statement is reported as slow
+   * @param repeatThreshold the number of executions of one statement in a request above which
+   *     it is reported as a possible N+1 query
+   * @return the monitor
+   */
+  @Bean
+  public QueryMonitor queryMonitor(MeterRegistry registry,
+      @Value("${finance.jdbc.slow-query-threshold:200ms}") Duration slowThreshold,
+      @Value("${finance.jdbc.repeated-statement-threshold:10}") int repeatThreshold) {
+    return new QueryMonitor(registry, slowThreshold, repeatThreshold);
+  }
+
+  /**
+   * Wraps the data source in a proxy that notifies the monitor of each statement. The monitor
+   * is looked up on the first statement, so that wrapping the data source does not force the
+   * meter registry to be created early.
+   *
+   * @param monitor the monitor of the JDBC statements
+   * @return the post-processor that wraps data sources
+   */
+  @Bean
+  public static BeanPostProcessor queryMonitoringDataSourcePostProcessor(
+      ObjectProvider<QueryMonitor> monitor) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(@NonNull Object bean,
+          @NonNull String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+          return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+            .name(beanName)
+            .listener(new LazyListener(monitor))
+            .build();
+      }
+    };
+  }
+
+  private static final class LazyListener implements QueryExecutionListener {
+
+    private final ObjectProvider<QueryMonitor> monitor;
+
+    private LazyListener(ObjectProvider<QueryMonitor> monitor) {
+      this.monitor = monitor;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      monitor.getObject().beforeQuery(execInfo, queryInfoList);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      monitor.getObject().afterQuery(execInfo, queryInfoList);
+    }
+  }
+}
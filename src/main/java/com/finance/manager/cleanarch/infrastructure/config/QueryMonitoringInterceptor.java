@@ -0,0 +1,53 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryMonitor;
+import com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Collects the SQL statements of each request handled by a controller.
+ * The statistics are stored as the request attribute {@link QueryStats#ATTRIBUTE} and reported
+ * by the {@link QueryMonitor} when the request completes, tagged by URI pattern. For
+ * asynchronous requests only the statements run on the request thread are counted, up to the
+ * point where asynchronous processing starts.
+ */
+public class QueryMonitoringInterceptor implements AsyncHandlerInterceptor {
+
+  private final QueryMonitor monitor;
+
+  public QueryMonitoringInterceptor(QueryMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  @Override
+  public boolean preHandle(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull Object handler) {
+    if (request.getAttribute(QueryStats.ATTRIBUTE) == null) {
+      request.setAttribute(QueryStats.ATTRIBUTE, monitor.start());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull Object handler) {
+    finish(request);
+  }
+
+  @Override
+  public void afterCompletion(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
+    finish(request);
+  }
+
+  private void finish(HttpServletRequest request) {
+    if (request.getAttribute(QueryStats.ATTRIBUTE) instanceof QueryStats stats) {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      monitor.finish(stats, pattern != null ? pattern.toString() : "UNKNOWN");
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs, such as the reconciliation of stored user totals.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
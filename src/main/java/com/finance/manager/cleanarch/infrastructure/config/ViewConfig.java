@@ -0,0 +1,44 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import com.finance.manager.cleanarch.infrastructure.view.FragmentCacheDialect;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@code fin:cache} dialect with the Thymeleaf engine.
+ * The fragment cache is off unless {@code finance.view.fragment-cache.enabled} is set, as it is
+ * in the {@code prod} profile. Its hit and miss counts are published as the {@code cache.*}
+ * metrics tagged {@code cache=viewFragments}.
+ */
+@Configuration
+public class ViewConfig {
+
+  /**
+   * Creates the dialect and, when enabled, its bounded cache of rendered fragments.
+   *
+   * @param enabled whether rendered fragments are cached
+   * @param maximumSize the most fragments kept, counting each key separately
+   * @param registry where the cache metrics are published
+   * @return the dialect
+   */
+  @Bean
+  public FragmentCacheDialect fragmentCacheDialect(
+      @Value("${finance.view.fragment-cache.enabled:false}") boolean enabled,
+      @Value("${finance.view.fragment-cache.maximum-size:1000}") long maximumSize,
+      MeterRegistry registry) {
+    if (!enabled) {
+      return new FragmentCacheDialect(null);
+    }
+    Cache<String, String> cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, cache, "viewFragments");
+    return new FragmentCacheDialect(cache);
+  }
+}
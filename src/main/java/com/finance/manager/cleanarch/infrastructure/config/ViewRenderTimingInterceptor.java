@@ -0,0 +1,58 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the rendering of Thymeleaf views, which happens after the controller has returned.
+ * The time between the end of the handler and the completion of the request is published as
+ * {@code finance.view.render}, tagged by view name. Redirects and responses without a view
+ * are not recorded.
+ */
+public class ViewRenderTimingInterceptor implements HandlerInterceptor {
+
+  private static final String VIEW_ATTRIBUTE =
+      ViewRenderTimingInterceptor.class.getName() + ".view";
+  private static final String START_ATTRIBUTE =
+      ViewRenderTimingInterceptor.class.getName() + ".start";
+
+  private final MeterRegistry registry;
+
+  public ViewRenderTimingInterceptor(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void postHandle(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull Object handler,
+      ModelAndView modelAndView) {
+    if (modelAndView == null || modelAndView.getViewName() == null
+        || modelAndView.getViewName().startsWith("redirect:")) {
+      return;
+    }
+    request.setAttribute(VIEW_ATTRIBUTE, modelAndView.getViewName());
+    request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+  }
+
+  @Override
+  public void afterCompletion(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
+    if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+      return;
+    }
+    Timer.builder("finance.view.render")
+        .description("Time spent rendering a view")
+        .tag("view", (String) request.getAttribute(VIEW_ATTRIBUTE))
+        .tag("outcome", ex == null ? "success" : "error")
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
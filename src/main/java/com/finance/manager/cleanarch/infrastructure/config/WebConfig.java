@@ -1,19 +1,37 @@
 package com.finance.manager.cleanarch.infrastructure.config;
 
+import com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Configuration for serving static resources.
+ * Configuration for serving static resources, timing view rendering and counting the SQL
+ * statements of each request.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+  private final MeterRegistry meterRegistry;
+  private final QueryMonitor queryMonitor;
+
+  public WebConfig(MeterRegistry meterRegistry, QueryMonitor queryMonitor) {
+    this.meterRegistry = meterRegistry;
+    this.queryMonitor = queryMonitor;
+  }
+
   @Override
   public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
     registry.addResourceHandler("/static/**")
         .addResourceLocations("classpath:/static/");
   }
+
+  @Override
+  public void addInterceptors(@NonNull InterceptorRegistry registry) {
+    registry.addInterceptor(new ViewRenderTimingInterceptor(meterRegistry));
+    registry.addInterceptor(new QueryMonitoringInterceptor(queryMonitor));
+  }
 }
@@ -0,0 +1,18 @@
+package com.finance.manager.cleanarch.infrastructure.ingestion;
+
+/**
+ * Thrown when a transaction cannot be queued for writing because the queue stayed full for
+ * longer than the caller may wait, or because the application is shutting down. Nothing was
+ * queued, so the request should be retried later.
+ */
+public class IngestionRejectedException extends RuntimeException {
+
+  /**
+   * Creates the exception.
+   *
+   * @param message the detail message
+   */
+  public IngestionRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,281 @@
+package com.finance.manager.cleanarch.infrastructure.ingestion;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Write-behind queue for new transactions. Callers validate a transaction on their own thread
+ * and hand it to a bounded in-memory queue; a single background writer takes whatever has
+ * accumulated, up to a batch size, and commits it in one database transaction through
+ * {@link TransactionUseCase#addTransactions}. Under a burst many transactions share one
+ * commit instead of paying for one each, and the writer never holds more than one batch.
+ *
+ * <p>When the queue is full, a caller waits up to the offer timeout for room and then gets an
+ * {@link IngestionRejectedException}, so bursts slow clients down rather than grow the heap.
+ * Callers choose per transaction when they are answered, see {@link AckMode}. If a batch fails,
+ * each user's transactions in it are retried in a commit of their own, so one user's failure
+ * does not fail the others.
+ *
+ * <p>Closing the queue stops accepting transactions and lets the writer drain and commit what
+ * was already accepted, for up to the shutdown timeout. Transactions still queued after that
+ * are failed, not silently dropped.
+ *
+ * <p>The queue depth is published as {@code finance.ingestion.queue}, the transactions per
+ * commit as {@code finance.ingestion.batch}, the commit time as {@code finance.ingestion.flush},
+ * and the rejected and failed transactions as {@code finance.ingestion.rejected} and
+ * {@code finance.ingestion.failed}.
+ */
+public class TransactionIngestionQueue implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionIngestionQueue.class);
+  private static final long POLL_MILLIS = 100;
+
+  /**
+   * When a caller is answered.
+   */
+  public enum AckMode {
+    /**
+     * Once the transaction is queued. Fastest, but a transaction accepted this way is lost if
+     * the process dies before the writer commits it.
+     */
+    ACCEPTED,
+    /**
+     * Once the commit that includes the transaction has completed, or the commit timeout has
+     * passed. The caller still benefits from commits shared with concurrent callers.
+     */
+    COMMITTED
+  }
+
+  private final BlockingQueue<Pending> queue;
+  private final TransactionUseCase transactionUseCase;
+  private final TransactionOperations transactionOperations;
+  private final int batchSize;
+  private final long offerTimeoutNanos;
+  private final long commitTimeoutNanos;
+  private final Duration shutdownTimeout;
+  private final Thread writer;
+  private final DistributionSummary batchSizes;
+  private final Timer flushTimer;
+  private final Counter rejected;
+  private final Counter failed;
+  private volatile boolean accepting = true;
+
+  /**
+   * Creates the queue and starts its writer.
+   *
+   * @param transactionUseCase writes each batch
+   * @param transactionOperations runs each batch in one database transaction
+   * @param capacity the most transactions waiting to be written
+   * @param batchSize the most transactions written in one commit
+   * @param offerTimeout the longest a caller waits for room in a full queue
+   * @param commitTimeout the longest a {@link AckMode#COMMITTED} caller waits for the commit
+   * @param shutdownTimeout the longest closing waits for the queue to drain
+   * @param registry where the metrics are published
+   */
+  public TransactionIngestionQueue(TransactionUseCase transactionUseCase,
+      TransactionOperations transactionOperations, int capacity, int batchSize,
+      Duration offerTimeout, Duration commitTimeout, Duration shutdownTimeout,
+      MeterRegistry registry) {
+    if (capacity < 1 || batchSize < 1 || offerTimeout.isNegative()
+        || commitTimeout.isNegative() || shutdownTimeout.isNegative()) {
+      throw new IllegalArgumentException("Invalid ingestion queue settings");
+    }
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.transactionUseCase = transactionUseCase;
+    this.transactionOperations = transactionOperations;
+    this.batchSize = batchSize;
+    this.offerTimeoutNanos = offerTimeout.toNanos();
+    this.commitTimeoutNanos = commitTimeout.toNanos();
+    this.shutdownTimeout = shutdownTimeout;
+    Gauge.builder("finance.ingestion.queue", queue, BlockingQueue::size)
+        .description("Transactions waiting to be written")
+        .register(registry);
+    this.batchSizes = DistributionSummary.builder("finance.ingestion.batch")
+        .description("Transactions written per commit")
+        .register(registry);
+    this.flushTimer = Timer.builder("finance.ingestion.flush")
+        .description("Time to commit one batch of queued transactions")
+        .register(registry);
+    this.rejected = Counter.builder("finance.ingestion.rejected")
+        .description("Transactions refused because the queue was full or closed")
+        .register(registry);
+    this.failed = Counter.builder("finance.ingestion.failed")
+        .description("Queued transactions that could not be written")
+        .register(registry);
+    this.writer = new Thread(this::run, "transaction-ingestion");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Queues a new transaction for writing.
+   *
+   * @param transaction the validated transaction, with its user set
+   * @param ackMode when to return
+   * @return true if the transaction has been committed, false if it is queued or being written
+   * @throws IllegalArgumentException if the transaction has no user
+   * @throws IngestionRejectedException if the queue stayed full or is closed
+   * @throws IllegalStateException if a {@link AckMode#COMMITTED} write failed
+   */
+  public boolean submit(Transaction transaction, AckMode ackMode) {
+    if (transaction.getUser() == null) {
+      throw new IllegalArgumentException("Transaction must have a user");
+    }
+    Pending pending = new Pending(transaction, new CompletableFuture<>());
+    enqueue(pending);
+    if (ackMode == AckMode.ACCEPTED) {
+      return false;
+    }
+    return await(pending.committed());
+  }
+
+  /**
+   * Stops accepting transactions and waits for the writer to commit those already queued, for
+   * up to the shutdown timeout. Transactions still queued after that are failed.
+   */
+  @Override
+  public void close() {
+    accepting = false;
+    try {
+      writer.join(shutdownTimeout.toMillis() + 1);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    writer.interrupt();
+    List<Pending> abandoned = new ArrayList<>();
+    queue.drainTo(abandoned);
+    if (!abandoned.isEmpty()) {
+      log.error("{} queued transactions were not written before shutdown", abandoned.size());
+      fail(abandoned, new IllegalStateException("Shut down before the transaction was written"));
+    }
+  }
+
+  private void enqueue(Pending pending) {
+    boolean queued = false;
+    if (accepting) {
+      try {
+        queued = queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // A transaction queued while closing may have missed the final drain.
+    if (queued && !accepting && queue.remove(pending)) {
+      queued = false;
+    }
+    if (!queued) {
+      rejected.increment();
+      throw new IngestionRejectedException(accepting
+          ? "Transaction ingestion queue is full"
+          : "Transaction ingestion is shutting down");
+    }
+  }
+
+  private boolean await(CompletableFuture<Void> committed) {
+    try {
+      committed.get(commitTimeoutNanos, TimeUnit.NANOSECONDS);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Transaction could not be written", e.getCause());
+    }
+  }
+
+  private void run() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    while (accepting || !queue.isEmpty()) {
+      try {
+        Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        flush(batch);
+      } catch (InterruptedException e) {
+        return;
+      } catch (RuntimeException e) {
+        log.error("Transaction ingestion writer failed", e);
+        fail(batch, e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<Pending> batch) {
+    // Users in ID order, so concurrent writers lock the user rows in the same order.
+    Map<Long, List<Pending>> byUser = new TreeMap<>();
+    for (Pending pending : batch) {
+      byUser.computeIfAbsent(pending.transaction().getUser().getId(), id -> new ArrayList<>())
+          .add(pending);
+    }
+    long start = System.nanoTime();
+    try {
+      transactionOperations.executeWithoutResult(status -> byUser.values().forEach(this::write));
+      complete(batch);
+    } catch (RuntimeException e) {
+      if (byUser.size() == 1) {
+        log.warn("Could not write {} queued transactions", batch.size(), e);
+        fail(batch, e);
+      } else {
+        byUser.values().forEach(this::retry);
+      }
+    } finally {
+      flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void retry(List<Pending> userBatch) {
+    try {
+      transactionOperations.executeWithoutResult(status -> write(userBatch));
+      complete(userBatch);
+    } catch (RuntimeException e) {
+      log.warn("Could not write {} queued transactions", userBatch.size(), e);
+      fail(userBatch, e);
+    }
+  }
+
+  private void write(List<Pending> userBatch) {
+    User user = userBatch.get(0).transaction().getUser();
+    transactionUseCase.addTransactions(user,
+        userBatch.stream().map(Pending::transaction).toList());
+  }
+
+  private void complete(List<Pending> written) {
+    batchSizes.record(written.size());
+    written.forEach(pending -> pending.committed().complete(null));
+  }
+
+  private void fail(List<Pending> unwritten, Throwable cause) {
+    failed.increment(unwritten.size());
+    unwritten.forEach(pending -> pending.committed().completeExceptionally(cause));
+  }
+
+  private record Pending(Transaction transaction, CompletableFuture<Void> committed) {}
+}
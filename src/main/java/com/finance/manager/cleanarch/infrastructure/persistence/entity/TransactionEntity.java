@@ -1,7 +1,9 @@
 package com.finance.manager.cleanarch.infrastructure.persistence.entity;
 
+import com.finance.manager.cleanarch.domain.model.Money;
 import com.finance.manager.cleanarch.domain.model.Transaction;
 import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,11 +14,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.Currency;
 
 /**
  * JPA entity for Transaction persistence.
@@ -26,15 +31,27 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "transactions")
+@Table(name = "transactions", uniqueConstraints = @UniqueConstraint(
+    name = "uk_transactions_user_idempotency_key", columnNames = {"user_id", "idempotency_key"}))
 public final class TransactionEntity {
 
+  /**
+   * Ids come from a pooled sequence so inserts can be sent to the database in JDBC batches.
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+  @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq",
+      allocationSize = 50)
   private Long id;
 
-  @Column(nullable = false)
-  private double amount;
+  /**
+   * Signed amount in minor units of the currency, such as cents.
+   */
+  @Column(name = "amount_minor", nullable = false)
+  private long amountMinor;
+
+  @Column(nullable = false, length = 3)
+  private Currency currency;
 
   @Column(nullable = false)
   private String description;
@@ -53,6 +70,12 @@ public final class TransactionEntity {
   @JoinColumn(name = "user_id", nullable = false)
   private UserEntity user;
 
+  /**
+   * Unique per user, so that a retried request cannot add the same transaction twice.
+   */
+  @Column(name = "idempotency_key", length = 64)
+  private String idempotencyKey;
+
   /**
    * Default constructor.
    */
@@ -66,11 +89,13 @@ public final class TransactionEntity {
    */
   public TransactionEntity(Transaction transaction) {
     this.id = transaction.getId();
-    this.amount = transaction.getAmount();
+    this.amountMinor = transaction.getAmount().minorUnits();
+    this.currency = transaction.getAmount().currency();
     this.description = transaction.getDescription();
     this.category = transaction.getCategory();
     this.type = transaction.getType();
     this.date = transaction.getDate();
+    this.idempotencyKey = transaction.getIdempotencyKey();
     if (transaction.getUser() != null) {
       this.user = new UserEntity(transaction.getUser());
     }
@@ -78,14 +103,26 @@ public final class TransactionEntity {
 
   /**
    * Converts this entity to a domain model.
+   * Persisted transactions were validated when added, so validation is not repeated here.
    *
    * @return the Transaction domain model
    */
   public Transaction toDomainModel() {
-    Transaction transaction = new Transaction(
-        amount, description, category, type, user.toDomainModel());
-    transaction.setId(id);
-    transaction.setDate(date);
+    return toDomainModel(user.toDomainModel());
+  }
+
+  /**
+   * Converts this entity to a domain model owned by an already resolved user.
+   * Result sets of a single user share one owner instance this way, and the lazy
+   * user association is never initialized.
+   *
+   * @param owner the domain user who owns this transaction
+   * @return the Transaction domain model
+   */
+  public Transaction toDomainModel(User owner) {
+    Transaction transaction = Transaction.rehydrate(id, new Money(amountMinor, currency),
+        description, category, type, date, owner);
+    transaction.setIdempotencyKey(idempotencyKey);
     return transaction;
   }
 }
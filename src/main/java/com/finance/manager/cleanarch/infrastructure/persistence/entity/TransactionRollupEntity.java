@@ -0,0 +1,111 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.entity;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * JPA entity for the totals of one user, month, category and transaction type.
+ * Rows are maintained as transactions are added, so charts read one row per bucket instead
+ * of scanning the transactions.
+ * This class is final and not designed for extension.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "transaction_rollups")
+@IdClass(TransactionRollupEntity.Key.class)
+public final class TransactionRollupEntity {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  /**
+   * First day of the month the totals belong to.
+   */
+  @Id
+  @Column(name = "month_start")
+  private LocalDate monthStart;
+
+  @Id
+  @Column(length = 50)
+  private String category;
+
+  @Id
+  @Column(length = 10)
+  @Enumerated(EnumType.STRING)
+  private TransactionType type;
+
+  @Column(nullable = false, length = 3)
+  private Currency currency;
+
+  /**
+   * Sum of absolute amounts in minor units of the currency.
+   */
+  @Column(name = "total_minor", nullable = false)
+  private long totalMinor;
+
+  @Column(name = "transaction_count", nullable = false)
+  private long transactionCount;
+
+  /**
+   * Default constructor.
+   */
+  public TransactionRollupEntity() {
+  }
+
+  /**
+   * Creates an empty bucket.
+   *
+   * @param key the user, month, category and type of the bucket
+   * @param currency the currency of the totals
+   */
+  public TransactionRollupEntity(Key key, Currency currency) {
+    this.userId = key.getUserId();
+    this.monthStart = key.getMonthStart();
+    this.category = key.getCategory();
+    this.type = key.getType();
+    this.currency = currency;
+  }
+
+  /**
+   * Adds one transaction amount to the bucket.
+   *
+   * @param absoluteAmount the absolute amount of the transaction
+   */
+  public void add(Money absoluteAmount) {
+    this.totalMinor = Math.addExact(totalMinor, absoluteAmount.minorUnits());
+    this.transactionCount++;
+  }
+
+  /**
+   * Composite primary key of a bucket.
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private Long userId;
+    private LocalDate monthStart;
+    private String category;
+    private TransactionType type;
+  }
+}
@@ -0,0 +1,87 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.entity;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Currency;
+
+/**
+ * JPA entity for the running totals of a user, one row per user.
+ * This class adapts the domain UserBalance model to the database schema.
+ * This class is final and not designed for extension.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "user_balances")
+public final class UserBalanceEntity {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(nullable = false, length = 3)
+  private Currency currency;
+
+  /**
+   * Sum of all income in minor units of the currency.
+   */
+  @Column(name = "total_income_minor", nullable = false)
+  private long totalIncomeMinor;
+
+  /**
+   * Sum of all expenses in minor units of the currency, as a positive number.
+   */
+  @Column(name = "total_expenses_minor", nullable = false)
+  private long totalExpensesMinor;
+
+  /**
+   * Number of changes made to the totals, which changes whenever the user's data does.
+   */
+  @Column(name = "data_version", nullable = false)
+  private long dataVersion;
+
+  /**
+   * Default constructor.
+   */
+  public UserBalanceEntity() {
+  }
+
+  /**
+   * Constructor with UserBalance domain model.
+   *
+   * @param balance the UserBalance domain model to create this entity from
+   */
+  public UserBalanceEntity(UserBalance balance) {
+    this.userId = balance.userId();
+    update(balance);
+  }
+
+  /**
+   * Overwrites the totals with those of a domain model and advances the data version.
+   *
+   * @param balance the new totals
+   */
+  public void update(UserBalance balance) {
+    this.currency = balance.currency();
+    this.totalIncomeMinor = balance.totalIncome().minorUnits();
+    this.totalExpensesMinor = balance.totalExpenses().minorUnits();
+    this.dataVersion++;
+  }
+
+  /**
+   * Converts this entity to a domain model.
+   *
+   * @return the UserBalance domain model
+   */
+  public UserBalance toDomainModel() {
+    return new UserBalance(userId, new Money(totalIncomeMinor, currency),
+        new Money(totalExpensesMinor, currency));
+  }
+}
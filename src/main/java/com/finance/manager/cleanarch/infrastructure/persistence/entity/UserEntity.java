@@ -75,13 +75,12 @@ public final class UserEntity implements UserDetails {
 
   /**
    * Converts this entity to a domain model.
+   * Persisted users were validated on registration, so validation is not repeated here.
    *
    * @return the User domain model
    */
   public User toDomainModel() {
-    User user = new User(email, password, name);
-    user.setId(id);
-    return user;
+    return User.rehydrate(id, email, password, name);
   }
 
   public void setId(Long id) {
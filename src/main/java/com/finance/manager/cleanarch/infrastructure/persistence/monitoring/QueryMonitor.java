@@ -0,0 +1,138 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listens to every statement executed through the proxied data source.
+ * Each statement is timed as {@code finance.jdbc.statements}, tagged by type, and logged at
+ * TRACE level. Statements slower than the threshold are logged as warnings and counted as
+ * {@code finance.jdbc.slow}. While a request is being monitored on the current thread, the
+ * statements are also added to its {@link QueryStats}. When the request finishes, its statement
+ * count is published as {@code finance.jdbc.request.statements}, and a statement repeated
+ * outside batches at least the repeat threshold is logged as a possible N+1 query and counted as
+ * {@code finance.jdbc.repeated}.
+ */
+public class QueryMonitor implements QueryExecutionListener {
+
+  private static final Logger log = LoggerFactory.getLogger(QueryMonitor.class);
+  private static final String START = QueryMonitor.class.getName() + ".start";
+
+  private final ThreadLocal<QueryStats> current = new ThreadLocal<>();
+  private final MeterRegistry registry;
+  private final long slowThresholdNanos;
+  private final int repeatThreshold;
+  private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+  private final Map<QueryType, Counter> slowCounters = new EnumMap<>(QueryType.class);
+
+  /**
+   * Creates the monitor.
+   *
+   * @param registry where the metrics are published
+   * @param slowThreshold the execution time above which a statement is reported as slow
+   * @param repeatThreshold the number of executions of one statement in a request above which
+   *     it is reported as a possible N+1 query
+   */
+  public QueryMonitor(MeterRegistry registry, Duration slowThreshold, int repeatThreshold) {
+    this.registry = registry;
+    this.slowThresholdNanos = slowThreshold.toNanos();
+    this.repeatThreshold = repeatThreshold;
+    for (QueryType type : QueryType.values()) {
+      String tag = type.name().toLowerCase(Locale.ROOT);
+      timers.put(type, Timer.builder("finance.jdbc.statements")
+          .description("Execution time of SQL statements")
+          .tag("type", tag)
+          .publishPercentileHistogram()
+          .register(registry));
+      slowCounters.put(type, Counter.builder("finance.jdbc.slow")
+          .description("SQL statements slower than the slow query threshold")
+          .tag("type", tag)
+          .register(registry));
+    }
+  }
+
+  /**
+   * Starts collecting the statements of a request on the current thread.
+   *
+   * @return the statistics that the statements are added to
+   */
+  public QueryStats start() {
+    QueryStats stats = new QueryStats();
+    current.set(stats);
+    return stats;
+  }
+
+  /**
+   * Stops collecting on the current thread and reports the request.
+   *
+   * @param stats the statistics returned by {@link #start()}
+   * @param uri the URI pattern of the request, used as a tag
+   */
+  public void finish(QueryStats stats, String uri) {
+    if (current.get() != stats) {
+      return;
+    }
+    current.remove();
+    DistributionSummary.builder("finance.jdbc.request.statements")
+        .description("SQL statements executed per request")
+        .tag("uri", uri)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(stats.getStatements());
+    Map<String, Integer> repeated = stats.getRepeatedStatements(repeatThreshold);
+    if (!repeated.isEmpty()) {
+      Counter.builder("finance.jdbc.repeated")
+          .description("Requests that repeated a statement often enough to suggest N+1 queries")
+          .tag("uri", uri)
+          .register(registry)
+          .increment();
+      repeated.forEach((sql, count) ->
+          log.warn("Possible N+1 query on {}: {} executions of {}", uri, count, sql));
+    }
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long start = execInfo.getCustomValue(START, Long.class);
+    long nanos = start != null
+        ? System.nanoTime() - start
+        : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+    boolean slow = nanos > slowThresholdNanos;
+    QueryStats stats = current.get();
+    for (QueryInfo queryInfo : queryInfoList) {
+      String sql = queryInfo.getQuery();
+      QueryType type = QueryUtils.getQueryType(sql);
+      timers.get(type).record(nanos, TimeUnit.NANOSECONDS);
+      if (slow) {
+        slowCounters.get(type).increment();
+        log.warn("Slow query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), sql);
+      } else if (log.isTraceEnabled()) {
+        log.trace("Query took {} µs: {}", TimeUnit.NANOSECONDS.toMicros(nanos), sql);
+      }
+      if (stats != null) {
+        stats.add(sql, execInfo.isBatch(), nanos, slow);
+      }
+    }
+  }
+}
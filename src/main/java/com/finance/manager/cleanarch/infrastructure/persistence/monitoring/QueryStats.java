@@ -0,0 +1,77 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.monitoring;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The SQL statements executed on behalf of one request.
+ * Statements sent as JDBC batches count once per batch and are never reported as repeated,
+ * so batched inserts are not mistaken for N+1 queries.
+ */
+public final class QueryStats {
+
+  /**
+   * Name of the request attribute that holds the statistics of the request.
+   */
+  public static final String ATTRIBUTE = QueryStats.class.getName();
+
+  private final Map<String, Integer> executions = new LinkedHashMap<>();
+  private int statements;
+  private int slowStatements;
+  private long elapsedNanos;
+
+  void add(String sql, boolean batch, long nanos, boolean slow) {
+    statements++;
+    elapsedNanos += nanos;
+    if (slow) {
+      slowStatements++;
+    }
+    if (!batch) {
+      executions.merge(sql, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Gets the number of executed statements.
+   *
+   * @return the number of statements, counting each batch once
+   */
+  public int getStatements() {
+    return statements;
+  }
+
+  /**
+   * Gets the number of statements that took longer than the slow query threshold.
+   *
+   * @return the number of slow statements
+   */
+  public int getSlowStatements() {
+    return slowStatements;
+  }
+
+  /**
+   * Gets the time spent executing statements.
+   *
+   * @return the total execution time
+   */
+  public Duration getElapsed() {
+    return Duration.ofNanos(elapsedNanos);
+  }
+
+  /**
+   * Gets the statements executed outside batches at least a number of times.
+   *
+   * @param threshold the minimum number of executions
+   * @return the SQL of each such statement and its number of executions
+   */
+  public Map<String, Integer> getRepeatedStatements(int threshold) {
+    Map<String, Integer> repeated = new LinkedHashMap<>();
+    executions.forEach((sql, count) -> {
+      if (count >= threshold) {
+        repeated.put(sql, count);
+      }
+    });
+    return repeated;
+  }
+}
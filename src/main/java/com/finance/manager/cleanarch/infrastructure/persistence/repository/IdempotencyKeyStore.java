@@ -0,0 +1,86 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Recently used idempotency keys and the ID of the transaction each one added, so that a
+ * retried request is answered with a primary key lookup instead of a query on the key. Only
+ * the key and the ID are kept, for a bounded number of keys and a bounded time; a key that
+ * has been evicted is still found in the database, where it is unique per user.
+ * Hit and miss counts are published as the {@code cache.*} metrics tagged
+ * {@code cache=idempotencyKeys}.
+ */
+public final class IdempotencyKeyStore {
+
+  private final Cache<String, Long> transactionIds;
+
+  /**
+   * Creates the store.
+   *
+   * @param timeToLive how long a key is kept after its transaction was added
+   * @param maximumSize the most keys kept
+   * @param registry where the cache metrics are published
+   */
+  public IdempotencyKeyStore(Duration timeToLive, long maximumSize, MeterRegistry registry) {
+    this.transactionIds = Caffeine.newBuilder()
+        .expireAfterWrite(timeToLive)
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(registry, transactionIds, "idempotencyKeys");
+  }
+
+  /**
+   * Finds the transaction added with a key.
+   *
+   * @param userId the user who sent the key
+   * @param key the idempotency key
+   * @return the ID of the transaction, or null if the key is not kept
+   */
+  Long find(Long userId, String key) {
+    return transactionIds.getIfPresent(entry(userId, key));
+  }
+
+  /**
+   * Keeps the transaction added with a key.
+   *
+   * @param userId the user who sent the key
+   * @param key the idempotency key
+   * @param transactionId the ID of the transaction
+   */
+  void remember(Long userId, String key, Long transactionId) {
+    transactionIds.put(entry(userId, key), transactionId);
+  }
+
+  /**
+   * Keeps the transaction added with a key once the current database transaction commits,
+   * so that a rolled back insert is never remembered.
+   *
+   * @param userId the user who sent the key
+   * @param key the idempotency key
+   * @param transactionId the ID of the transaction
+   */
+  void rememberAfterCommit(Long userId, String key, Long transactionId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      remember(userId, key, transactionId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        remember(userId, key, transactionId);
+      }
+    });
+  }
+
+  private static String entry(Long userId, String key) {
+    return userId + ":" + key;
+  }
+}
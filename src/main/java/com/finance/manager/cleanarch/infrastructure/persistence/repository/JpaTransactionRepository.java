@@ -1,25 +1,75 @@
 package com.finance.manager.cleanarch.infrastructure.persistence.repository;
 
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
 import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
 import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionRollupEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the domain TransactionRepository interface using Spring Data JPA.
  * This adapter translates between domain and persistence models.
+ * Queries scoped to a user attach the caller's User instance to every mapped transaction
+ * instead of building one owner per row from the lazy association.
+ * Rollups are written while holding a lock on the owning user row, so that two writers
+ * cannot both create the same bucket.
+ * Idempotency keys of recently added transactions are remembered in an
+ * {@link IdempotencyKeyStore}, so a retried request finds its transaction by primary key.
+ * Every method is timed as {@code finance.repository}, and the rows read and mapped are
+ * published through {@link RepositoryMetrics}.
  */
 @Repository
+@Timed(value = "finance.repository", histogram = true)
 public class JpaTransactionRepository implements TransactionRepository {
 
   private final SpringTransactionRepository repository;
+  private final SpringTransactionRollupRepository rollupRepository;
+  private final EntityManager entityManager;
+  private final IdempotencyKeyStore keyStore;
+  private final RepositoryMetrics metrics;
 
-  public JpaTransactionRepository(SpringTransactionRepository repository) {
+  /**
+   * Creates the adapter.
+   *
+   * @param repository the repository of transactions
+   * @param rollupRepository the repository of monthly rollups
+   * @param entityManager the entity manager used for batching and locking
+   * @param keyStore the recently used idempotency keys
+   * @param registry where the row and mapping metrics are published
+   */
+  public JpaTransactionRepository(SpringTransactionRepository repository,
+      SpringTransactionRollupRepository rollupRepository, EntityManager entityManager,
+      IdempotencyKeyStore keyStore, MeterRegistry registry) {
     this.repository = repository;
+    this.rollupRepository = rollupRepository;
+    this.entityManager = entityManager;
+    this.keyStore = keyStore;
+    this.metrics = new RepositoryMetrics(registry, "transaction");
   }
 
   /**
@@ -31,19 +81,58 @@ public class JpaTransactionRepository implements TransactionRepository {
   @Override
   public Optional<Transaction> findById(Long id) {
     return repository.findById(id)
-        .map(TransactionEntity::toDomainModel);
+        .map(entity -> metrics.mapOne(entity, TransactionEntity::toDomainModel));
   }
 
   /**
    * Saves a transaction to the repository.
+   * A transaction with an idempotency key is remembered by key once the insert commits.
    *
    * @param transaction the transaction to save
    * @return the saved transaction, converted to domain model
    */
   @Override
   public Transaction save(Transaction transaction) {
-    TransactionEntity entity = new TransactionEntity(transaction);
-    return repository.save(entity).toDomainModel();
+    TransactionEntity entity = repository.save(new TransactionEntity(transaction));
+    if (entity.getIdempotencyKey() != null) {
+      keyStore.rememberAfterCommit(transaction.getUser().getId(), entity.getIdempotencyKey(),
+          entity.getId());
+    }
+    return metrics.mapOne(entity, saved -> saved.toDomainModel(transaction.getUser()));
+  }
+
+  /**
+   * Finds the transaction a user added with an idempotency key. A key remembered by the store
+   * costs a primary key lookup; any other key is looked up through its unique index and then
+   * remembered.
+   *
+   * @param user the user who sent the key
+   * @param idempotencyKey the key sent with the transaction
+   * @return an Optional containing the transaction if the key was used
+   */
+  @Override
+  public Optional<Transaction> findByIdempotencyKey(User user, String idempotencyKey) {
+    Long id = keyStore.find(user.getId(), idempotencyKey);
+    Optional<TransactionEntity> entity = id != null ? repository.findById(id) : Optional.empty();
+    if (entity.isEmpty()) {
+      entity = repository.findByUserIdAndIdempotencyKey(user.getId(), idempotencyKey);
+      entity.ifPresent(found -> keyStore.remember(user.getId(), idempotencyKey, found.getId()));
+    }
+    return entity.map(found -> metrics.mapOne(found, saved -> saved.toDomainModel(user)));
+  }
+
+  /**
+   * Saves a batch of transactions. Inserts are sent as JDBC batches, and the persistence
+   * context is cleared afterwards so that a long import does not keep every row managed.
+   *
+   * @param transactions the transactions to save
+   */
+  @Override
+  @Transactional
+  public void saveAll(List<Transaction> transactions) {
+    repository.saveAll(transactions.stream().map(TransactionEntity::new).toList());
+    entityManager.flush();
+    entityManager.clear();
   }
 
   /**
@@ -54,10 +143,34 @@ public class JpaTransactionRepository implements TransactionRepository {
    */
   @Override
   public List<Transaction> findByUserOrderByDateDesc(User user) {
-    return repository.findByUserIdOrderByDateDesc(user.getId())
-        .stream()
-        .map(TransactionEntity::toDomainModel)
-        .toList();
+    return metrics.mapAll("findByUserOrderByDateDesc",
+        repository.findByUserIdOrderByDateDesc(user.getId()),
+        entity -> entity.toDomainModel(user));
+  }
+
+  /**
+   * Finds one page of a user's transactions using keyset pagination on (date, id).
+   * One extra row is read to detect whether a next page exists.
+   *
+   * @param user the user whose transactions to find
+   * @param after the position to continue from, or null for the first page
+   * @param size the maximum number of transactions in the page
+   * @return the page of transactions
+   */
+  @Override
+  public TransactionPage findPageByUser(User user, TransactionCursor after, int size) {
+    Limit limit = Limit.of(size + 1);
+    List<TransactionEntity> entities = after == null
+        ? repository.findFirstPageByUserId(user.getId(), limit)
+        : repository.findByUserIdAfter(user.getId(), after.date(), after.id(), limit);
+
+    List<Transaction> transactions = metrics.mapAll("findPageByUser",
+        entities.subList(0, Math.min(size, entities.size())),
+        entity -> entity.toDomainModel(user));
+    TransactionCursor next = entities.size() > size
+        ? TransactionCursor.after(transactions.get(transactions.size() - 1))
+        : null;
+    return new TransactionPage(transactions, next);
   }
 
   /**
@@ -68,9 +181,171 @@ public class JpaTransactionRepository implements TransactionRepository {
    */
   @Override
   public List<Transaction> findByUser(User user) {
-    return repository.findByUserId(user.getId())
+    return metrics.mapAll("findByUser", repository.findByUserId(user.getId()),
+        entity -> entity.toDomainModel(user));
+  }
+
+  /**
+   * Streams a user's transactions from a database cursor. Each entity is detached once it
+   * has been mapped, so the persistence context does not grow with the history.
+   *
+   * @param user the user whose transactions to read
+   * @param action the action to apply to each transaction
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachByUser(User user, Consumer<Transaction> action) {
+    int rows = 0;
+    long mappingNanos = 0;
+    try (Stream<TransactionEntity> entities = repository.streamByUserId(user.getId())) {
+      Iterator<TransactionEntity> iterator = entities.iterator();
+      while (iterator.hasNext()) {
+        TransactionEntity entity = iterator.next();
+        long start = System.nanoTime();
+        Transaction transaction = entity.toDomainModel(user);
+        mappingNanos += System.nanoTime() - start;
+        rows++;
+        action.accept(transaction);
+        entityManager.detach(entity);
+      }
+    }
+    metrics.record("forEachByUser", rows, rows, mappingNanos);
+  }
+
+  /**
+   * Sums the absolute transaction amounts of a user per type with a single aggregate query.
+   *
+   * @param user the user whose transactions to sum
+   * @return map of transaction type to the sum of absolute amounts
+   * @throws IllegalArgumentException if a type has amounts in more than one currency
+   */
+  @Override
+  public Map<TransactionType, Money> sumAmountByType(User user) {
+    Map<TransactionType, Money> totals = new EnumMap<>(TransactionType.class);
+    List<SpringTransactionRepository.TypeTotal> rows =
+        repository.sumAbsoluteAmountByUserIdGroupByType(user.getId());
+    for (SpringTransactionRepository.TypeTotal row : rows) {
+      totals.merge(row.getType(), new Money(row.getTotal(), row.getCurrency()), Money::plus);
+    }
+    return totals;
+  }
+
+  /**
+   * Groups the transactions into buckets and adds each bucket with one UPDATE, inserting
+   * the buckets that do not exist yet.
+   *
+   * @param user the user who owns the transactions
+   * @param transactions the new transactions
+   * @throws DataIntegrityViolationException if a bucket is kept in another currency
+   */
+  @Override
+  @Transactional
+  public void addToRollups(User user, List<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+    lockUser(user.getId());
+    Map<TransactionRollupEntity.Key, TransactionRollupEntity> deltas = new LinkedHashMap<>();
+    for (Transaction transaction : transactions) {
+      TransactionRollupEntity.Key key = new TransactionRollupEntity.Key(user.getId(),
+          YearMonth.from(transaction.getDate()).atDay(1), transaction.getCategory(),
+          transaction.getType());
+      deltas.computeIfAbsent(key,
+              k -> new TransactionRollupEntity(k, transaction.getAmount().currency()))
+          .add(transaction.getAbsoluteAmount());
+    }
+    for (TransactionRollupEntity delta : deltas.values()) {
+      if (increment(delta) > 0) {
+        continue;
+      }
+      TransactionRollupEntity stored = entityManager.find(TransactionRollupEntity.class,
+          new TransactionRollupEntity.Key(delta.getUserId(), delta.getMonthStart(),
+              delta.getCategory(), delta.getType()));
+      if (stored != null) {
+        throw new DataIntegrityViolationException("Rollups of user " + user.getId()
+            + " are not kept in " + delta.getCurrency().getCurrencyCode());
+      }
+      entityManager.persist(delta);
+    }
+  }
+
+  /**
+   * Sums the rollup buckets of a user per month with a single aggregate query.
+   *
+   * @param user the user whose totals to find
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals ordered by month
+   */
+  @Override
+  public List<MonthlyTotal> findMonthlyTotals(User user, YearMonth from, YearMonth to) {
+    return rollupRepository.sumByMonth(user.getId(), from.atDay(1), to.atDay(1))
+        .stream()
+        .map(row -> new MonthlyTotal(YearMonth.from(row.getMonthStart()), row.getType(),
+            new Money(row.getTotal(), row.getCurrency()), row.getCount()))
+        .toList();
+  }
+
+  /**
+   * Sums the rollup buckets of a user per category with a single aggregate query.
+   *
+   * @param user the user whose totals to find
+   * @param from the first month, inclusive
+   * @param to the last month, inclusive
+   * @return the totals, largest first
+   */
+  @Override
+  public List<CategoryTotal> findCategoryTotals(User user, YearMonth from, YearMonth to) {
+    return rollupRepository.sumByCategory(user.getId(), from.atDay(1), to.atDay(1))
         .stream()
-        .map(TransactionEntity::toDomainModel)
+        .map(row -> new CategoryTotal(row.getCategory(), row.getType(),
+            new Money(row.getTotal(), row.getCurrency()), row.getCount()))
         .toList();
   }
+
+  /**
+   * Sums the transactions of a user per category with a single aggregate query, so only one
+   * row per category and type is read.
+   *
+   * @param user the user whose totals to find
+   * @return the totals, largest first
+   */
+  @Override
+  public List<CategoryTotal> findCategoryTotals(User user) {
+    return repository.sumAbsoluteAmountByUserIdGroupByCategory(user.getId())
+        .stream()
+        .map(row -> new CategoryTotal(row.getCategory(), row.getType(),
+            new Money(row.getTotal(), row.getCurrency()), row.getCount()))
+        .toList();
+  }
+
+  /**
+   * Deletes the rollups of a user and recomputes them with one INSERT ... SELECT.
+   * Pending changes are flushed first so that the recomputation sees them.
+   *
+   * @param user the user whose rollups to rebuild
+   * @return the number of rollup buckets written
+   */
+  @Override
+  @Transactional
+  public int rebuildRollups(User user) {
+    lockUser(user.getId());
+    entityManager.flush();
+    rollupRepository.deleteByUserId(user.getId());
+    int buckets = rollupRepository.insertFromTransactions(user.getId());
+    entityManager.clear();
+    return buckets;
+  }
+
+  private int increment(TransactionRollupEntity delta) {
+    return rollupRepository.increment(delta.getUserId(), delta.getMonthStart(),
+        delta.getCategory(), delta.getType(), delta.getCurrency(), delta.getTotalMinor(),
+        delta.getTransactionCount());
+  }
+
+  private void lockUser(Long userId) {
+    if (entityManager.find(UserEntity.class, userId, LockModeType.PESSIMISTIC_WRITE) == null) {
+      throw new IllegalArgumentException("User not found: " + userId);
+    }
+  }
 }
@@ -0,0 +1,122 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import com.finance.manager.cleanarch.domain.repository.UserBalanceRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserBalanceEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementation of the domain UserBalanceRepository interface using Spring Data JPA.
+ * This adapter translates between domain and persistence models.
+ * Additions to existing totals are single UPDATE statements. Totals are created, replaced
+ * and locked while holding a lock on the owning user row, so that the first addition for
+ * a user and a concurrent reconciliation cannot both create the same row.
+ */
+@Repository
+public class JpaUserBalanceRepository implements UserBalanceRepository {
+
+  private final SpringUserBalanceRepository repository;
+  private final EntityManager entityManager;
+
+  public JpaUserBalanceRepository(SpringUserBalanceRepository repository,
+      EntityManager entityManager) {
+    this.repository = repository;
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Finds the stored totals of a user with a primary key lookup.
+   *
+   * @param user the user whose totals to find
+   * @return an Optional containing the totals, or empty if none were stored yet
+   */
+  @Override
+  public Optional<UserBalance> findByUser(User user) {
+    return repository.findById(user.getId())
+        .map(UserBalanceEntity::toDomainModel);
+  }
+
+  /**
+   * Reads the data version of a user with a primary key lookup of a single column.
+   *
+   * @param user the user whose data version to find
+   * @return the data version, or 0 if no totals were stored yet
+   */
+  @Override
+  public long findDataVersion(User user) {
+    return repository.findDataVersion(user.getId()).orElse(0L);
+  }
+
+  /**
+   * Locks the user row, then the stored totals, until the current transaction ends.
+   *
+   * @param user the user whose totals to lock
+   * @return an Optional containing the totals, or empty if none were stored yet
+   */
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Optional<UserBalance> lockByUser(User user) {
+    lockUser(user.getId());
+    return repository.findForUpdate(user.getId())
+        .map(UserBalanceEntity::toDomainModel);
+  }
+
+  /**
+   * Adds amounts to the stored totals of a user, creating them on the first addition.
+   *
+   * @param delta the user and the amounts to add
+   * @throws DataIntegrityViolationException if the stored totals are in another currency
+   */
+  @Override
+  @Transactional
+  public void add(UserBalance delta) {
+    if (increment(delta) > 0) {
+      return;
+    }
+    lockUser(delta.userId());
+    Optional<UserBalanceEntity> stored = repository.findById(delta.userId());
+    if (stored.isEmpty()) {
+      entityManager.persist(new UserBalanceEntity(delta));
+    } else if (stored.get().getCurrency().equals(delta.currency())) {
+      increment(delta);
+    } else {
+      throw new DataIntegrityViolationException("Totals of user " + delta.userId()
+          + " are not kept in " + delta.currency().getCurrencyCode());
+    }
+  }
+
+  /**
+   * Overwrites the stored totals of a user, creating them if needed.
+   *
+   * @param balance the new totals
+   */
+  @Override
+  @Transactional
+  public void replace(UserBalance balance) {
+    lockUser(balance.userId());
+    UserBalanceEntity entity = repository.findById(balance.userId())
+        .orElseGet(() -> new UserBalanceEntity(balance));
+    entity.update(balance);
+    repository.save(entity);
+  }
+
+  private int increment(UserBalance delta) {
+    return repository.increment(delta.userId(), delta.currency(),
+        delta.totalIncome().minorUnits(), delta.totalExpenses().minorUnits());
+  }
+
+  private void lockUser(Long userId) {
+    if (entityManager.find(UserEntity.class, userId, LockModeType.PESSIMISTIC_WRITE) == null) {
+      throw new IllegalArgumentException("User not found: " + userId);
+    }
+  }
+}
@@ -2,23 +2,38 @@ package com.finance.manager.cleanarch.infrastructure.persistence.repository;
 
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import com.finance.manager.cleanarch.infrastructure.config.CacheConfig;
 import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementation of the domain UserRepository interface using Spring Data JPA.
  * This adapter translates between domain and persistence models.
+ * Lookups by email and ID are cached; every save evicts the saved user, so all user update
+ * paths invalidate the caches by going through this adapter. Cached users are shared
+ * instances and must not be modified by callers.
+ * Every method is timed as {@code finance.repository}, cache hits included, and the users
+ * mapped from entities are counted through {@link RepositoryMetrics}.
  * This class is not designed for extension.
  */
 @Repository
+@Timed(value = "finance.repository", histogram = true)
 public class JpaUserRepository implements UserRepository {
   
   private final SpringUserRepository repository;
+  private final RepositoryMetrics metrics;
 
-  public JpaUserRepository(SpringUserRepository repository) {
+  public JpaUserRepository(SpringUserRepository repository, MeterRegistry registry) {
     this.repository = repository;
+    this.metrics = new RepositoryMetrics(registry, "user");
   }
 
   /**
@@ -28,9 +43,10 @@ public class JpaUserRepository implements UserRepository {
    * @return an Optional containing the user if found, empty otherwise
    */
   @Override
+  @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, unless = "#result == null")
   public Optional<User> findByEmail(String email) {
     return repository.findByEmail(email)
-        .map(UserEntity::toDomainModel);
+        .map(entity -> metrics.mapOne(entity, UserEntity::toDomainModel));
   }
 
   /**
@@ -40,9 +56,15 @@ public class JpaUserRepository implements UserRepository {
    * @return the saved user, converted to domain model
    */
   @Override
+  @Caching(evict = {
+      @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#user.email"),
+      @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#user.id",
+          condition = "#user.id != null"),
+      @CacheEvict(cacheNames = CacheConfig.USER_DETAILS, key = "#user.email")
+  })
   public User save(User user) {
     UserEntity entity = new UserEntity(user);
-    return repository.save(entity).toDomainModel();
+    return metrics.mapOne(repository.save(entity), UserEntity::toDomainModel);
   }
 
   /**
@@ -52,9 +74,10 @@ public class JpaUserRepository implements UserRepository {
    * @return an Optional containing the user if found, empty otherwise
    */
   @Override
+  @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, unless = "#result == null")
   public Optional<User> findById(Long id) {
     return repository.findById(id)
-        .map(UserEntity::toDomainModel);
+        .map(entity -> metrics.mapOne(entity, UserEntity::toDomainModel));
   }
 
   /**
@@ -67,4 +90,14 @@ public class JpaUserRepository implements UserRepository {
   public boolean existsByEmail(String email) {
     return repository.existsByEmail(email);
   }
+
+  /**
+   * Finds the IDs of all users without loading the users.
+   *
+   * @return the user IDs in ascending order
+   */
+  @Override
+  public List<Long> findAllIds() {
+    return repository.findAllIds();
+  }
 }
@@ -0,0 +1,103 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Metrics of the rows a repository adapter reads and maps to domain objects.
+ * The number of rows each query returns for one user is published as a histogram,
+ * {@code finance.repository.rows}, tagged by query. The mapping from entities to domain objects
+ * is published as {@code finance.repository.mapped}, counting mapped rows, and
+ * {@code finance.repository.mapping}, timing each batch of mapped rows, both tagged by entity.
+ * Users are never used as tags, so the number of series does not grow with the user base.
+ */
+final class RepositoryMetrics {
+
+  private final MeterRegistry registry;
+  private final String entity;
+  private final Counter mapped;
+  private final Timer mapping;
+  private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+
+  RepositoryMetrics(MeterRegistry registry, String entity) {
+    this.registry = registry;
+    this.entity = entity;
+    this.mapped = Counter.builder("finance.repository.mapped")
+        .description("Entities mapped to domain objects")
+        .baseUnit("rows")
+        .tag("entity", entity)
+        .register(registry);
+    this.mapping = Timer.builder("finance.repository.mapping")
+        .description("Time spent mapping entities to domain objects")
+        .tag("entity", entity)
+        .register(registry);
+  }
+
+  /**
+   * Maps a query result and records its size and the cost of the mapping.
+   *
+   * @param query the name of the query
+   * @param entities the rows returned by the query
+   * @param mapper the mapping of one row
+   * @param <E> the entity type
+   * @param <T> the domain type
+   * @return the mapped rows, in order
+   */
+  <E, T> List<T> mapAll(String query, List<E> entities, Function<E, T> mapper) {
+    long start = System.nanoTime();
+    List<T> result = entities.stream().map(mapper).toList();
+    record(query, entities.size(), result.size(), System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Maps a single row and records the cost of the mapping.
+   *
+   * @param entity the row
+   * @param mapper the mapping of the row
+   * @param <E> the entity type
+   * @param <T> the domain type
+   * @return the mapped row
+   */
+  <E, T> T mapOne(E entity, Function<E, T> mapper) {
+    long start = System.nanoTime();
+    T result = mapper.apply(entity);
+    mapping.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    mapped.increment();
+    return result;
+  }
+
+  /**
+   * Records a query whose rows were mapped by the caller.
+   *
+   * @param query the name of the query
+   * @param rowCount the number of rows returned by the query
+   * @param mappedCount the number of rows mapped to domain objects
+   * @param mappingNanos the time spent mapping, in nanoseconds
+   */
+  void record(String query, int rowCount, int mappedCount, long mappingNanos) {
+    rows.computeIfAbsent(query, this::rowsSummary).record(rowCount);
+    mapped.increment(mappedCount);
+    mapping.record(mappingNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private DistributionSummary rowsSummary(String query) {
+    return DistributionSummary.builder("finance.repository.rows")
+        .description("Rows returned per query for one user")
+        .baseUnit("rows")
+        .tag("entity", entity)
+        .tag("query", query)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(1.0)
+        .maximumExpectedValue(10_000_000.0)
+        .register(registry);
+  }
+}
@@ -1,10 +1,21 @@
 package com.finance.manager.cleanarch.infrastructure.persistence.repository;
 
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
 import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository interface for TransactionEntity.
@@ -12,8 +23,119 @@ import java.util.List;
 @Repository
 public interface SpringTransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
+  int STREAM_FETCH_SIZE = 1000;
+
   List<TransactionEntity> findByUserIdOrderByDateDesc(Long userId);
 
   
   List<TransactionEntity> findByUserId(Long userId);
+
+  /**
+   * Finds the transaction a user added with an idempotency key, through the unique index on
+   * (user_id, idempotency_key).
+   *
+   * @param userId the owner of the transaction
+   * @param idempotencyKey the key sent with the transaction
+   * @return the transaction, if the key was used
+   */
+  Optional<TransactionEntity> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+  /**
+   * Finds the most recent transactions of a user in descending (date, id) order.
+   * The redundant leading user ID sort key lets the database read
+   * idx_transactions_user_date in order instead of sorting the user's rows.
+   *
+   * @param userId the owner of the transactions
+   * @param limit the maximum number of rows to return
+   * @return the most recent transactions
+   */
+  @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId "
+      + "ORDER BY t.user.id, t.date DESC, t.id DESC")
+  List<TransactionEntity> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+  /**
+   * Finds the transactions that follow the keyset position (date, id) in descending order.
+   *
+   * @param userId the owner of the transactions
+   * @param date the date of the last transaction already read
+   * @param id the ID of the last transaction already read
+   * @param limit the maximum number of rows to return
+   * @return the transactions after the given position
+   */
+  @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId "
+      + "AND (t.date < :date OR (t.date = :date AND t.id < :id)) "
+      + "ORDER BY t.user.id, t.date DESC, t.id DESC")
+  List<TransactionEntity> findByUserIdAfter(@Param("userId") Long userId,
+      @Param("date") LocalDateTime date, @Param("id") Long id, Limit limit);
+
+  /**
+   * Streams all transactions of a user in descending (date, id) order.
+   * Rows are fetched from the database in chunks of {@value #STREAM_FETCH_SIZE} and loaded
+   * read-only. The stream must be consumed inside a transaction and closed afterwards.
+   *
+   * @param userId the owner of the transactions
+   * @return the user's transactions, read lazily
+   */
+  @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId "
+      + "ORDER BY t.user.id, t.date DESC, t.id DESC")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<TransactionEntity> streamByUserId(@Param("userId") Long userId);
+
+  /**
+   * Sums absolute amounts per transaction type and currency in the database.
+   * Absolute values are summed so that the totals do not depend on the stored sign.
+   *
+   * @param userId the owner of the transactions
+   * @return one row per transaction type and currency present for the user
+   */
+  @Query("SELECT t.type AS type, t.currency AS currency, SUM(ABS(t.amountMinor)) AS total "
+      + "FROM TransactionEntity t WHERE t.user.id = :userId GROUP BY t.type, t.currency")
+  List<TypeTotal> sumAbsoluteAmountByUserIdGroupByType(@Param("userId") Long userId);
+
+  /**
+   * Sums absolute amounts and counts transactions per category, type and currency in the
+   * database. The query is answered from idx_transactions_user_category without reading the
+   * table, and only one row per group is returned.
+   *
+   * @param userId the owner of the transactions
+   * @return one row per category, type and currency present for the user, largest first
+   */
+  @Query("SELECT t.category AS category, t.type AS type, t.currency AS currency, "
+      + "SUM(ABS(t.amountMinor)) AS total, COUNT(t) AS count "
+      + "FROM TransactionEntity t WHERE t.user.id = :userId "
+      + "GROUP BY t.category, t.type, t.currency "
+      + "ORDER BY SUM(ABS(t.amountMinor)) DESC, t.category")
+  List<CategoryTypeTotal> sumAbsoluteAmountByUserIdGroupByCategory(
+      @Param("userId") Long userId);
+
+  /**
+   * Projection of a per-type amount total in minor units.
+   */
+  interface TypeTotal {
+
+    TransactionType getType();
+
+    Currency getCurrency();
+
+    Long getTotal();
+  }
+
+  /**
+   * Projection of a per-category and type amount total in minor units.
+   */
+  interface CategoryTypeTotal {
+
+    String getCategory();
+
+    TransactionType getType();
+
+    Currency getCurrency();
+
+    Long getTotal();
+
+    Long getCount();
+  }
 }
@@ -0,0 +1,134 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository interface for TransactionRollupEntity.
+ */
+@Repository
+public interface SpringTransactionRollupRepository
+    extends JpaRepository<TransactionRollupEntity, TransactionRollupEntity.Key> {
+
+  /**
+   * Adds amounts to an existing bucket in a single statement.
+   *
+   * @param userId the owner of the bucket
+   * @param monthStart the first day of the month of the bucket
+   * @param category the category of the bucket
+   * @param type the transaction type of the bucket
+   * @param currency the currency of the amounts; buckets in another currency are not updated
+   * @param total the sum of absolute amounts to add, in minor units
+   * @param count the number of transactions to add
+   * @return the number of updated rows, which is 0 if the bucket does not exist yet
+   */
+  @Modifying
+  @Query("UPDATE TransactionRollupEntity r "
+      + "SET r.totalMinor = r.totalMinor + :total, "
+      + "r.transactionCount = r.transactionCount + :count "
+      + "WHERE r.userId = :userId AND r.monthStart = :monthStart AND r.category = :category "
+      + "AND r.type = :type AND r.currency = :currency")
+  int increment(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart,
+      @Param("category") String category, @Param("type") TransactionType type,
+      @Param("currency") Currency currency, @Param("total") long total,
+      @Param("count") long count);
+
+  /**
+   * Sums the buckets of a user per month and type over a range of months.
+   *
+   * @param userId the owner of the buckets
+   * @param from the first day of the first month
+   * @param to the first day of the last month
+   * @return one row per month, type and currency, ordered by month
+   */
+  @Query("SELECT r.monthStart AS monthStart, r.type AS type, r.currency AS currency, "
+      + "SUM(r.totalMinor) AS total, SUM(r.transactionCount) AS count "
+      + "FROM TransactionRollupEntity r "
+      + "WHERE r.userId = :userId AND r.monthStart BETWEEN :from AND :to "
+      + "GROUP BY r.monthStart, r.type, r.currency ORDER BY r.monthStart, r.type")
+  List<MonthRow> sumByMonth(@Param("userId") Long userId, @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Sums the buckets of a user per category and type over a range of months.
+   *
+   * @param userId the owner of the buckets
+   * @param from the first day of the first month
+   * @param to the first day of the last month
+   * @return one row per category, type and currency, largest total first
+   */
+  @Query("SELECT r.category AS category, r.type AS type, r.currency AS currency, "
+      + "SUM(r.totalMinor) AS total, SUM(r.transactionCount) AS count "
+      + "FROM TransactionRollupEntity r "
+      + "WHERE r.userId = :userId AND r.monthStart BETWEEN :from AND :to "
+      + "GROUP BY r.category, r.type, r.currency ORDER BY SUM(r.totalMinor) DESC, r.category")
+  List<CategoryRow> sumByCategory(@Param("userId") Long userId, @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Deletes all buckets of a user.
+   *
+   * @param userId the owner of the buckets
+   * @return the number of deleted buckets
+   */
+  @Modifying
+  @Query("DELETE FROM TransactionRollupEntity r WHERE r.userId = :userId")
+  int deleteByUserId(@Param("userId") Long userId);
+
+  /**
+   * Recomputes all buckets of a user from the transactions with one INSERT ... SELECT.
+   * The buckets of the user must have been deleted first.
+   *
+   * @param userId the owner of the transactions
+   * @return the number of created buckets
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "INSERT INTO transaction_rollups "
+      + "(user_id, month_start, category, type, currency, total_minor, transaction_count) "
+      + "SELECT user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, type, "
+      + "MIN(currency), SUM(ABS(amount_minor)), COUNT(*) "
+      + "FROM transactions WHERE user_id = :userId "
+      + "GROUP BY user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, type")
+  int insertFromTransactions(@Param("userId") Long userId);
+
+  /**
+   * Projection of the totals of one month and type.
+   */
+  interface MonthRow {
+
+    LocalDate getMonthStart();
+
+    TransactionType getType();
+
+    Currency getCurrency();
+
+    Long getTotal();
+
+    Long getCount();
+  }
+
+  /**
+   * Projection of the totals of one category and type.
+   */
+  interface CategoryRow {
+
+    String getCategory();
+
+    TransactionType getType();
+
+    Currency getCurrency();
+
+    Long getTotal();
+
+    Long getCount();
+  }
+}
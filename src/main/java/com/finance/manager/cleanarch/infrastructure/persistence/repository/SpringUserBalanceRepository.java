@@ -0,0 +1,59 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserBalanceEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Currency;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository interface for UserBalanceEntity.
+ */
+@Repository
+public interface SpringUserBalanceRepository extends JpaRepository<UserBalanceEntity, Long> {
+
+  /**
+   * Finds the totals of a user and locks the row until the current transaction ends.
+   *
+   * @param userId the owner of the totals
+   * @return the locked totals, if stored
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM UserBalanceEntity b WHERE b.userId = :userId")
+  Optional<UserBalanceEntity> findForUpdate(@Param("userId") Long userId);
+
+  /**
+   * Adds amounts to the totals of a user and advances the data version in a single
+   * statement, so that the database serializes concurrent additions on the row instead of
+   * the application reading and writing back the totals.
+   *
+   * @param userId the owner of the totals
+   * @param currency the currency of the amounts; totals in another currency are not updated
+   * @param income the income to add, in minor units
+   * @param expenses the expenses to add, in minor units
+   * @return the number of updated rows, which is 0 if the user has no totals yet
+   */
+  @Modifying
+  @Query("UPDATE UserBalanceEntity b "
+      + "SET b.totalIncomeMinor = b.totalIncomeMinor + :income, "
+      + "b.totalExpensesMinor = b.totalExpensesMinor + :expenses, "
+      + "b.dataVersion = b.dataVersion + 1 "
+      + "WHERE b.userId = :userId AND b.currency = :currency")
+  int increment(@Param("userId") Long userId, @Param("currency") Currency currency,
+      @Param("income") long income, @Param("expenses") long expenses);
+
+  /**
+   * Reads only the data version of a user.
+   *
+   * @param userId the owner of the totals
+   * @return the data version, if totals are stored
+   */
+  @Query("SELECT b.dataVersion FROM UserBalanceEntity b WHERE b.userId = :userId")
+  Optional<Long> findDataVersion(@Param("userId") Long userId);
+}
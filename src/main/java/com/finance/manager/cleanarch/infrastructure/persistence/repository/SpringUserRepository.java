@@ -2,8 +2,10 @@ package com.finance.manager.cleanarch.infrastructure.persistence.repository;
 
 import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +17,7 @@ public interface SpringUserRepository extends JpaRepository<UserEntity, Long> {
   Optional<UserEntity> findByEmail(String email);
 
   boolean existsByEmail(String email);
+
+  @Query("SELECT u.id FROM UserEntity u ORDER BY u.id")
+  List<Long> findAllIds();
 }
@@ -0,0 +1,62 @@
+package com.finance.manager.cleanarch.infrastructure.scheduling;
+
+import com.finance.manager.cleanarch.application.usecase.BalanceReconciliationUseCase;
+import com.finance.manager.cleanarch.application.usecase.BalanceReconciliationUseCase.BalanceDrift;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodically reconciles the stored running totals of all users with their transactions.
+ * Each user is reconciled in a transaction of its own, so the job never holds more than
+ * one user's locks. Drifted totals are logged as warnings and corrected.
+ * The schedule is set with {@code finance.balances.reconciliation.cron}; {@code -} disables it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceReconciliationJob {
+
+  private final BalanceReconciliationUseCase reconciliationUseCase;
+
+  /**
+   * Runs the reconciliation on its schedule.
+   */
+  @Scheduled(cron = "${finance.balances.reconciliation.cron:0 30 3 * * *}")
+  public void runScheduled() {
+    run();
+  }
+
+  /**
+   * Reconciles the totals of every user.
+   *
+   * @return the number of checked users and the drift found for each corrected user
+   */
+  public ReconciliationReport run() {
+    List<Long> userIds = reconciliationUseCase.getUserIds();
+    List<BalanceDrift> drifts = new ArrayList<>();
+    for (Long userId : userIds) {
+      reconciliationUseCase.reconcile(userId).ifPresent(drift -> {
+        log.warn("Corrected drifted totals of user {}: stored income {} and expenses {}, "
+            + "ledger income {} and expenses {}", userId,
+            drift.stored().totalIncome(), drift.stored().totalExpenses(),
+            drift.ledger().totalIncome(), drift.ledger().totalExpenses());
+        drifts.add(drift);
+      });
+    }
+    log.info("Reconciled totals of {} users, {} drifted", userIds.size(), drifts.size());
+    return new ReconciliationReport(userIds.size(), drifts);
+  }
+
+  /**
+   * Outcome of a reconciliation run.
+   *
+   * @param checked the number of users whose totals were checked
+   * @param drifts the drift of every user whose totals were corrected
+   */
+  public record ReconciliationReport(int checked, List<BalanceDrift> drifts) {}
+}
@@ -0,0 +1,159 @@
+package com.finance.manager.cleanarch.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Password encoder that hashes and verifies passwords on a dedicated, bounded pool of threads.
+ * A burst of logins or registrations then occupies at most a fixed number of cores, and the
+ * remaining request threads stay free for cheap reads. Callers wait for the result. A call
+ * fails fast with {@link PasswordHashingBusyException} when the queue is full or when the
+ * result is not ready within the timeout.
+ *
+ * <p>The pool is published with the standard executor metrics tagged
+ * {@code name=passwordHashing}, which include the queue depth as {@code executor.queued}.
+ * The time callers wait, queueing included, is published as {@code password.hashing} and the
+ * rejected calls as {@code password.hashing.rejected}, both tagged by operation.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+  private static final String POOL_NAME = "passwordHashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor pool;
+  private final ExecutorService executor;
+  private final long timeoutNanos;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter encodeRejected;
+  private final Counter matchesRejected;
+
+  /**
+   * Creates the encoder and starts its pool.
+   *
+   * @param delegate the encoder that does the hashing
+   * @param threads the number of threads that hash concurrently
+   * @param queueCapacity the number of calls that may wait for a thread; 0 for none
+   * @param timeout the longest a caller waits for a result, queueing included
+   * @param registry where the metrics are published
+   */
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+      Duration timeout, MeterRegistry registry) {
+    if (threads < 1 || queueCapacity < 0 || timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("Invalid password hashing pool settings");
+    }
+    this.delegate = delegate;
+    BlockingQueue<Runnable> queue = queueCapacity == 0
+        ? new SynchronousQueue<>()
+        : new ArrayBlockingQueue<>(queueCapacity);
+    this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+        new CustomizableThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+    this.executor = ExecutorServiceMetrics.monitor(registry, pool, POOL_NAME);
+    this.timeoutNanos = timeout.toNanos();
+    this.encodeTimer = timer(registry, "encode");
+    this.matchesTimer = timer(registry, "matches");
+    this.encodeRejected = rejectedCounter(registry, "encode");
+    this.matchesRejected = rejectedCounter(registry, "matches");
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return call(() -> delegate.encode(rawPassword), encodeTimer, encodeRejected);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return call(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer,
+        matchesRejected);
+  }
+
+  /**
+   * Tells whether a stored hash is weaker than the delegate's current settings, such as a lower
+   * work factor, so that it is replaced after the next successful login. This only parses the
+   * hash and runs on the calling thread.
+   *
+   * @param encodedPassword the stored hash
+   * @return true if the password should be hashed again
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Stops the pool once the calls already accepted have completed.
+   */
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  private <T> T call(Callable<T> task, Timer timer, Counter rejected) {
+    long start = System.nanoTime();
+    try {
+      Future<T> future;
+      try {
+        future = executor.submit(task);
+      } catch (RejectedExecutionException e) {
+        rejected.increment();
+        throw new PasswordHashingBusyException("Password hashing queue is full", e);
+      }
+      return await(future, rejected);
+    } finally {
+      timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private <T> T await(Future<T> future, Counter rejected) {
+    try {
+      return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      throw new PasswordHashingBusyException("Password hashing timed out", e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingBusyException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private static Timer timer(MeterRegistry registry, String operation) {
+    return Timer.builder("password.hashing")
+        .description("Time callers wait for a password to be hashed or verified")
+        .tag("operation", operation)
+        .register(registry);
+  }
+
+  private static Counter rejectedCounter(MeterRegistry registry, String operation) {
+    return Counter.builder("password.hashing.rejected")
+        .description("Password hashing calls rejected because the pool was saturated")
+        .tag("operation", operation)
+        .register(registry);
+  }
+}
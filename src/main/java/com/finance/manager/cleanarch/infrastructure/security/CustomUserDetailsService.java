@@ -1,27 +1,70 @@
 package com.finance.manager.cleanarch.infrastructure.security;
 
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 /**
  * Custom implementation of UserDetailsService that loads user-specific data.
- * This service translates our custom User entity to Spring Security's UserDetails.
+ * This service translates our custom User entity to Spring Security's UserDetails, and
+ * stores passwords that are hashed again after a login because their hash is outdated.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final SpringUserRepository userRepository;
+  private final UserRepository domainUserRepository;
+  private final UserDetailsCache userDetailsCache;
 
-  public CustomUserDetailsService(SpringUserRepository userRepository) {
+  /**
+   * Creates the service.
+   *
+   * @param userRepository reads user entities for password updates
+   * @param domainUserRepository saves users so that the cached users are evicted
+   * @param userDetailsCache the cached lookup of user details
+   */
+  public CustomUserDetailsService(SpringUserRepository userRepository,
+      UserRepository domainUserRepository, UserDetailsCache userDetailsCache) {
     this.userRepository = userRepository;
+    this.domainUserRepository = domainUserRepository;
+    this.userDetailsCache = userDetailsCache;
   }
 
+  /**
+   * Loads the user with the given email address.
+   * The details come from {@link UserDetailsCache}; each call returns a copy of its own,
+   * because logging in erases the password of the details that become the principal.
+   *
+   * @param username the email address of the user
+   * @return the user details
+   * @throws UsernameNotFoundException if no user has the email address
+   */
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepository.findByEmail(username)
-        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
+    return User.withUserDetails(userDetailsCache.find(username)).build();
+  }
+
+  /**
+   * Replaces the stored password hash of a user who has just logged in.
+   * The user is saved through the domain repository so that the cached users are evicted.
+   *
+   * @param user the user who logged in
+   * @param newPassword the password hashed with the current settings
+   * @return the user details with the new hash
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    UserEntity entity = userRepository.findByEmail(user.getUsername())
+        .orElseThrow(() -> new UsernameNotFoundException(
+            "User not found with email: " + user.getUsername()));
+    entity.setPassword(newPassword);
+    domainUserRepository.save(entity.toDomainModel());
+    return UserDetailsCache.toUserDetails(entity);
   }
 }
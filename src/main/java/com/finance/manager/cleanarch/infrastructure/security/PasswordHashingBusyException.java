@@ -0,0 +1,20 @@
+package com.finance.manager.cleanarch.infrastructure.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when a password cannot be hashed or verified because the hashing pool is saturated.
+ * The request should be retried later; the password itself was not checked.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+  /**
+   * Creates the exception.
+   *
+   * @param message the detail message
+   * @param cause the underlying rejection or timeout
+   */
+  public PasswordHashingBusyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -2,23 +2,61 @@ package com.finance.manager.cleanarch.infrastructure.security;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.DelegatingAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Security configuration for the application.
- * Defines security rules and authentication mechanisms.
+ * Defines security rules and authentication mechanisms. The actuator endpoints that expose
+ * metrics and caches answer requests from localhost only, whether signed in or not.
+ * The JSON API answers requests without a valid login with 401 instead of redirecting to the
+ * login page. Besides the session of the web pages, it accepts HTTP Basic credentials on each
+ * request; such requests create no session and so need no CSRF token.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+  private static final List<IpAddressMatcher> LOCALHOST =
+      List.of(new IpAddressMatcher("127.0.0.1"), new IpAddressMatcher("::1"));
+
+  private static final RequestMatcher API = new AntPathRequestMatcher("/api/**");
+
+  private static final RequestMatcher BASIC_API = new AndRequestMatcher(API,
+      request -> {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return authorization != null && authorization.regionMatches(true, 0, "Basic ", 0, 6);
+      });
+
   /**
    * Configures security filter chain.
    *
@@ -41,12 +79,14 @@ public class SecurityConfig {
                 "/webjars/**"
             )
             .permitAll()
+            .requestMatchers(EndpointRequest.to("prometheus", "metrics", "caches"))
+            .access(SecurityConfig::fromLocalhost)
             .anyRequest()
             .authenticated())
         .formLogin(form -> form
             .loginPage("/login")
             .defaultSuccessUrl("/dashboard")
-            .failureUrl("/login?error=true"))
+            .failureHandler(loginFailureHandler()))
         .logout(logout -> logout
             .logoutSuccessUrl("/?logout=true"))
         .csrf(csrf -> csrf
@@ -57,13 +97,73 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * Configures the security filter chain of the JSON API, which comes before the chain of the
+   * web pages. A session logged in through the web pages is accepted as well.
+   *
+   * @param http the HttpSecurity to configure
+   * @return the configured SecurityFilterChain
+   * @throws Exception if an error occurs during configuration
+   */
+  @Bean
+  @Order(1)
+  public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+    // Without WWW-Authenticate, browsers never prompt for or keep Basic credentials, so a
+    // request carrying them was not sent by a browser on behalf of another site
+    AuthenticationEntryPoint unauthorized = new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED);
+    http
+        .securityMatcher(API)
+        .authorizeHttpRequests(auth -> auth
+            .anyRequest()
+            .authenticated())
+        .httpBasic(basic -> basic
+            .authenticationEntryPoint(unauthorized))
+        .exceptionHandling(exceptions -> exceptions
+            .defaultAuthenticationEntryPointFor(unauthorized, API))
+        .csrf(csrf -> csrf
+            .ignoringRequestMatchers(BASIC_API));
+
+    return http.build();
+  }
+
   /**
    * Configures password encoder.
+   * Passwords are hashed with BCrypt on a dedicated, bounded pool of threads. Hashes made with
+   * a lower work factor than the configured one are replaced after the next successful login.
    *
+   * @param strength the BCrypt work factor, between 4 and 31
+   * @param threads the number of hashing threads; 0 for half of the available processors
+   * @param queueCapacity the number of calls that may wait for a hashing thread
+   * @param timeout the longest a login or registration waits for its hash
+   * @param registry where the pool metrics are published
    * @return the configured PasswordEncoder
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${finance.security.bcrypt.strength:10}") int strength,
+      @Value("${finance.security.password-hashing.threads:0}") int threads,
+      @Value("${finance.security.password-hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${finance.security.password-hashing.timeout:5s}") Duration timeout,
+      MeterRegistry registry) {
+    int poolSize = threads > 0
+        ? threads
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize,
+        queueCapacity, timeout, registry);
+  }
+
+  private static AuthorizationDecision fromLocalhost(Supplier<Authentication> authentication,
+      RequestAuthorizationContext context) {
+    return new AuthorizationDecision(
+        LOCALHOST.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+  }
+
+  private static AuthenticationFailureHandler loginFailureHandler() {
+    LinkedHashMap<Class<? extends AuthenticationException>, AuthenticationFailureHandler>
+        handlers = new LinkedHashMap<>();
+    handlers.put(PasswordHashingBusyException.class,
+        new SimpleUrlAuthenticationFailureHandler("/login?busy=true"));
+    return new DelegatingAuthenticationFailureHandler(handlers,
+        new SimpleUrlAuthenticationFailureHandler("/login?error=true"));
   }
 }
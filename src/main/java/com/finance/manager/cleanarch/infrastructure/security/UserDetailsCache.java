@@ -0,0 +1,63 @@
+package com.finance.manager.cleanarch.infrastructure.security;
+
+import com.finance.manager.cleanarch.infrastructure.config.CacheConfig;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached lookup of the security details of users.
+ * Entries are immutable copies of the username, password hash, authorities and account flags,
+ * so no entity or lazy collection is shared between the logins that read them. Entries are
+ * evicted whenever the user is saved through the domain repository.
+ */
+@Component
+public class UserDetailsCache {
+
+  private final SpringUserRepository userRepository;
+
+  /**
+   * Creates the cache.
+   *
+   * @param userRepository reads the user entities
+   */
+  public UserDetailsCache(SpringUserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  /**
+   * Finds the details of the user with the given email address.
+   * Callers must not hand the result out as a principal, since logging in erases its password.
+   *
+   * @param email the email address of the user
+   * @return the cached user details
+   * @throws UsernameNotFoundException if no user has the email address
+   */
+  @Cacheable(CacheConfig.USER_DETAILS)
+  public UserDetails find(String email) throws UsernameNotFoundException {
+    return userRepository.findByEmail(email)
+        .map(UserDetailsCache::toUserDetails)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+  }
+
+  /**
+   * Copies the security details of a user entity.
+   *
+   * @param entity the user entity
+   * @return the immutable user details
+   */
+  static UserDetails toUserDetails(UserEntity entity) {
+    return User.withUsername(entity.getEmail())
+        .password(entity.getPassword())
+        .authorities(entity.getAuthorities())
+        .accountExpired(!entity.isAccountNonExpired())
+        .accountLocked(!entity.isAccountNonLocked())
+        .credentialsExpired(!entity.isCredentialsNonExpired())
+        .disabled(!entity.isEnabled())
+        .build();
+  }
+}
@@ -0,0 +1,40 @@
+package com.finance.manager.cleanarch.infrastructure.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.standard.StandardDialect;
+
+import java.util.Set;
+
+/**
+ * Thymeleaf dialect that caches the rendered markup of elements marked with
+ * {@code fin:cache="key"}, such as the navigation bar or a selector whose options never
+ * change. Template caching only saves parsing; this also saves evaluating the element's
+ * expressions on every render. Without a cache the attribute is removed and the element is
+ * rendered as usual, so templates can be edited while the application runs.
+ */
+public class FragmentCacheDialect extends AbstractProcessorDialect {
+
+  /**
+   * Prefix of the dialect's attributes.
+   */
+  public static final String PREFIX = "fin";
+
+  private final Cache<String, String> cache;
+
+  /**
+   * Creates the dialect.
+   *
+   * @param cache the rendered markup by key, or null to render every element
+   */
+  public FragmentCacheDialect(Cache<String, String> cache) {
+    super("Finance Fragment Cache", PREFIX, StandardDialect.PROCESSOR_PRECEDENCE);
+    this.cache = cache;
+  }
+
+  @Override
+  public Set<IProcessor> getProcessors(String dialectPrefix) {
+    return Set.of(new FragmentCacheProcessor(dialectPrefix, cache));
+  }
+}
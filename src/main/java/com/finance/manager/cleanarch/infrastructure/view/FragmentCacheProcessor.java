@@ -0,0 +1,79 @@
+package com.finance.manager.cleanarch.infrastructure.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.model.IModel;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.element.AbstractAttributeModelProcessor;
+import org.thymeleaf.processor.element.IElementModelStructureHandler;
+import org.thymeleaf.standard.expression.IStandardExpression;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Processes {@code fin:cache}. The attribute value is a standard expression whose result is
+ * the cache key, so it must name every input the element's output depends on. On a miss the
+ * element is rendered in the current context and the resulting markup is stored; on a hit the
+ * element is replaced with the stored markup without evaluating any of its expressions. The
+ * processor runs before the standard attributes, so conditions such as {@code th:if} belong on
+ * an enclosing element.
+ */
+final class FragmentCacheProcessor extends AbstractAttributeModelProcessor {
+
+  static final String ATTRIBUTE_NAME = "cache";
+  private static final int PRECEDENCE = 100;
+
+  private final Cache<String, String> cache;
+
+  FragmentCacheProcessor(String dialectPrefix, Cache<String, String> cache) {
+    super(TemplateMode.HTML, dialectPrefix, null, false, ATTRIBUTE_NAME, true, PRECEDENCE, true);
+    this.cache = cache;
+  }
+
+  @Override
+  protected void doProcess(ITemplateContext context, IModel model, AttributeName attributeName,
+      String attributeValue, IElementModelStructureHandler structureHandler) {
+    if (cache == null) {
+      return;
+    }
+    IStandardExpression expression = StandardExpressions
+        .getExpressionParser(context.getConfiguration())
+        .parseExpression(context, attributeValue);
+    String key = String.valueOf(expression.execute(context));
+    // Not Cache.get(key, loader): rendering may reach nested fin:cache elements, and Caffeine
+    // does not allow a loader to update the cache it is loading into.
+    String markup = cache.getIfPresent(key);
+    if (markup == null) {
+      markup = render(context, model, attributeName);
+      cache.put(key, markup);
+    }
+    model.reset();
+    model.add(context.getModelFactory().createText(markup));
+  }
+
+  private static String render(ITemplateContext context, IModel model,
+      AttributeName attributeName) {
+    IModel element = model.cloneModel();
+    element.replace(0, context.getModelFactory()
+        .removeAttribute((IProcessableElementTag) element.get(0), attributeName));
+    StringWriter template = new StringWriter();
+    try {
+      element.write(template);
+    } catch (IOException e) {
+      throw new TemplateProcessingException("Could not copy a cached fragment", e);
+    }
+    TemplateManager templateManager = context.getConfiguration().getTemplateManager();
+    TemplateModel parsed = templateManager.parseString(context.getTemplateData(),
+        template.toString(), 0, 0, context.getTemplateMode(), false);
+    StringWriter output = new StringWriter();
+    templateManager.process(parsed, context, output);
+    return output.toString();
+  }
+}
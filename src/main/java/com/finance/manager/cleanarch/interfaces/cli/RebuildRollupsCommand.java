@@ -0,0 +1,61 @@
+package com.finance.manager.cleanarch.interfaces.cli;
+
+import com.finance.manager.cleanarch.application.usecase.RollupRebuildUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Command that rebuilds the monthly rollups of every user and then shuts the application
+ * down. It runs only when the application is started with {@code --rebuild-rollups}:
+ * <pre>
+ * java -jar personal-finance-manager.jar --rebuild-rollups
+ * </pre>
+ * Each user is rebuilt in a transaction of its own, so the command never holds more than
+ * one user's locks and can run next to a live instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RebuildRollupsCommand implements ApplicationRunner {
+
+  static final String OPTION = "rebuild-rollups";
+
+  private final RollupRebuildUseCase rebuildUseCase;
+  private final ConfigurableApplicationContext context;
+
+  /**
+   * Rebuilds the rollups and exits if the option is present; does nothing otherwise.
+   *
+   * @param args the application arguments
+   */
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!args.containsOption(OPTION)) {
+      return;
+    }
+    rebuildAll();
+    System.exit(SpringApplication.exit(context));
+  }
+
+  /**
+   * Rebuilds the rollups of every user.
+   *
+   * @return the number of rollup buckets written
+   */
+  public long rebuildAll() {
+    List<Long> userIds = rebuildUseCase.getUserIds();
+    long buckets = 0;
+    for (Long userId : userIds) {
+      buckets += rebuildUseCase.rebuild(userId);
+    }
+    log.info("Rebuilt rollups of {} users, {} buckets", userIds.size(), buckets);
+    return buckets;
+  }
+}
@@ -0,0 +1,33 @@
+package com.finance.manager.cleanarch.interfaces.dto;
+
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the total of one category and transaction type.
+ *
+ * @param category the category
+ * @param type the transaction type, INCOME or EXPENSE
+ * @param total the sum of absolute amounts
+ * @param count the number of transactions
+ * @param currency the ISO 4217 code of the currency of the total
+ */
+public record CategoryTotalDto(String category, String type, BigDecimal total, long count,
+    String currency) {
+
+  /**
+   * Creates a DTO from a category total.
+   *
+   * @param total the category total
+   * @return the DTO
+   */
+  public static CategoryTotalDto fromDomain(CategoryTotal total) {
+    return new CategoryTotalDto(
+        total.category(),
+        total.type().name(),
+        total.total().toBigDecimal(),
+        total.count(),
+        total.total().currency().getCurrencyCode());
+  }
+}
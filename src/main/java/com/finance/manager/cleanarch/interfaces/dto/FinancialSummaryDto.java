@@ -0,0 +1,31 @@
+package com.finance.manager.cleanarch.interfaces.dto;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.FinancialSummary;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the financial summary of a user.
+ *
+ * @param totalIncome the total income
+ * @param totalExpenses the total expenses
+ * @param balance the current balance
+ * @param currency the ISO 4217 code of the currency of all amounts
+ */
+public record FinancialSummaryDto(BigDecimal totalIncome, BigDecimal totalExpenses,
+    BigDecimal balance, String currency) {
+
+  /**
+   * Creates a DTO from a summary.
+   *
+   * @param summary the summary
+   * @return the DTO
+   */
+  public static FinancialSummaryDto fromDomain(FinancialSummary summary) {
+    return new FinancialSummaryDto(
+        summary.totalIncome().toBigDecimal(),
+        summary.totalExpenses().toBigDecimal(),
+        summary.balance().toBigDecimal(),
+        summary.balance().currency().getCurrencyCode());
+  }
+}
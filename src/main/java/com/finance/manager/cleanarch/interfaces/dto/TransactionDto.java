@@ -1,5 +1,6 @@
 package com.finance.manager.cleanarch.interfaces.dto;
 
+import com.finance.manager.cleanarch.domain.model.Money;
 import com.finance.manager.cleanarch.domain.model.Transaction;
 import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
 import com.finance.manager.cleanarch.domain.model.User;
@@ -9,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -22,7 +24,7 @@ import java.time.LocalDateTime;
 public class TransactionDto {
 
   private Long id;
-  private double amount;
+  private BigDecimal amount;
   private String description;
   private String category;
   private TransactionType type;
@@ -33,9 +35,14 @@ public class TransactionDto {
    *
    * @param user the user who owns the transaction
    * @return the domain model
+   * @throws IllegalArgumentException if the amount is missing or has more than two decimals
    */
   public Transaction toDomain(User user) {
-    Transaction transaction = new Transaction(amount, description, category, type, user);
+    if (amount == null) {
+      throw new IllegalArgumentException("Transaction amount is required");
+    }
+    Transaction transaction = new Transaction(Money.of(amount), description, category, type,
+        user);
     transaction.setId(id);
     if (date != null) {
       transaction.setDate(date);
@@ -52,7 +59,7 @@ public class TransactionDto {
   public static TransactionDto fromDomain(Transaction transaction) {
     return new TransactionDto(
         transaction.getId(),
-        transaction.getAmount(),
+        transaction.getAmount().toBigDecimal(),
         transaction.getDescription(),
         transaction.getCategory(),
         transaction.getType(),
@@ -0,0 +1,160 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import rows from CSV one record at a time.
+ * Columns are {@code date,description,category,type,amount}; an optional header row starting
+ * with {@code date} is skipped, and fields may be quoted with {@code "} to contain commas and
+ * line breaks. A row is reported with the line it starts on.
+ * The {@code '} that {@link CsvTransactionWriter} puts before descriptions and categories
+ * starting like a spreadsheet formula is removed.
+ * Rows with too few columns are passed on with the missing fields empty, so that the import
+ * reports them instead of stopping.
+ */
+public class CsvTransactionReader implements Iterator<ImportRow> {
+
+  private static final int COLUMNS = 5;
+
+  private final BufferedReader reader;
+  private long lineNumber;
+  private ImportRow next;
+
+  /**
+   * Creates a reader over CSV content. The caller remains responsible for closing the source.
+   *
+   * @param source the CSV content
+   */
+  public CsvTransactionReader(Reader source) {
+    this.reader = source instanceof BufferedReader buffered
+        ? buffered
+        : new BufferedReader(source);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readRow();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ImportRow row = next;
+    next = null;
+    return row;
+  }
+
+  private ImportRow readRow() {
+    long firstLine;
+    List<String> fields;
+    do {
+      firstLine = lineNumber + 1;
+      fields = readRecord();
+      if (fields == null) {
+        return null;
+      }
+    } while (isBlank(fields) || firstLine == 1 && isHeader(fields.get(0)));
+
+    while (fields.size() < COLUMNS) {
+      fields.add("");
+    }
+    return new ImportRow(firstLine, fields.get(0), unescapeFormula(fields.get(1)),
+        unescapeFormula(fields.get(2)), fields.get(3), fields.get(4));
+  }
+
+  private static String unescapeFormula(String field) {
+    return !field.isEmpty() && field.charAt(0) == CsvTransactionWriter.FORMULA_ESCAPE
+        && CsvTransactionWriter.startsFormula(field.substring(1))
+        ? field.substring(1)
+        : field;
+  }
+
+  private static boolean isBlank(List<String> fields) {
+    return fields.size() == 1 && fields.get(0).isEmpty();
+  }
+
+  private static boolean isHeader(String firstField) {
+    return firstField.regionMatches(true, 0, "date", 0, 4);
+  }
+
+  /**
+   * Reads the fields of the next record. A record ends at a line break outside quotes, so it
+   * spans several lines when a quoted field contains line breaks.
+   *
+   * @return the trimmed fields, or null at the end of the input
+   */
+  private List<String> readRecord() {
+    int c = read();
+    if (c < 0) {
+      return null;
+    }
+    lineNumber++;
+    List<String> fields = new ArrayList<>(COLUMNS);
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (; c >= 0; c = read()) {
+      if (quoted) {
+        if (c == '"' && peek() == '"') {
+          read();
+          field.append('"');
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          if (c == '\n' || c == '\r' && peek() != '\n') {
+            lineNumber++;
+          }
+          field.append((char) c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString().trim());
+        field.setLength(0);
+      } else if (c == '\n') {
+        break;
+      } else if (c == '\r') {
+        if (peek() == '\n') {
+          read();
+        }
+        break;
+      } else {
+        field.append((char) c);
+      }
+    }
+    fields.add(field.toString().trim());
+    return fields;
+  }
+
+  private int read() {
+    try {
+      return reader.read();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int peek() {
+    try {
+      reader.mark(1);
+      int c = reader.read();
+      reader.reset();
+      return c;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import com.finance.manager.cleanarch.domain.model.Transaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes transactions as CSV in the column layout read by {@link CsvTransactionReader},
+ * so that an export can be imported again. Amounts are written unsigned, as the type
+ * column carries the direction. Descriptions and categories that a spreadsheet would run as a
+ * formula, including those starting with a tab or carriage return, are prefixed with
+ * {@code '}, which the reader removes again. Line breaks are kept inside quoted fields.
+ */
+public class CsvTransactionWriter {
+
+  static final String HEADER = "date,description,category,type,amount";
+  static final char FORMULA_ESCAPE = '\'';
+
+  private final Writer writer;
+
+  /**
+   * Creates a writer. The caller remains responsible for flushing and closing the target.
+   *
+   * @param target where the CSV is written
+   */
+  public CsvTransactionWriter(Writer target) {
+    this.writer = target;
+  }
+
+  /**
+   * Writes the header row.
+   */
+  public void writeHeader() {
+    writeLine(HEADER);
+  }
+
+  /**
+   * Writes one transaction as a row.
+   *
+   * @param transaction the transaction to write
+   */
+  public void write(Transaction transaction) {
+    writeLine(String.join(",",
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(transaction.getDate()),
+        quote(neutralise(transaction.getDescription())),
+        quote(neutralise(transaction.getCategory())),
+        transaction.getType().name(),
+        transaction.getAbsoluteAmount().toBigDecimal().toPlainString()));
+  }
+
+  private void writeLine(String line) {
+    try {
+      writer.write(line);
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Tells whether a spreadsheet opening the export would evaluate a cell starting like
+   * {@code value}.
+   *
+   * @param value the cell text, or its remainder after an escape
+   * @return whether the text starts with a formula trigger
+   */
+  static boolean startsFormula(String value) {
+    if (value.isEmpty()) {
+      return false;
+    }
+    char first = value.charAt(0);
+    return first == '=' || first == '+' || first == '-' || first == '@'
+        || first == '\t' || first == '\r';
+  }
+
+  private static String neutralise(String value) {
+    return startsFormula(value) ? FORMULA_ESCAPE + value : value;
+  }
+
+  private static String quote(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
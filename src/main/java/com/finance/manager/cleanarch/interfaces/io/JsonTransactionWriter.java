@@ -0,0 +1,117 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes a list of transactions as JSON, one transaction at a time, so that a response never
+ * holds more than the transaction being written.
+ * The default layout writes one object per transaction with the fields of
+ * {@code TransactionDto}. The columnar layout names the columns once and writes each
+ * transaction as an array, with the amount in signed minor units, which is considerably
+ * smaller for long lists.
+ */
+public class JsonTransactionWriter {
+
+  static final List<String> COLUMNS =
+      List.of("id", "date", "type", "category", "description", "amountMinor", "currency");
+
+  private final JsonGenerator generator;
+  private final boolean columnar;
+
+  /**
+   * Creates a writer. The caller remains responsible for flushing and closing the generator.
+   *
+   * @param generator where the JSON is written
+   * @param columnar whether to use the columnar layout
+   */
+  public JsonTransactionWriter(JsonGenerator generator, boolean columnar) {
+    this.generator = generator;
+    this.columnar = columnar;
+  }
+
+  /**
+   * Opens the enclosing object and the list of transactions.
+   */
+  public void writeStart() {
+    try {
+      generator.writeStartObject();
+      if (columnar) {
+        generator.writeArrayFieldStart("columns");
+        for (String column : COLUMNS) {
+          generator.writeString(column);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("rows");
+      } else {
+        generator.writeArrayFieldStart("transactions");
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes one transaction.
+   *
+   * @param transaction the transaction to write
+   */
+  public void write(Transaction transaction) {
+    try {
+      if (columnar) {
+        writeRow(transaction);
+      } else {
+        writeObject(transaction);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Closes the list of transactions and the enclosing object.
+   *
+   * @param nextCursor the token of the next page, or null if this is the last page
+   */
+  public void writeEnd(String nextCursor) {
+    try {
+      generator.writeEndArray();
+      generator.writeStringField("nextCursor", nextCursor);
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeObject(Transaction transaction) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", transaction.getId());
+    generator.writeNumberField("amount", transaction.getAmount().toBigDecimal());
+    generator.writeStringField("description", transaction.getDescription());
+    generator.writeStringField("category", transaction.getCategory());
+    generator.writeStringField("type", transaction.getType().name());
+    generator.writeStringField("date", formatDate(transaction));
+    generator.writeEndObject();
+  }
+
+  private void writeRow(Transaction transaction) throws IOException {
+    generator.writeStartArray();
+    generator.writeNumber(transaction.getId());
+    generator.writeString(formatDate(transaction));
+    generator.writeString(transaction.getType().name());
+    generator.writeString(transaction.getCategory());
+    generator.writeString(transaction.getDescription());
+    generator.writeNumber(transaction.getAmount().minorUnits());
+    generator.writeString(transaction.getAmount().currency().getCurrencyCode());
+    generator.writeEndArray();
+  }
+
+  private static String formatDate(Transaction transaction) {
+    return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(transaction.getDate());
+  }
+}
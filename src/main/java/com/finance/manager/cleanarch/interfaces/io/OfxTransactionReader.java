@@ -0,0 +1,165 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import rows from the {@code STMTTRN} elements of an OFX bank statement.
+ * Both the SGML form of OFX 1.x, where leaf elements are not closed, and the XML form of
+ * OFX 2.x are accepted. The document is scanned tag by tag, so only the current statement
+ * transaction is held in memory.
+ *
+ * <p>OFX carries no category, so every row is put in {@value #CATEGORY}. The type follows the
+ * sign of {@code TRNAMT}, and {@code NAME} is preferred over {@code MEMO} as description.
+ */
+public class OfxTransactionReader implements Iterator<ImportRow> {
+
+  static final String CATEGORY = "Imported";
+
+  private final BufferedReader reader;
+  private long lineNumber = 1;
+  private int pending = -1;
+  private ImportRow next;
+
+  /**
+   * Creates a reader over OFX content. The caller remains responsible for closing the source.
+   *
+   * @param source the OFX content
+   */
+  public OfxTransactionReader(Reader source) {
+    this.reader = source instanceof BufferedReader buffered
+        ? buffered
+        : new BufferedReader(source);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readRow();
+    }
+    return next != null;
+  }
+
+  @Override
+  public ImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ImportRow row = next;
+    next = null;
+    return row;
+  }
+
+  private ImportRow readRow() {
+    String tag;
+    do {
+      tag = readTag();
+      if (tag == null) {
+        return null;
+      }
+    } while (!tag.equals("STMTTRN"));
+
+    long line = lineNumber;
+    String posted = null;
+    String amount = null;
+    String name = null;
+    String memo = null;
+    while ((tag = readTag()) != null && !tag.equals("/STMTTRN")) {
+      switch (tag) {
+        case "DTPOSTED" -> posted = readValue();
+        case "TRNAMT" -> amount = readValue();
+        case "NAME" -> name = readValue();
+        case "MEMO" -> memo = readValue();
+        default -> {
+          // Other elements are not imported.
+        }
+      }
+    }
+    String description = name != null && !name.isBlank() ? name : memo;
+    return new ImportRow(line, toIsoDate(posted), description, CATEGORY, "",
+        amount != null ? amount.replace(',', '.') : null);
+  }
+
+  /**
+   * Skips to the next tag and returns its upper-cased name, or null at the end of input.
+   */
+  private String readTag() {
+    int c;
+    while ((c = read()) != -1 && c != '<') {
+      // Skip text that belongs to elements that are not read.
+    }
+    if (c == -1) {
+      return null;
+    }
+    StringBuilder tag = new StringBuilder();
+    while ((c = read()) != -1 && c != '>') {
+      tag.append((char) c);
+    }
+    return tag.toString().trim().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * Reads the text of the current element up to the next tag, which is left unread.
+   */
+  private String readValue() {
+    StringBuilder value = new StringBuilder();
+    int c;
+    while ((c = read()) != -1 && c != '<') {
+      value.append((char) c);
+    }
+    pending = c;
+    return unescape(value.toString().trim());
+  }
+
+  private int read() {
+    if (pending != -1) {
+      int c = pending;
+      pending = -1;
+      return c;
+    }
+    try {
+      int c = reader.read();
+      if (c == '\n') {
+        lineNumber++;
+      }
+      return c;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Converts an OFX date such as {@code 20250301120000.000[-3:BRT]} to ISO-8601.
+   * Malformed dates are passed on unchanged so that the import reports them.
+   */
+  private static String toIsoDate(String value) {
+    if (value == null) {
+      return null;
+    }
+    String digits = value.length() >= 14 ? value.substring(0, 14) : value;
+    if (digits.length() == 14 && digits.chars().allMatch(Character::isDigit)) {
+      return digits.substring(0, 4) + "-" + digits.substring(4, 6) + "-"
+          + digits.substring(6, 8) + "T" + digits.substring(8, 10) + ":"
+          + digits.substring(10, 12) + ":" + digits.substring(12, 14);
+    }
+    if (value.length() >= 8 && value.substring(0, 8).chars().allMatch(Character::isDigit)) {
+      return value.substring(0, 4) + "-" + value.substring(4, 6) + "-" + value.substring(6, 8);
+    }
+    return value;
+  }
+
+  private static String unescape(String value) {
+    return value.replace("&lt;", "<")
+        .replace("&gt;", ">")
+        .replace("&quot;", "\"")
+        .replace("&apos;", "'")
+        .replace("&amp;", "&");
+  }
+}
@@ -2,6 +2,7 @@ package com.finance.manager.cleanarch.interfaces.web;
 
 import com.finance.manager.cleanarch.application.usecase.UserUseCase;
 import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.security.PasswordHashingBusyException;
 import com.finance.manager.cleanarch.interfaces.dto.UserDto;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -17,6 +18,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Controller
 public final class AuthController {
 
+  private static final String BUSY_MESSAGE =
+      "We are handling too many sign-ins right now. Please try again in a moment.";
+
   private final UserUseCase userUseCase;
 
   public AuthController(UserUseCase userUseCase) {
@@ -27,6 +31,7 @@ public final class AuthController {
    * Displays the login page.
    *
    * @param error optional error parameter indicating login failure
+   * @param busy optional parameter indicating that the login could not be checked in time
    * @param logout optional logout parameter indicating successful logout
    * @param registered optional registered parameter indicating successful registration
    * @param model the Spring MVC model
@@ -35,6 +40,7 @@ public final class AuthController {
   @GetMapping("/login")
   public String login(
       @RequestParam(required = false) String error,
+      @RequestParam(required = false) String busy,
       @RequestParam(required = false) String logout,
       @RequestParam(required = false) String registered,
       Model model) {
@@ -43,6 +49,10 @@ public final class AuthController {
       model.addAttribute("error", "Invalid credentials. Please check your email and password.");
     }
 
+    if (Boolean.parseBoolean(busy)) {
+      model.addAttribute("error", BUSY_MESSAGE);
+    }
+
     if (Boolean.parseBoolean(logout)) {
       model.addAttribute("message", "You have been successfully logged out.");
     }
@@ -83,25 +93,25 @@ public final class AuthController {
     try {
       // Validate password confirmation
       if (!userDto.getPassword().equals(userDto.getPasswordConfirmation())) {
-        model.addAttribute("error", "Passwords do not match");
-        model.addAttribute("user", userDto);
-        model.addAttribute("passwordRequirements", 
-            User.getPasswordRequirements());
-        model.addAttribute("emailPattern", User.getEmailPattern());
-        model.addAttribute("passwordPattern", User.getPasswordPattern());
-        return "register";
+        return registerFormWithError(userDto, "Passwords do not match", model);
       }
       
       userUseCase.registerUser(userDto.getEmail(), userDto.getPassword(), userDto.getName());
       return "redirect:/login?registered=true";
     } catch (IllegalArgumentException e) {
-      model.addAttribute("error", e.getMessage());
-      model.addAttribute("user", userDto);
-      model.addAttribute("passwordRequirements", 
-          User.getPasswordRequirements());
-      model.addAttribute("emailPattern", User.getEmailPattern());
-      model.addAttribute("passwordPattern", User.getPasswordPattern());
-      return "register";
+      return registerFormWithError(userDto, e.getMessage(), model);
+    } catch (PasswordHashingBusyException e) {
+      return registerFormWithError(userDto, BUSY_MESSAGE, model);
     }
   }
+
+  private String registerFormWithError(UserDto userDto, String error, Model model) {
+    model.addAttribute("error", error);
+    model.addAttribute("user", userDto);
+    model.addAttribute("passwordRequirements", 
+        User.getPasswordRequirements());
+    model.addAttribute("emailPattern", User.getEmailPattern());
+    model.addAttribute("passwordPattern", User.getPasswordPattern());
+    return "register";
+  }
 }
@@ -1,32 +1,53 @@
 package com.finance.manager.cleanarch.interfaces.web;
 
 import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.DashboardView;
 import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.FinancialSummary;
 import com.finance.manager.cleanarch.domain.model.Transaction;
 import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
 import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Controller for dashboard-related operations.
+ * The dashboard answers conditional requests from the user's data version, so refreshing an
+ * unchanged dashboard costs neither the transaction query nor the template render.
+ * The add form carries an idempotency key, so a resubmitted form adds its transaction once.
  */
 @Controller
 @RequiredArgsConstructor
 public class DashboardController {
 
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  /**
+   * Header with which clients other than the add form send an idempotency key.
+   */
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
   private final TransactionUseCase transactionUseCase;
   private final JpaUserRepository userRepository;
 
@@ -42,28 +63,47 @@ public class DashboardController {
   }
 
   /**
-   * Shows the dashboard page with transactions and financial summary.
+   * Shows the dashboard page with one page of transactions and the financial summary.
    *
    * @param principal the authenticated user
+   * @param cursor opaque position of the page to show, absent for the most recent transactions
+   * @param size the number of transactions per page
    * @param model the model to add attributes to
-   * @return the view name
+   * @param webRequest the current request, for conditional GET handling
+   * @return the view name, or null if the client's copy of the page is current
    */
   @GetMapping("/dashboard")
-  public String showDashboard(Principal principal, Model model) {
+  public String showDashboard(Principal principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+      Model model, ServletWebRequest webRequest) {
     User user = userRepository.findByEmail(principal.getName())
         .orElseThrow(() -> new IllegalStateException("User not found"));
+    // A page carrying a flash message is shown once and never answered with 304.
+    boolean hasFlash = !CollectionUtils.isEmpty(
+        RequestContextUtils.getInputFlashMap(webRequest.getRequest()));
+    if (!hasFlash && DataVersionEtags.checkNotModified(webRequest, DataVersionEtags.weak(user,
+        transactionUseCase.getDataVersion(user), webRequest.getSessionId()))) {
+      return null;
+    }
 
-    List<Transaction> transactions = transactionUseCase.getUserTransactions(user);
-    List<TransactionDto> transactionDtos = transactions.stream()
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    DashboardView dashboard = transactionUseCase.getDashboard(user, parseCursor(cursor), pageSize);
+    List<TransactionDto> transactionDtos = dashboard.page().transactions().stream()
         .map(TransactionDto::fromDomain)
         .collect(Collectors.toList());
 
-    FinancialSummary summary = transactionUseCase.getFinancialSummary(user);
+    FinancialSummary summary = dashboard.summary();
+    TransactionCursor next = dashboard.page().nextCursor();
 
     model.addAttribute("transactions", transactionDtos);
-    model.addAttribute("totalIncome", summary.totalIncome());
-    model.addAttribute("totalExpenses", summary.totalExpenses());
-    model.addAttribute("balance", summary.balance());
+    model.addAttribute("nextCursor", next != null ? next.toToken() : null);
+    model.addAttribute("firstPage", cursor == null || cursor.isBlank());
+    model.addAttribute("pageSize", pageSize);
+    model.addAttribute("totalIncome", summary.totalIncome().toBigDecimal());
+    model.addAttribute("totalExpenses", summary.totalExpenses().toBigDecimal());
+    model.addAttribute("balance", summary.balance().toBigDecimal());
+    model.addAttribute("currency", summary.balance().currency().getCurrencyCode());
     model.addAttribute("newTransaction", new TransactionDto());
     model.addAttribute("transactionTypes", TransactionType.values());
 
@@ -71,7 +111,7 @@ public class DashboardController {
   }
 
   /**
-   * Shows the add transaction form.
+   * Shows the add transaction form, with a new idempotency key for its submission.
    *
    * @param model the model to add attributes to
    * @return the view name
@@ -80,20 +120,26 @@ public class DashboardController {
   public String showAddTransactionForm(Model model) {
     model.addAttribute("transaction", new TransactionDto());
     model.addAttribute("transactionTypes", TransactionType.values());
+    model.addAttribute("idempotencyKey", UUID.randomUUID().toString());
     return "transaction/add";
   }
 
   /**
-   * Adds a new transaction.
+   * Adds a new transaction. A request retried with the idempotency key of a transaction that
+   * was already added is answered as the first one was, without adding it again.
    *
    * @param authentication the authenticated user
    * @param transactionDto the transaction data
+   * @param formKey the idempotency key from the add form, if any
+   * @param headerKey the idempotency key from the request header, which takes precedence
    * @param redirectAttributes for flash messages
    * @return redirect to dashboard
    */
   @PostMapping("/dashboard/add")
   public String addTransaction(Authentication authentication,
       @ModelAttribute("transaction") TransactionDto transactionDto,
+      @RequestParam(name = "idempotencyKey", required = false) String formKey,
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String headerKey,
       RedirectAttributes redirectAttributes) {
 
     User user = userRepository.findByEmail(authentication.getName())
@@ -101,7 +147,8 @@ public class DashboardController {
 
     try {
       Transaction transaction = transactionDto.toDomain(user);
-      transactionUseCase.addTransaction(user, transaction);
+      transactionUseCase.addTransaction(user, transaction,
+          headerKey != null ? headerKey : formKey);
       redirectAttributes.addFlashAttribute("success", "Transaction added successfully");
     } catch (Exception e) {
       redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -111,18 +158,14 @@ public class DashboardController {
     return "redirect:/dashboard";
   }
 
-  /**
-   * Adds a new transaction from the API.
-   *
-   * @param authentication the authenticated user
-   * @param transactionDto the transaction data
-   * @return the created transaction
-   */
-  public Transaction addTransactionFromApi(Authentication authentication, 
-                                           TransactionDto transactionDto) {
-    User user = userRepository.findByEmail(authentication.getName())
-        .orElseThrow(() -> new IllegalStateException("User not found"));
-    Transaction transaction = transactionDto.toDomain(user);
-    return transactionUseCase.addTransaction(user, transaction);
+  private TransactionCursor parseCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      return TransactionCursor.fromToken(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+    }
   }
 }
@@ -0,0 +1,91 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET support for views of a user's transactions.
+ * ETags are derived from the user's data version, so a client that still holds the current
+ * view gets a 304 answer before any transaction is read. Responses may be stored by the
+ * client only, and must be revalidated before every use.
+ */
+final class DataVersionEtags {
+
+  private static final String CACHE_CONTROL =
+      CacheControl.noCache().cachePrivate().getHeaderValue();
+
+  private DataVersionEtags() {
+  }
+
+  /**
+   * Creates a strong ETag for responses whose bytes depend only on the user's data.
+   *
+   * @param user the user the response belongs to
+   * @param dataVersion the user's data version
+   * @return the quoted ETag
+   */
+  static String strong(User user, long dataVersion) {
+    return "\"" + user.getId() + "-" + dataVersion + "\"";
+  }
+
+  /**
+   * Creates a strong ETag for one of several representations served from the same URL and
+   * chosen by the request's {@code Accept} header. The media type is part of the ETag, so a
+   * copy of one representation is never revalidated as another; responses must also be
+   * marked with {@link #varyByAccept}.
+   *
+   * @param user the user the response belongs to
+   * @param dataVersion the user's data version
+   * @param mediaType the media type of the representation
+   * @return the quoted ETag
+   */
+  static String strong(User user, long dataVersion, MediaType mediaType) {
+    return "\"" + user.getId() + "-" + dataVersion + "-" + mediaType.getSubtype() + "\"";
+  }
+
+  /**
+   * Creates a weak ETag for rendered pages. Pages embed a CSRF token that is masked anew on
+   * every render and bound to the session, so two renders are equivalent but not identical,
+   * and a page cached in an earlier session must not be reused.
+   *
+   * @param user the user the page belongs to
+   * @param dataVersion the user's data version
+   * @param sessionId the ID of the current session
+   * @return the weak ETag
+   */
+  static String weak(User user, long dataVersion, String sessionId) {
+    return "W/\"" + user.getId() + "-" + dataVersion + "-"
+        + Integer.toHexString(sessionId.hashCode()) + "\"";
+  }
+
+  /**
+   * Marks the response, including a 304 answer, as depending on the request's
+   * {@code Accept} header, so that shared caches keep one copy per representation.
+   *
+   * @param request the current request
+   */
+  static void varyByAccept(ServletWebRequest request) {
+    if (request.getResponse() != null) {
+      request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+  }
+
+  /**
+   * Marks the response as revalidated on every use and compares the ETag with the
+   * request's {@code If-None-Match} header. If they match, the response status is set to
+   * 304 and the caller must return without writing a body.
+   *
+   * @param request the current request
+   * @param etag the ETag of the current view
+   * @return true if the client's copy is current
+   */
+  static boolean checkNotModified(ServletWebRequest request, String etag) {
+    if (request.getResponse() != null) {
+      request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    }
+    return request.checkNotModified(etag);
+  }
+}
@@ -0,0 +1,272 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.ingestion.IngestionRejectedException;
+import com.finance.manager.cleanarch.infrastructure.ingestion.TransactionIngestionQueue;
+import com.finance.manager.cleanarch.infrastructure.ingestion.TransactionIngestionQueue.AckMode;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
+import com.finance.manager.cleanarch.interfaces.dto.CategoryTotalDto;
+import com.finance.manager.cleanarch.interfaces.dto.FinancialSummaryDto;
+import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
+import com.finance.manager.cleanarch.interfaces.io.JsonTransactionWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON API for the authenticated user's transactions.
+ * Lists are written with a streaming generator straight from the domain objects. Clients
+ * that accept {@value #COLUMNAR_JSON_VALUE} get the same list in a compact columnar layout.
+ * Reads carry an ETag derived from the user's data version, and for lists also from the
+ * layout, and are answered with 304 while the client's copy is current. High-rate feeds can
+ * post single transactions to {@code /ingest}, which are written behind in grouped commits.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/transactions")
+public class TransactionApiController {
+
+  /**
+   * Media type of the columnar list layout.
+   */
+  public static final String COLUMNAR_JSON_VALUE = "application/vnd.finance.columnar+json";
+
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final int MAX_BULK_SIZE = 1000;
+
+  private final TransactionUseCase transactionUseCase;
+  private final TransactionIngestionQueue ingestionQueue;
+  private final JpaUserRepository userRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Lists one page of transactions, most recent first, one JSON object per transaction.
+   *
+   * @param principal the authenticated user
+   * @param cursor opaque position of the page, absent for the most recent transactions
+   * @param size the number of transactions per page
+   * @param webRequest the current request, for conditional GET handling
+   * @return the page and the cursor of the next page, or null if the client's copy is current
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> listTransactions(Principal principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+      ServletWebRequest webRequest) {
+    return list(principal, cursor, size, webRequest, MediaType.APPLICATION_JSON, false);
+  }
+
+  /**
+   * Lists one page of transactions, most recent first, in the columnar layout.
+   *
+   * @param principal the authenticated user
+   * @param cursor opaque position of the page, absent for the most recent transactions
+   * @param size the number of transactions per page
+   * @param webRequest the current request, for conditional GET handling
+   * @return the page and the cursor of the next page, or null if the client's copy is current
+   */
+  @GetMapping(produces = COLUMNAR_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> listTransactionsColumnar(Principal principal,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+      ServletWebRequest webRequest) {
+    return list(principal, cursor, size, webRequest,
+        MediaType.parseMediaType(COLUMNAR_JSON_VALUE), true);
+  }
+
+  /**
+   * Adds one transaction.
+   *
+   * @param principal the authenticated user
+   * @param transactionDto the transaction data
+   * @return the created transaction
+   */
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<TransactionDto> createTransaction(Principal principal,
+      @RequestBody TransactionDto transactionDto) {
+    User user = currentUser(principal);
+    Transaction saved = transactionUseCase.addTransaction(user, transactionDto.toDomain(user));
+    return ResponseEntity.status(HttpStatus.CREATED).body(TransactionDto.fromDomain(saved));
+  }
+
+  /**
+   * Queues one transaction to be written behind, in a commit shared with other queued
+   * transactions. The transaction is validated before it is queued. With {@code ack=ACCEPTED}
+   * the response is sent once it is queued; with {@code ack=COMMITTED}, once it is committed
+   * or the commit timeout has passed. A full queue is answered with 503 and Retry-After.
+   *
+   * @param principal the authenticated user
+   * @param transactionDto the transaction data
+   * @param ack when to respond
+   * @return 201 once the transaction is committed, or 202 while it is queued
+   */
+  @PostMapping(path = "/ingest", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Void> ingestTransaction(Principal principal,
+      @RequestBody TransactionDto transactionDto,
+      @RequestParam(defaultValue = "ACCEPTED") AckMode ack) {
+    User user = currentUser(principal);
+    boolean committed = ingestionQueue.submit(transactionDto.toDomain(user), ack);
+    return ResponseEntity.status(committed ? HttpStatus.CREATED : HttpStatus.ACCEPTED).build();
+  }
+
+  /**
+   * Adds a batch of transactions in one unit of work. Either all transactions are added or,
+   * if any of them is invalid, none is.
+   *
+   * @param principal the authenticated user
+   * @param transactionDtos the transaction data
+   * @return the number of created transactions
+   */
+  @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BulkResult> createTransactions(Principal principal,
+      @RequestBody List<TransactionDto> transactionDtos) {
+    if (transactionDtos.isEmpty() || transactionDtos.size() > MAX_BULK_SIZE) {
+      throw new IllegalArgumentException(
+          "A batch must contain between 1 and " + MAX_BULK_SIZE + " transactions");
+    }
+    User user = currentUser(principal);
+    List<Transaction> transactions = new ArrayList<>(transactionDtos.size());
+    for (int i = 0; i < transactionDtos.size(); i++) {
+      try {
+        transactions.add(transactionDtos.get(i).toDomain(user));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Transaction " + i + ": " + e.getMessage(), e);
+      }
+    }
+    transactionUseCase.addTransactions(user, transactions);
+    return ResponseEntity.status(HttpStatus.CREATED).body(new BulkResult(transactions.size()));
+  }
+
+  /**
+   * Gets the financial summary of all transactions.
+   *
+   * @param principal the authenticated user
+   * @param webRequest the current request, for conditional GET handling
+   * @return the summary, or null if the client's copy is current
+   */
+  @GetMapping(path = "/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+  public FinancialSummaryDto getSummary(Principal principal, ServletWebRequest webRequest) {
+    User user = currentUser(principal);
+    if (isNotModified(user, webRequest)) {
+      return null;
+    }
+    return FinancialSummaryDto.fromDomain(transactionUseCase.getFinancialSummary(user));
+  }
+
+  /**
+   * Gets the totals of all transactions per category and type, largest first.
+   *
+   * @param principal the authenticated user
+   * @param webRequest the current request, for conditional GET handling
+   * @return the totals, or null if the client's copy is current
+   */
+  @GetMapping(path = "/categories", produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<CategoryTotalDto> getCategoryBreakdown(Principal principal,
+      ServletWebRequest webRequest) {
+    User user = currentUser(principal);
+    if (isNotModified(user, webRequest)) {
+      return null;
+    }
+    return transactionUseCase.getCategoryBreakdown(user).stream()
+        .map(CategoryTotalDto::fromDomain)
+        .toList();
+  }
+
+  /**
+   * Reports invalid requests as problem details.
+   *
+   * @param e the validation error
+   * @return the problem detail with status 400
+   */
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ProblemDetail handleInvalidRequest(IllegalArgumentException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+  }
+
+  /**
+   * Reports a full or closing ingestion queue as a problem detail.
+   *
+   * @param e the rejection
+   * @return the problem detail with status 503, to be retried after a second
+   */
+  @ExceptionHandler(IngestionRejectedException.class)
+  public ResponseEntity<ProblemDetail> handleIngestionRejected(IngestionRejectedException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+  }
+
+  private ResponseEntity<StreamingResponseBody> list(Principal principal, String cursor,
+      int size, ServletWebRequest webRequest, MediaType mediaType, boolean columnar) {
+    User user = currentUser(principal);
+    // Both layouts are served from one URL, so the ETag and caches must tell them apart.
+    DataVersionEtags.varyByAccept(webRequest);
+    if (DataVersionEtags.checkNotModified(webRequest,
+        DataVersionEtags.strong(user, transactionUseCase.getDataVersion(user), mediaType))) {
+      return null;
+    }
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    TransactionPage page = transactionUseCase.getTransactionPage(user, parseCursor(cursor),
+        pageSize);
+    TransactionCursor next = page.nextCursor();
+
+    StreamingResponseBody body = outputStream -> {
+      JsonGenerator generator =
+          objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+      JsonTransactionWriter writer = new JsonTransactionWriter(generator, columnar);
+      writer.writeStart();
+      page.transactions().forEach(writer::write);
+      writer.writeEnd(next != null ? next.toToken() : null);
+      generator.flush();
+    };
+    return ResponseEntity.ok().contentType(mediaType).body(body);
+  }
+
+  private boolean isNotModified(User user, ServletWebRequest webRequest) {
+    return DataVersionEtags.checkNotModified(webRequest,
+        DataVersionEtags.strong(user, transactionUseCase.getDataVersion(user)));
+  }
+
+  private User currentUser(Principal principal) {
+    return userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new IllegalStateException("User not found"));
+  }
+
+  private TransactionCursor parseCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    return TransactionCursor.fromToken(cursor);
+  }
+
+  /**
+   * Outcome of a bulk creation.
+   *
+   * @param created the number of created transactions
+   */
+  public record BulkResult(int created) {}
+}
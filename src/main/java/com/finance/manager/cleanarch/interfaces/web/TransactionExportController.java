@@ -0,0 +1,69 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
+import com.finance.manager.cleanarch.interfaces.io.CsvTransactionWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+
+/**
+ * Controller for exporting a user's transaction history.
+ */
+@Controller
+@RequiredArgsConstructor
+public class TransactionExportController {
+
+  private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+  private final TransactionUseCase transactionUseCase;
+  private final JpaUserRepository userRepository;
+
+  /**
+   * Downloads all transactions of the authenticated user as CSV.
+   * Rows are written to the response while they are read from the database, so memory use
+   * does not depend on the size of the history. Unchanged histories are answered with 304
+   * from the user's data version.
+   *
+   * @param principal the authenticated user
+   * @param webRequest the current request, for conditional GET handling
+   * @return the CSV download, or null if the client's copy is current
+   */
+  @GetMapping("/dashboard/export")
+  public ResponseEntity<StreamingResponseBody> exportTransactions(Principal principal,
+      ServletWebRequest webRequest) {
+    User user = userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new IllegalStateException("User not found"));
+    if (DataVersionEtags.checkNotModified(webRequest,
+        DataVersionEtags.strong(user, transactionUseCase.getDataVersion(user)))) {
+      return null;
+    }
+
+    StreamingResponseBody body = outputStream -> {
+      Writer writer = new BufferedWriter(
+          new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+      CsvTransactionWriter csv = new CsvTransactionWriter(writer);
+      csv.writeHeader();
+      transactionUseCase.exportTransactions(user, csv::write);
+      writer.flush();
+    };
+    return ResponseEntity.ok()
+        .contentType(TEXT_CSV)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("transactions.csv").build().toString())
+        .body(body);
+  }
+}
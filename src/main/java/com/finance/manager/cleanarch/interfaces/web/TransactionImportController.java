@@ -0,0 +1,115 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import com.finance.manager.cleanarch.application.usecase.ImportInterruptedException;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportResult;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
+import com.finance.manager.cleanarch.interfaces.io.CsvTransactionReader;
+import com.finance.manager.cleanarch.interfaces.io.OfxTransactionReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Controller for importing bank statements as transactions.
+ * The uploaded file is parsed while it is read, so it is never held in memory as a whole.
+ */
+@Controller
+@RequiredArgsConstructor
+public class TransactionImportController {
+
+  private final TransactionImportUseCase transactionImportUseCase;
+  private final JpaUserRepository userRepository;
+
+  /**
+   * Shows the import form.
+   *
+   * @return the view name
+   */
+  @GetMapping("/dashboard/import")
+  public String showImportForm() {
+    return "transaction/import";
+  }
+
+  /**
+   * Imports the transactions of an uploaded CSV or OFX file.
+   *
+   * @param principal the authenticated user
+   * @param file the uploaded statement
+   * @param format {@code csv} or {@code ofx}; derived from the file name when absent
+   * @param model the model to add the import result to
+   * @return the view name
+   */
+  @PostMapping("/dashboard/import")
+  public String importTransactions(Principal principal,
+      @RequestParam("file") MultipartFile file,
+      @RequestParam(required = false) String format,
+      Model model) {
+    User user = userRepository.findByEmail(principal.getName())
+        .orElseThrow(() -> new IllegalStateException("User not found"));
+
+    if (file.isEmpty()) {
+      model.addAttribute("error", "Please choose a file to import");
+      return "transaction/import";
+    }
+
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+      ImportResult result = transactionImportUseCase.importTransactions(user,
+          rowsOf(reader, resolveFormat(format, file.getOriginalFilename())));
+      model.addAttribute("result", result);
+    } catch (ImportInterruptedException e) {
+      ImportResult partial = e.getPartialResult();
+      model.addAttribute("result", partial);
+      model.addAttribute("error", failureReason(e.getCause()) + " The import stopped after "
+          + partial.imported() + " transactions were saved. They are kept, so import only the"
+          + " rows after them to avoid duplicates.");
+    } catch (IOException | UncheckedIOException e) {
+      model.addAttribute("error", "The file could not be read");
+    } catch (IllegalArgumentException e) {
+      model.addAttribute("error", e.getMessage());
+    }
+    return "transaction/import";
+  }
+
+  private static String failureReason(Throwable cause) {
+    if (cause instanceof UncheckedIOException) {
+      return "The file could not be read.";
+    }
+    if (cause instanceof IllegalArgumentException) {
+      return cause.getMessage();
+    }
+    return "The transactions could not be saved.";
+  }
+
+  private static String resolveFormat(String format, String filename) {
+    if (format != null && !format.isBlank()) {
+      return format.trim().toLowerCase(Locale.ROOT);
+    }
+    String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+    return name.endsWith(".ofx") || name.endsWith(".qfx") ? "ofx" : "csv";
+  }
+
+  private static Iterator<ImportRow> rowsOf(BufferedReader reader, String format) {
+    return switch (format) {
+      case "csv" -> new CsvTransactionReader(reader);
+      case "ofx" -> new OfxTransactionReader(reader);
+      default -> throw new IllegalArgumentException("Unsupported import format: " + format);
+    };
+  }
+}
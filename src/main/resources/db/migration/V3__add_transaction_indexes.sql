@@ -0,0 +1,9 @@
+-- Covering index for the per-user dashboard listing ordered by date, including the
+-- keyset continuation on (date, id). Every mapped column is part of the index, so a
+-- page is read in order straight from the index without sorting or table lookups.
+CREATE INDEX idx_transactions_user_date
+    ON transactions (user_id, date DESC, id DESC, type, amount, category, description);
+
+-- Covering index for per-user category lookups and category/type breakdowns.
+CREATE INDEX idx_transactions_user_category
+    ON transactions (user_id, category, type, amount);
@@ -0,0 +1,6 @@
+-- Pooled id sequence for transactions so Hibernate can batch inserts.
+-- Hibernate treats each value as the upper end of a block of 50 ids, so the
+-- sequence starts 50 past the highest existing id.
+CREATE SEQUENCE transactions_seq START WITH 50 INCREMENT BY 50;
+
+ALTER SEQUENCE transactions_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM transactions);
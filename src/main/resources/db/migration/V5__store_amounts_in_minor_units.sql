@@ -0,0 +1,24 @@
+-- Amounts move from DECIMAL to exact BIGINT minor units (cents) with a currency code.
+-- Existing rows are converted with their sign normalized by type: expenses negative,
+-- income positive, as the domain model stores them.
+ALTER TABLE transactions ADD COLUMN amount_minor BIGINT;
+ALTER TABLE transactions ADD COLUMN currency VARCHAR(3) DEFAULT 'USD' NOT NULL;
+
+UPDATE transactions
+SET amount_minor = CAST(ROUND(ABS(amount) * 100) AS BIGINT)
+    * CASE WHEN type = 'EXPENSE' THEN -1 ELSE 1 END;
+
+ALTER TABLE transactions ALTER COLUMN amount_minor SET NOT NULL;
+
+-- The covering indexes include the amount column, so they are rebuilt on the new one.
+DROP INDEX idx_transactions_user_date;
+DROP INDEX idx_transactions_user_category;
+
+ALTER TABLE transactions DROP COLUMN amount;
+
+CREATE INDEX idx_transactions_user_date
+    ON transactions (user_id, date DESC, id DESC, type, amount_minor, currency, category,
+                     description);
+
+CREATE INDEX idx_transactions_user_category
+    ON transactions (user_id, category, type, amount_minor, currency);
@@ -0,0 +1,17 @@
+-- Running totals per user, maintained on every transaction write so the dashboard reads
+-- them with a primary key lookup instead of aggregating the user's history.
+CREATE TABLE user_balances (
+    user_id BIGINT PRIMARY KEY,
+    currency VARCHAR(3) NOT NULL,
+    total_income_minor BIGINT NOT NULL,
+    total_expenses_minor BIGINT NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+INSERT INTO user_balances (user_id, currency, total_income_minor, total_expenses_minor)
+SELECT user_id,
+       MIN(currency),
+       SUM(CASE WHEN type = 'INCOME' THEN ABS(amount_minor) ELSE 0 END),
+       SUM(CASE WHEN type = 'EXPENSE' THEN ABS(amount_minor) ELSE 0 END)
+FROM transactions
+GROUP BY user_id;
@@ -0,0 +1,25 @@
+-- Totals per user, month, category and type, maintained on every transaction write so
+-- charts read one row per bucket instead of aggregating the user's history.
+CREATE TABLE transaction_rollups (
+    user_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    type VARCHAR(10) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    total_minor BIGINT NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, month_start, category, type),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+INSERT INTO transaction_rollups
+    (user_id, month_start, category, type, currency, total_minor, transaction_count)
+SELECT user_id,
+       CAST(DATE_TRUNC('MONTH', date) AS DATE),
+       category,
+       type,
+       MIN(currency),
+       SUM(ABS(amount_minor)),
+       COUNT(*)
+FROM transactions
+GROUP BY user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, type;
@@ -0,0 +1,4 @@
+-- Version of each user's data, advanced with every change to the stored totals. Read paths
+-- derive ETags from it to answer unchanged conditional requests without querying
+-- transactions.
+ALTER TABLE user_balances ADD COLUMN data_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,14 @@
+-- Key sent by a client with a new transaction, so that a retried request does not add the
+-- transaction twice. Keys are unique per user. Transactions added without a key leave it
+-- NULL, and NULLs are never equal in a unique index.
+ALTER TABLE transactions ADD COLUMN idempotency_key VARCHAR(64);
+
+CREATE UNIQUE INDEX uk_transactions_user_idempotency_key
+    ON transactions (user_id, idempotency_key);
+
+-- The dashboard listing index covers every mapped column, so it is rebuilt with the new one.
+DROP INDEX idx_transactions_user_date;
+
+CREATE INDEX idx_transactions_user_date
+    ON transactions (user_id, date DESC, id DESC, type, amount_minor, currency, category,
+                     description, idempotency_key);
@@ -0,0 +1,59 @@
+// Script for the dashboard's spending by category chart
+document.addEventListener('DOMContentLoaded', function() {
+    const canvas = document.getElementById('categoryChart');
+    if (!canvas || typeof Chart === 'undefined') {
+        return;
+    }
+
+    // The breakdown is fetched separately, so the dashboard page does not wait for it
+    fetch(canvas.dataset.url, { headers: { 'Accept': 'application/json' } })
+        .then(function(response) {
+            if (!response.ok) {
+                throw new Error('Could not load the category breakdown: ' + response.status);
+            }
+            return response.json();
+        })
+        .then(function(totals) {
+            // Totals arrive largest first, one per category, type and currency. Amounts in
+            // different currencies cannot share one chart, so only the dashboard's are shown
+            const expenses = totals.filter(function(total) {
+                return total.type === 'EXPENSE' && total.currency === canvas.dataset.currency;
+            });
+            if (expenses.length === 0) {
+                canvas.parentElement.hidden = true;
+                document.getElementById('categoryChartEmpty').hidden = false;
+                return;
+            }
+            new Chart(canvas, {
+                type: 'doughnut',
+                data: {
+                    labels: expenses.map(function(total) { return total.category; }),
+                    datasets: [{
+                        data: expenses.map(function(total) { return Number(total.total); })
+                    }]
+                },
+                options: {
+                    maintainAspectRatio: false,
+                    plugins: {
+                        legend: { position: 'right' },
+                        tooltip: {
+                            callbacks: {
+                                label: function(context) {
+                                    const total = expenses[context.dataIndex];
+                                    const amount = new Intl.NumberFormat(undefined, {
+                                        style: 'currency',
+                                        currency: total.currency
+                                    }).format(total.total);
+                                    return total.category + ': ' + amount
+                                        + ' (' + total.count + ' transactions)';
+                                }
+                            }
+                        }
+                    }
+                }
+            });
+        })
+        .catch(function(error) {
+            console.error(error);
+        });
+});
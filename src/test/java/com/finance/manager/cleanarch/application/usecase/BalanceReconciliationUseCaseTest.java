@@ -0,0 +1,109 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.finance.manager.cleanarch.application.usecase.BalanceReconciliationUseCase.BalanceDrift;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserBalanceRepository;
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for BalanceReconciliationUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationUseCaseTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @Mock
+  private UserBalanceRepository balanceRepository;
+
+  private BalanceReconciliationUseCase reconciliationUseCase;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    reconciliationUseCase = new BalanceReconciliationUseCase(userRepository,
+        transactionRepository, balanceRepository);
+    testUser = new User("test@example.com", "Test@2024", "Test User");
+    testUser.setId(1L);
+  }
+
+  @Test
+  @DisplayName("Should leave totals that match the transactions alone")
+  void reconcile_WithMatchingTotals_ShouldReportNoDrift() {
+    givenLedgerTotals();
+    when(balanceRepository.lockByUser(testUser)).thenReturn(Optional.of(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("40.00"))));
+
+    Optional<BalanceDrift> drift = reconciliationUseCase.reconcile(1L);
+
+    assertTrue(drift.isEmpty());
+    verify(balanceRepository, never()).replace(any());
+  }
+
+  @Test
+  @DisplayName("Should report and correct totals that drifted from the transactions")
+  void reconcile_WithDriftedTotals_ShouldReplaceThem() {
+    UserBalance stored = new UserBalance(1L, Money.parse("100.00"), Money.parse("10.00"));
+    UserBalance ledger = new UserBalance(1L, Money.parse("100.00"), Money.parse("40.00"));
+    givenLedgerTotals();
+    when(balanceRepository.lockByUser(testUser)).thenReturn(Optional.of(stored));
+
+    Optional<BalanceDrift> drift = reconciliationUseCase.reconcile(1L);
+
+    assertEquals(Optional.of(new BalanceDrift(stored, ledger)), drift);
+    assertEquals(1L, drift.get().userId());
+    verify(balanceRepository).replace(ledger);
+  }
+
+  @Test
+  @DisplayName("Should create missing totals of a user with transactions")
+  void reconcile_WithMissingTotals_ShouldCreateThem() {
+    givenLedgerTotals();
+    when(balanceRepository.lockByUser(testUser)).thenReturn(Optional.empty());
+
+    Optional<BalanceDrift> drift = reconciliationUseCase.reconcile(1L);
+
+    assertEquals(UserBalance.empty(1L, Money.DEFAULT_CURRENCY), drift.get().stored());
+    verify(balanceRepository).replace(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("40.00")));
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown user")
+  void reconcile_WithUnknownUser_ShouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> reconciliationUseCase.reconcile(2L));
+    assertEquals("User not found: 2", exception.getMessage());
+  }
+
+  private void givenLedgerTotals() {
+    when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+    when(transactionRepository.sumAmountByType(testUser)).thenReturn(Map.of(
+        TransactionType.INCOME, Money.parse("100.00"),
+        TransactionType.EXPENSE, Money.parse("40.00")));
+  }
+}
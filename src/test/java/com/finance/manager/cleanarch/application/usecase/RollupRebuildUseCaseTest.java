@@ -0,0 +1,58 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for RollupRebuildUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class RollupRebuildUseCaseTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  private RollupRebuildUseCase rebuildUseCase;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    rebuildUseCase = new RollupRebuildUseCase(userRepository, transactionRepository);
+    testUser = new User("test@example.com", "Test@2024", "Test User");
+    testUser.setId(1L);
+  }
+
+  @Test
+  @DisplayName("Should rebuild the rollups of an existing user")
+  void rebuild_ShouldDelegateToRepository() {
+    when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+    when(transactionRepository.rebuildRollups(testUser)).thenReturn(4);
+
+    assertEquals(4, rebuildUseCase.rebuild(1L));
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown user")
+  void rebuild_WithUnknownUser_ShouldThrowException() {
+    when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+    assertThrows(IllegalArgumentException.class, () -> rebuildUseCase.rebuild(99L));
+    verifyNoInteractions(transactionRepository);
+  }
+}
@@ -0,0 +1,192 @@
+package com.finance.manager.cleanarch.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportResult;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.RowError;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for TransactionImportUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionImportUseCaseTest {
+
+  @Mock
+  private TransactionUseCase transactionUseCase;
+
+  private TransactionImportUseCase importUseCase;
+  private User testUser;
+  private List<List<Transaction>> savedChunks;
+
+  @BeforeEach
+  void setUp() {
+    importUseCase = new TransactionImportUseCase(transactionUseCase);
+    testUser = new User("test@example.com", "Test@2024", "Test User");
+    testUser.setId(1L);
+    savedChunks = new ArrayList<>();
+  }
+
+  @Test
+  @DisplayName("Should save rows in fixed-size chunks")
+  void importTransactions_ShouldSaveInChunks() {
+    recordSavedChunks();
+    int rows = TransactionImportUseCase.CHUNK_SIZE * 2 + 1;
+    List<ImportRow> input = IntStream.rangeClosed(1, rows)
+        .mapToObj(i -> new ImportRow(i, "2025-03-01", "Row " + i, "Food", "EXPENSE", "12.50"))
+        .toList();
+
+    ImportResult result = importUseCase.importTransactions(testUser, input.iterator());
+
+    assertEquals(rows, result.imported());
+    assertEquals(0, result.rejected());
+    assertEquals(List.of(TransactionImportUseCase.CHUNK_SIZE, TransactionImportUseCase.CHUNK_SIZE,
+        1), savedChunks.stream().map(List::size).toList());
+  }
+
+  @Test
+  @DisplayName("Should convert rows with the transaction rules")
+  void importTransactions_ShouldConvertRows() {
+    recordSavedChunks();
+    List<ImportRow> input = List.of(
+        new ImportRow(1, "2025-03-01T09:30", "Salary", "Income", "income", "5000"),
+        new ImportRow(2, "2025-03-02 10:00:00", "Rent", "Housing", "", "-1500.00"));
+
+    importUseCase.importTransactions(testUser, input.iterator());
+
+    List<Transaction> saved = savedChunks.get(0);
+    assertEquals(TransactionType.INCOME, saved.get(0).getType());
+    assertEquals(Money.parse("5000.00"), saved.get(0).getAmount());
+    assertEquals(LocalDateTime.of(2025, 3, 1, 9, 30), saved.get(0).getDate());
+    assertEquals(TransactionType.EXPENSE, saved.get(1).getType());
+    assertEquals(Money.parse("-1500.00"), saved.get(1).getAmount());
+    assertEquals(testUser, saved.get(1).getUser());
+  }
+
+  @Test
+  @DisplayName("Should report invalid rows with their line numbers and keep the valid ones")
+  void importTransactions_WithInvalidRows_ShouldReportErrors() {
+    recordSavedChunks();
+    List<ImportRow> input = List.of(
+        new ImportRow(2, "2025-03-01", "Groceries", "Food", "EXPENSE", "abc"),
+        new ImportRow(3, "2025-03-01", "Groceries", "Food", "EXPENSE", "25.00"),
+        new ImportRow(4, "yesterday", "Groceries", "Food", "EXPENSE", "25.00"),
+        new ImportRow(5, "2025-03-01", "", "Food", "EXPENSE", "25.00"),
+        new ImportRow(6, "2025-03-01", "Groceries", "Food", "TRANSFER", "25.00"));
+
+    ImportResult result = importUseCase.importTransactions(testUser, input.iterator());
+
+    assertEquals(1, result.imported());
+    assertEquals(4, result.rejected());
+    assertEquals(List.of(
+        new RowError(2, "Invalid amount: abc"),
+        new RowError(4, "Invalid date: yesterday"),
+        new RowError(5, "Transaction description cannot be empty"),
+        new RowError(6, "Invalid transaction type: TRANSFER")), result.errors());
+  }
+
+  @Test
+  @DisplayName("Should cap the number of reported errors")
+  void importTransactions_WithManyInvalidRows_ShouldCapErrors() {
+    int rows = TransactionImportUseCase.MAX_REPORTED_ERRORS + 10;
+    List<ImportRow> input = IntStream.rangeClosed(1, rows)
+        .mapToObj(i -> new ImportRow(i, "2025-03-01", "Row", "Food", "EXPENSE", "0"))
+        .toList();
+
+    ImportResult result = importUseCase.importTransactions(testUser, input.iterator());
+
+    assertEquals(0, result.imported());
+    assertEquals(rows, result.rejected());
+    assertEquals(TransactionImportUseCase.MAX_REPORTED_ERRORS, result.errors().size());
+    assertTrue(result.errors().stream().allMatch(
+        error -> error.message().equals("Transaction amount cannot be zero")));
+    verifyNoInteractions(transactionUseCase);
+  }
+
+  @Test
+  @DisplayName("Should report the saved chunks when reading fails partway")
+  void importTransactions_WhenReadingFails_ShouldReportSavedChunks() {
+    recordSavedChunks();
+    int readable = TransactionImportUseCase.CHUNK_SIZE + 10;
+    Iterator<ImportRow> rows = new Iterator<>() {
+      private int line;
+
+      @Override
+      public boolean hasNext() {
+        if (line == readable) {
+          throw new UncheckedIOException(new IOException("Connection reset"));
+        }
+        return true;
+      }
+
+      @Override
+      public ImportRow next() {
+        line++;
+        return new ImportRow(line, "2025-03-01", "Row " + line, "Food", "EXPENSE", "12.50");
+      }
+    };
+
+    ImportInterruptedException exception = assertThrows(ImportInterruptedException.class,
+        () -> importUseCase.importTransactions(testUser, rows));
+
+    assertEquals(new ImportResult(TransactionImportUseCase.CHUNK_SIZE, 0, List.of()),
+        exception.getPartialResult());
+    assertInstanceOf(UncheckedIOException.class, exception.getCause());
+    assertEquals(1, savedChunks.size());
+  }
+
+  @Test
+  @DisplayName("Should not count a chunk that could not be saved")
+  void importTransactions_WhenSavingFails_ShouldReportEarlierChunks() {
+    doAnswer(invocation -> null)
+        .doThrow(new IllegalStateException("Database unavailable"))
+        .when(transactionUseCase).addTransactions(eq(testUser), anyList());
+    List<ImportRow> input = IntStream.rangeClosed(1, TransactionImportUseCase.CHUNK_SIZE * 2)
+        .mapToObj(i -> new ImportRow(i, "2025-03-01", "Row " + i, "Food", "EXPENSE", "12.50"))
+        .toList();
+
+    ImportInterruptedException exception = assertThrows(ImportInterruptedException.class,
+        () -> importUseCase.importTransactions(testUser, input.iterator()));
+
+    assertEquals(TransactionImportUseCase.CHUNK_SIZE, exception.getPartialResult().imported());
+  }
+
+  @Test
+  @DisplayName("Should reject an import without a user")
+  void importTransactions_WithNullUser_ShouldThrowException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> importUseCase.importTransactions(null, List.<ImportRow>of().iterator()));
+  }
+
+  private void recordSavedChunks() {
+    doAnswer(invocation -> {
+      List<Transaction> chunk = invocation.getArgument(1);
+      savedChunks.add(new ArrayList<>(chunk));
+      return null;
+    }).when(transactionUseCase).addTransactions(eq(testUser), anyList());
+  }
+}
@@ -3,23 +3,44 @@ package com.finance.manager.cleanarch.application.usecase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
 import com.finance.manager.cleanarch.domain.model.Transaction;
 import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
 import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
 import com.finance.manager.cleanarch.domain.repository.TransactionRepository;
+import com.finance.manager.cleanarch.domain.repository.UserBalanceRepository;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * Unit tests for TransactionUseCase.
@@ -30,6 +51,9 @@ class TransactionUseCaseTest {
   @Mock
   private TransactionRepository transactionRepository;
 
+  @Mock
+  private UserBalanceRepository balanceRepository;
+
   @Captor
   private ArgumentCaptor<Transaction> transactionCaptor;
 
@@ -38,7 +62,8 @@ class TransactionUseCaseTest {
 
   @BeforeEach
   void setUp() {
-    transactionUseCase = new TransactionUseCase(transactionRepository);
+    transactionUseCase = new TransactionUseCase(transactionRepository, balanceRepository,
+        TransactionOperations.withoutTransaction());
     testUser = new User("test@example.com", "Test@2024", "Test User");
     testUser.setId(1L);
   }
@@ -46,65 +71,126 @@ class TransactionUseCaseTest {
   @Test
   @DisplayName("Should add income transaction with positive amount")
   void addTransaction_WithPositiveIncome_ShouldKeepPositive() {
-    Transaction income = new Transaction(100.0, "Salary", "Income", TransactionType.INCOME, testUser);
+    Transaction income = new Transaction(Money.parse("100.00"), "Salary", "Income", TransactionType.INCOME, testUser);
     when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArguments()[0]);
 
     Transaction saved = transactionUseCase.addTransaction(testUser, income);
 
-    verify(transactionRepository).save(transactionCaptor.capture());
+    InOrder order = inOrder(transactionRepository, balanceRepository);
+    order.verify(transactionRepository).addToRollups(testUser, List.of(income));
+    order.verify(transactionRepository).save(transactionCaptor.capture());
+    order.verify(balanceRepository).add(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("0.00")));
     Transaction captured = transactionCaptor.getValue();
-    assertEquals(100.0, captured.getAmount());
-    assertEquals(100.0, saved.getAmount());
+    assertEquals(Money.parse("100.00"), captured.getAmount());
+    assertEquals(Money.parse("100.00"), saved.getAmount());
+  }
+
+  @Test
+  @DisplayName("Should store the idempotency key with a new transaction")
+  void addTransaction_WithNewIdempotencyKey_ShouldSaveWithKey() {
+    Transaction expense = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    when(transactionRepository.findByIdempotencyKey(testUser, "key-1")).thenReturn(Optional.empty());
+    when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArguments()[0]);
+
+    transactionUseCase.addTransaction(testUser, expense, "key-1");
+
+    verify(transactionRepository).save(transactionCaptor.capture());
+    assertEquals("key-1", transactionCaptor.getValue().getIdempotencyKey());
+  }
+
+  @Test
+  @DisplayName("Should return the original transaction for a key that was already used")
+  void addTransaction_WithUsedIdempotencyKey_ShouldNotInsertAgain() {
+    Transaction original = Transaction.rehydrate(7L, Money.parse("-50.00"), "Rent", "Housing",
+        TransactionType.EXPENSE, LocalDateTime.now(), testUser);
+    Transaction retry = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    when(transactionRepository.findByIdempotencyKey(testUser, "key-1")).thenReturn(Optional.of(original));
+
+    Transaction result = transactionUseCase.addTransaction(testUser, retry, "key-1");
+
+    assertEquals(7L, result.getId());
+    verify(transactionRepository, never()).save(any(Transaction.class));
+    verifyNoInteractions(balanceRepository);
+  }
+
+  @Test
+  @DisplayName("Should return the winner's transaction when a concurrent retry inserted first")
+  void addTransaction_WhenKeyInsertedConcurrently_ShouldReturnWinner() {
+    Transaction winner = Transaction.rehydrate(7L, Money.parse("-50.00"), "Rent", "Housing",
+        TransactionType.EXPENSE, LocalDateTime.now(), testUser);
+    Transaction retry = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    when(transactionRepository.findByIdempotencyKey(testUser, "key-1"))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(winner));
+    when(transactionRepository.save(any(Transaction.class)))
+        .thenThrow(new DataIntegrityViolationException("uk_transactions_user_idempotency_key"));
+
+    Transaction result = transactionUseCase.addTransaction(testUser, retry, "key-1");
+
+    assertEquals(7L, result.getId());
+  }
+
+  @Test
+  @DisplayName("Should reject a blank idempotency key")
+  void addTransaction_WithBlankIdempotencyKey_ShouldThrowException() {
+    Transaction expense = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> transactionUseCase.addTransaction(testUser, expense, " "));
+    verifyNoInteractions(transactionRepository);
   }
 
   @Test
   @DisplayName("Should add expense transaction with negative amount")
   void addTransaction_WithPositiveExpense_ShouldConvertToNegative() {
-    Transaction expense = new Transaction(50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    Transaction expense = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
     when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArguments()[0]);
 
     Transaction saved = transactionUseCase.addTransaction(testUser, expense);
 
     verify(transactionRepository).save(transactionCaptor.capture());
     Transaction captured = transactionCaptor.getValue();
-    assertEquals(-50.0, captured.getAmount());
-    assertEquals(-50.0, saved.getAmount());
+    assertEquals(Money.parse("-50.00"), captured.getAmount());
+    assertEquals(Money.parse("-50.00"), saved.getAmount());
+    verify(balanceRepository).add(
+        new UserBalance(1L, Money.parse("0.00"), Money.parse("50.00")));
   }
 
   @Test
   @DisplayName("Should handle negative expense amount")
   void addTransaction_WithNegativeExpense_ShouldKeepNegative() {
-    Transaction expense = new Transaction(-50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    Transaction expense = new Transaction(Money.parse("-50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
     when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArguments()[0]);
 
     Transaction saved = transactionUseCase.addTransaction(testUser, expense);
 
     verify(transactionRepository).save(transactionCaptor.capture());
     Transaction captured = transactionCaptor.getValue();
-    assertEquals(-50.0, captured.getAmount());
-    assertEquals(-50.0, saved.getAmount());
+    assertEquals(Money.parse("-50.00"), captured.getAmount());
+    assertEquals(Money.parse("-50.00"), saved.getAmount());
   }
 
   @Test
   @DisplayName("Should handle negative income amount")
   void addTransaction_WithNegativeIncome_ShouldConvertToPositive() {
-    Transaction income = new Transaction(-100.0, "Salary", "Income", TransactionType.INCOME, testUser);
+    Transaction income = new Transaction(Money.parse("-100.00"), "Salary", "Income", TransactionType.INCOME, testUser);
     when(transactionRepository.save(any(Transaction.class))).thenAnswer(i -> i.getArguments()[0]);
 
     Transaction saved = transactionUseCase.addTransaction(testUser, income);
 
     verify(transactionRepository).save(transactionCaptor.capture());
     Transaction captured = transactionCaptor.getValue();
-    assertEquals(100.0, captured.getAmount());
-    assertEquals(100.0, saved.getAmount());
+    assertEquals(Money.parse("100.00"), captured.getAmount());
+    assertEquals(Money.parse("100.00"), saved.getAmount());
   }
 
   @Test
   @DisplayName("Should get user transactions")
   void getUserTransactions_ShouldReturnUserTransactions() {
     List<Transaction> transactions = Arrays.asList(
-        new Transaction(100.0, "Salary", "Income", TransactionType.INCOME, testUser),
-        new Transaction(50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser)
+        new Transaction(Money.parse("100.00"), "Salary", "Income", TransactionType.INCOME, testUser),
+        new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser)
     );
     when(transactionRepository.findByUser(testUser)).thenReturn(transactions);
 
@@ -115,20 +201,145 @@ class TransactionUseCaseTest {
   }
 
   @Test
-  @DisplayName("Should calculate financial summary")
+  @DisplayName("Should add a batch and its totals together")
+  void addTransactions_ShouldSaveBatchAndAddTotals() {
+    List<Transaction> batch = List.of(
+        new Transaction(Money.parse("100.00"), "Salary", "Income", TransactionType.INCOME, testUser),
+        new Transaction(Money.parse("30.00"), "Food", "Food", TransactionType.EXPENSE, testUser),
+        new Transaction(Money.parse("-20.00"), "Bus", "Transport", TransactionType.EXPENSE, testUser));
+
+    transactionUseCase.addTransactions(testUser, batch);
+
+    InOrder order = inOrder(transactionRepository, balanceRepository);
+    order.verify(transactionRepository).addToRollups(testUser, batch);
+    order.verify(transactionRepository).saveAll(batch);
+    order.verify(balanceRepository).add(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("50.00")));
+  }
+
+  @Test
+  @DisplayName("Should read monthly totals from the rollups")
+  void getMonthlyTotals_ShouldDelegateToRollups() {
+    YearMonth from = YearMonth.of(2025, 1);
+    YearMonth to = YearMonth.of(2025, 6);
+    List<MonthlyTotal> totals = List.of(
+        new MonthlyTotal(from, TransactionType.EXPENSE, Money.parse("42.50"), 2));
+    when(transactionRepository.findMonthlyTotals(testUser, from, to)).thenReturn(totals);
+
+    assertEquals(totals, transactionUseCase.getMonthlyTotals(testUser, from, to));
+  }
+
+  @Test
+  @DisplayName("Should read the category breakdown from the rollups")
+  void getCategoryBreakdown_ShouldDelegateToRollups() {
+    YearMonth month = YearMonth.of(2025, 1);
+    List<CategoryTotal> totals = List.of(
+        new CategoryTotal("Food", TransactionType.EXPENSE, Money.parse("42.50"), 2));
+    when(transactionRepository.findCategoryTotals(testUser, month, month)).thenReturn(totals);
+
+    assertEquals(totals, transactionUseCase.getCategoryBreakdown(testUser, month, month));
+  }
+
+  @Test
+  @DisplayName("Should read the all-time category breakdown from the repository aggregate")
+  void getCategoryBreakdown_WithoutRange_ShouldDelegateToRepository() {
+    List<CategoryTotal> totals = List.of(
+        new CategoryTotal("Housing", TransactionType.EXPENSE, Money.parse("900.00"), 1));
+    when(transactionRepository.findCategoryTotals(testUser)).thenReturn(totals);
+
+    assertEquals(totals, transactionUseCase.getCategoryBreakdown(testUser));
+  }
+
+  @Test
+  @DisplayName("Should reject a month range that ends before it starts")
+  void getMonthlyTotals_WithReversedRange_ShouldThrowException() {
+    assertThrows(IllegalArgumentException.class, () -> transactionUseCase.getMonthlyTotals(
+        testUser, YearMonth.of(2025, 6), YearMonth.of(2025, 1)));
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("Should read the data version from the stored totals")
+  void getDataVersion_ShouldDelegateToBalances() {
+    when(balanceRepository.findDataVersion(testUser)).thenReturn(7L);
+
+    assertEquals(7L, transactionUseCase.getDataVersion(testUser));
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("Should not touch the stores for an empty batch")
+  void addTransactions_WithEmptyBatch_ShouldDoNothing() {
+    transactionUseCase.addTransactions(testUser, List.of());
+
+    verifyNoInteractions(transactionRepository, balanceRepository);
+  }
+
+  @Test
+  @DisplayName("Should read financial summary from the stored totals")
   void getFinancialSummary_ShouldCalculateCorrectly() {
-    List<Transaction> transactions = Arrays.asList(
-        new Transaction(100.0, "Salary", "Income", TransactionType.INCOME, testUser),
-        new Transaction(50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser)
-    );
-    when(transactionRepository.findByUser(testUser)).thenReturn(transactions);
+    when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("50.00"))));
 
     TransactionUseCase.FinancialSummary summary = transactionUseCase.getFinancialSummary(testUser);
 
-    assertEquals(100.0, summary.totalIncome());
-    assertEquals(50.0, summary.totalExpenses());
-    assertEquals(50.0, summary.balance());
-    verify(transactionRepository).findByUser(testUser);
+    assertEquals(Money.parse("100.00"), summary.totalIncome());
+    assertEquals(Money.parse("50.00"), summary.totalExpenses());
+    assertEquals(Money.parse("50.00"), summary.balance());
+    verify(balanceRepository).findByUser(testUser);
+    verifyNoInteractions(transactionRepository);
+  }
+
+  @Test
+  @DisplayName("Should return zero summary when user has no stored totals")
+  void getFinancialSummary_WithNoTransactions_ShouldReturnZero() {
+    when(balanceRepository.findByUser(testUser)).thenReturn(Optional.empty());
+
+    TransactionUseCase.FinancialSummary summary = transactionUseCase.getFinancialSummary(testUser);
+
+    assertEquals(Money.parse("0.00"), summary.totalIncome());
+    assertEquals(Money.parse("0.00"), summary.totalExpenses());
+    assertEquals(Money.parse("0.00"), summary.balance());
+  }
+
+  @Test
+  @DisplayName("Should build dashboard from one page and the aggregated totals")
+  void getDashboard_ShouldCombinePageAndSummary() {
+    TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2025, 3, 1, 9, 0), 7L);
+    TransactionPage page = new TransactionPage(List.of(
+        new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser)), null);
+    when(transactionRepository.findPageByUser(testUser, cursor, 10)).thenReturn(page);
+    when(balanceRepository.findByUser(testUser)).thenReturn(Optional.of(
+        new UserBalance(1L, Money.parse("100.00"), Money.parse("70.00"))));
+
+    TransactionUseCase.DashboardView dashboard =
+        transactionUseCase.getDashboard(testUser, cursor, 10);
+
+    assertEquals(page, dashboard.page());
+    assertEquals(Money.parse("100.00"), dashboard.summary().totalIncome());
+    assertEquals(Money.parse("70.00"), dashboard.summary().totalExpenses());
+    assertEquals(Money.parse("30.00"), dashboard.summary().balance());
+    verify(transactionRepository).findPageByUser(testUser, cursor, 10);
+    verify(balanceRepository).findByUser(testUser);
+    verifyNoMoreInteractions(transactionRepository, balanceRepository);
+  }
+
+  @Test
+  @DisplayName("Should pass every exported transaction to the consumer")
+  void exportTransactions_ShouldStreamFromRepository() {
+    Transaction income = new Transaction(Money.parse("100.00"), "Salary", "Income", TransactionType.INCOME, testUser);
+    Transaction expense = new Transaction(Money.parse("50.00"), "Food", "Food", TransactionType.EXPENSE, testUser);
+    doAnswer(invocation -> {
+      Consumer<Transaction> action = invocation.getArgument(1);
+      action.accept(income);
+      action.accept(expense);
+      return null;
+    }).when(transactionRepository).forEachByUser(eq(testUser), any());
+
+    List<Transaction> exported = new ArrayList<>();
+    transactionUseCase.exportTransactions(testUser, exported::add);
+
+    assertEquals(List.of(income, expense), exported);
   }
 
   @Test
@@ -142,7 +353,7 @@ class TransactionUseCaseTest {
   @Test
   @DisplayName("Should throw exception for null user")
   void addTransaction_WithNullUser_ShouldThrowException() {
-    Transaction transaction = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction transaction = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
     transaction.setUser(null);
     Exception exception = assertThrows(IllegalArgumentException.class,
         () -> transactionUseCase.addTransaction(testUser, transaction));
@@ -0,0 +1,98 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Money value object.
+ */
+class MoneyTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+
+  @Test
+  @DisplayName("Should parse decimal amounts into minor units")
+  void parse_ShouldConvertToMinorUnits() {
+    assertEquals(Money.ofMinor(1250), Money.parse("12.50"));
+    assertEquals(Money.ofMinor(1250), Money.parse("12.5"));
+    assertEquals(Money.ofMinor(-99), Money.parse(" -0.99 "));
+    assertEquals(Money.ofMinor(100), Money.parse("1"));
+  }
+
+  @Test
+  @DisplayName("Should reject amounts that are not numbers")
+  void parse_WithInvalidText_ShouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> Money.parse("abc"));
+    assertEquals("Invalid amount: abc", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should reject amounts with more decimals than the currency has")
+  void of_WithExcessScale_ShouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> Money.of(new BigDecimal("1.005")));
+    assertEquals("Amount 1.005 cannot be represented in USD", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should sum exactly where doubles drift")
+  void plus_ShouldBeExact() {
+    Money sum = Money.ofMinor(0);
+    double doubleSum = 0;
+    for (int i = 0; i < 1000; i++) {
+      sum = sum.plus(Money.parse("0.10"));
+      doubleSum += 0.10;
+    }
+
+    assertEquals(Money.parse("100.00"), sum);
+    assertTrue(doubleSum != 100.0);
+  }
+
+  @Test
+  @DisplayName("Should subtract, negate and take absolute values")
+  void arithmetic_ShouldKeepCurrency() {
+    Money income = Money.parse("100.00");
+    Money expenses = Money.parse("130.25");
+
+    Money balance = income.minus(expenses);
+
+    assertEquals(Money.parse("-30.25"), balance);
+    assertTrue(balance.isNegative());
+    assertEquals(Money.parse("30.25"), balance.abs());
+    assertEquals(Money.parse("30.25"), balance.negate());
+    assertTrue(balance.plus(balance.negate()).isZero());
+    assertFalse(income.isZero());
+  }
+
+  @Test
+  @DisplayName("Should refuse to combine different currencies")
+  void plus_WithDifferentCurrency_ShouldThrowException() {
+    Money euros = new Money(100, EUR);
+
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> Money.ofMinor(100).plus(euros));
+    assertEquals("Cannot combine USD and EUR amounts", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should report overflow instead of wrapping around")
+  void plus_WithOverflow_ShouldThrowException() {
+    assertThrows(ArithmeticException.class,
+        () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+  }
+
+  @Test
+  @DisplayName("Should convert to a decimal with the currency's number of decimals")
+  void toBigDecimal_ShouldUseCurrencyScale() {
+    assertEquals(new BigDecimal("12.50"), Money.ofMinor(1250).toBigDecimal());
+    assertEquals(new BigDecimal("-0.07"), Money.ofMinor(-7).toBigDecimal());
+    assertEquals("12.50 USD", Money.ofMinor(1250).toString());
+  }
+}
@@ -26,8 +26,8 @@ class TransactionTest {
   @Test
   @DisplayName("Should create valid income transaction")
   void createValidIncomeTransaction() {
-    Transaction transaction = new Transaction(100.0, "Salary", "Income", TransactionType.INCOME, testUser);
-    assertEquals(100.0, transaction.getAmount());
+    Transaction transaction = new Transaction(Money.parse("100.00"), "Salary", "Income", TransactionType.INCOME, testUser);
+    assertEquals(Money.parse("100.00"), transaction.getAmount());
     assertEquals("Salary", transaction.getDescription());
     assertEquals("Income", transaction.getCategory());
     assertEquals(TransactionType.INCOME, transaction.getType());
@@ -38,9 +38,9 @@ class TransactionTest {
   @Test
   @DisplayName("Should create valid expense transaction")
   void createValidExpenseTransaction() {
-    Transaction transaction = new Transaction(50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser);
-    assertEquals(-50.0, transaction.getAmount());
-    assertEquals(50.0, transaction.getAbsoluteAmount());
+    Transaction transaction = new Transaction(Money.parse("50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    assertEquals(Money.parse("-50.00"), transaction.getAmount());
+    assertEquals(Money.parse("50.00"), transaction.getAbsoluteAmount());
     assertEquals("Rent", transaction.getDescription());
     assertEquals("Housing", transaction.getCategory());
     assertEquals(TransactionType.EXPENSE, transaction.getType());
@@ -52,31 +52,39 @@ class TransactionTest {
   @DisplayName("Should throw exception for zero amount")
   void shouldThrowExceptionForZeroAmount() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(0.0, "Test", "Test", TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("0.00"), "Test", "Test", TransactionType.INCOME, testUser));
     assertEquals("Transaction amount cannot be zero", exception.getMessage());
   }
 
+  @Test
+  @DisplayName("Should throw exception for null amount")
+  void shouldThrowExceptionForNullAmount() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new Transaction(null, "Test", "Test", TransactionType.INCOME, testUser));
+    assertEquals("Transaction amount cannot be null", exception.getMessage());
+  }
+
   @Test
   @DisplayName("Should handle negative income amount")
   void shouldHandleNegativeIncomeAmount() {
-    Transaction transaction = new Transaction(-100.0, "Salary", "Income", TransactionType.INCOME, testUser);
-    assertEquals(100.0, transaction.getAmount());
-    assertEquals(100.0, transaction.getAbsoluteAmount());
+    Transaction transaction = new Transaction(Money.parse("-100.00"), "Salary", "Income", TransactionType.INCOME, testUser);
+    assertEquals(Money.parse("100.00"), transaction.getAmount());
+    assertEquals(Money.parse("100.00"), transaction.getAbsoluteAmount());
   }
 
   @Test
   @DisplayName("Should handle negative expense amount")
   void shouldHandleNegativeExpenseAmount() {
-    Transaction transaction = new Transaction(-50.0, "Rent", "Housing", TransactionType.EXPENSE, testUser);
-    assertEquals(-50.0, transaction.getAmount());
-    assertEquals(50.0, transaction.getAbsoluteAmount());
+    Transaction transaction = new Transaction(Money.parse("-50.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    assertEquals(Money.parse("-50.00"), transaction.getAmount());
+    assertEquals(Money.parse("50.00"), transaction.getAbsoluteAmount());
   }
 
   @Test
   @DisplayName("Should throw exception for null description")
   void shouldThrowExceptionForNullDescription() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, null, "Test", TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), null, "Test", TransactionType.INCOME, testUser));
     assertEquals("Transaction description cannot be empty", exception.getMessage());
   }
 
@@ -84,7 +92,7 @@ class TransactionTest {
   @DisplayName("Should throw exception for empty description")
   void shouldThrowExceptionForEmptyDescription() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "", "Test", TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), "", "Test", TransactionType.INCOME, testUser));
     assertEquals("Transaction description cannot be empty", exception.getMessage());
   }
 
@@ -93,7 +101,7 @@ class TransactionTest {
   void shouldThrowExceptionForDescriptionTooLong() {
     String longDescription = "a".repeat(256);
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, longDescription, "Test", TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), longDescription, "Test", TransactionType.INCOME, testUser));
     assertEquals("Transaction description cannot exceed 255 characters", exception.getMessage());
   }
 
@@ -101,7 +109,7 @@ class TransactionTest {
   @DisplayName("Should throw exception for null category")
   void shouldThrowExceptionForNullCategory() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "Test", null, TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), "Test", null, TransactionType.INCOME, testUser));
     assertEquals("Transaction category cannot be empty", exception.getMessage());
   }
 
@@ -109,7 +117,7 @@ class TransactionTest {
   @DisplayName("Should throw exception for empty category")
   void shouldThrowExceptionForEmptyCategory() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "Test", "", TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), "Test", "", TransactionType.INCOME, testUser));
     assertEquals("Transaction category cannot be empty", exception.getMessage());
   }
 
@@ -118,7 +126,7 @@ class TransactionTest {
   void shouldThrowExceptionForCategoryTooLong() {
     String longCategory = "a".repeat(51);
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "Test", longCategory, TransactionType.INCOME, testUser));
+        () -> new Transaction(Money.parse("100.00"), "Test", longCategory, TransactionType.INCOME, testUser));
     assertEquals("Transaction category cannot exceed 50 characters", exception.getMessage());
   }
 
@@ -126,7 +134,7 @@ class TransactionTest {
   @DisplayName("Should throw exception for null type")
   void shouldThrowExceptionForNullType() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "Test", "Test", null, testUser));
+        () -> new Transaction(Money.parse("100.00"), "Test", "Test", null, testUser));
     assertEquals("Transaction type cannot be null", exception.getMessage());
   }
 
@@ -134,14 +142,14 @@ class TransactionTest {
   @DisplayName("Should throw exception for null user")
   void shouldThrowExceptionForNullUser() {
     Exception exception = assertThrows(IllegalArgumentException.class,
-        () -> new Transaction(100.0, "Test", "Test", TransactionType.INCOME, null));
+        () -> new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, null));
     assertEquals("User cannot be null", exception.getMessage());
   }
 
   @Test
   @DisplayName("Should set and get ID")
   void shouldSetAndGetId() {
-    Transaction transaction = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction transaction = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
     transaction.setId(1L);
     assertEquals(1L, transaction.getId());
   }
@@ -149,7 +157,7 @@ class TransactionTest {
   @Test
   @DisplayName("Should set and get date")
   void shouldSetAndGetDate() {
-    Transaction transaction = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction transaction = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
     LocalDateTime now = LocalDateTime.now();
     transaction.setDate(now);
     assertEquals(now, transaction.getDate());
@@ -158,7 +166,7 @@ class TransactionTest {
   @Test
   @DisplayName("Should set and get user")
   void shouldSetAndGetUser() {
-    Transaction transaction = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction transaction = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
     User newUser = new User("new@example.com", "Test@2024", "New User");
     transaction.setUser(newUser);
     assertEquals(newUser, transaction.getUser());
@@ -167,11 +175,28 @@ class TransactionTest {
   @Test
   @DisplayName("Should compare transactions by ID")
   void shouldCompareTransactionsById() {
-    Transaction t1 = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
-    Transaction t2 = new Transaction(100.0, "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction t1 = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
+    Transaction t2 = new Transaction(Money.parse("100.00"), "Test", "Test", TransactionType.INCOME, testUser);
     t1.setId(1L);
     t2.setId(1L);
     assertEquals(t1, t2);
     assertEquals(t1.hashCode(), t2.hashCode());
   }
+
+  @Test
+  @DisplayName("Should rehydrate a stored transaction keeping its ID and date")
+  void rehydrate_ShouldRestoreStoredState() {
+    LocalDateTime date = LocalDateTime.of(2025, 3, 5, 10, 0);
+
+    Transaction transaction = Transaction.rehydrate(
+        3L, Money.parse("1500.00"), "Rent", "Housing", TransactionType.EXPENSE, date, testUser);
+
+    assertEquals(3L, transaction.getId());
+    assertEquals(Money.parse("-1500.00"), transaction.getAmount());
+    assertEquals("Rent", transaction.getDescription());
+    assertEquals("Housing", transaction.getCategory());
+    assertEquals(TransactionType.EXPENSE, transaction.getType());
+    assertEquals(date, transaction.getDate());
+    assertEquals(testUser, transaction.getUser());
+  }
 }
@@ -0,0 +1,71 @@
+package com.finance.manager.cleanarch.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UserBalance domain model.
+ */
+class UserBalanceTest {
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    testUser = new User("test@example.com", "Test@2024", "Test User");
+    testUser.setId(1L);
+  }
+
+  @Test
+  @DisplayName("Should total income and expenses of transactions as positive amounts")
+  void of_WithTransactions_ShouldTotalPerType() {
+    UserBalance balance = UserBalance.of(1L, List.of(
+        new Transaction(Money.parse("1000.00"), "Salary", "Income", TransactionType.INCOME, testUser),
+        new Transaction(Money.parse("250.50"), "Rent", "Housing", TransactionType.EXPENSE, testUser),
+        new Transaction(Money.parse("-49.50"), "Food", "Food", TransactionType.EXPENSE, testUser)));
+
+    assertEquals(Money.parse("1000.00"), balance.totalIncome());
+    assertEquals(Money.parse("300.00"), balance.totalExpenses());
+    assertEquals(Money.parse("700.00"), balance.balance());
+    assertFalse(balance.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should create an empty balance in the default currency for no transactions")
+  void of_WithNoTransactions_ShouldBeEmpty() {
+    UserBalance balance = UserBalance.of(1L, List.<Transaction>of());
+
+    assertTrue(balance.isEmpty());
+    assertEquals(Money.DEFAULT_CURRENCY, balance.currency());
+  }
+
+  @Test
+  @DisplayName("Should treat missing types as zero when built from ledger totals")
+  void of_WithTotalsPerType_ShouldDefaultMissingTypes() {
+    UserBalance balance = UserBalance.of(1L,
+        Map.of(TransactionType.EXPENSE, Money.parse("75.00")));
+
+    assertEquals(Money.parse("0.00"), balance.totalIncome());
+    assertEquals(Money.parse("-75.00"), balance.balance());
+  }
+
+  @Test
+  @DisplayName("Should reject totals in different currencies")
+  void constructor_WithMixedCurrencies_ShouldThrowException() {
+    Money euros = new Money(100, Currency.getInstance("EUR"));
+
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new UserBalance(1L, Money.ofMinor(100), euros));
+    assertEquals("Balance totals must be in the same currency", exception.getMessage());
+  }
+}
@@ -252,4 +252,18 @@ class UserTest {
       assertTrue(user.isValidPassword(), "Password should be valid: " + password);
     }
   }
+
+  @Test
+  @DisplayName("Should rehydrate a stored user without re-validating the stored password")
+  void rehydrate_ShouldSkipValidation() {
+    String storedPassword = "{noop}secret";
+
+    User user = User.rehydrate(7L, "stored@example.com", storedPassword, "Stored User");
+
+    assertEquals(7L, user.getId());
+    assertEquals("stored@example.com", user.getEmail());
+    assertEquals(storedPassword, user.getPassword());
+    assertEquals("Stored User", user.getName());
+    assertFalse(user.isValidPassword());
+  }
 }
@@ -0,0 +1,82 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.RowError;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * Unit tests for the native image reachability metadata.
+ */
+class FinanceRuntimeHintsTest {
+
+  private RuntimeHints hints;
+
+  @BeforeEach
+  void setUp() {
+    hints = new RuntimeHints();
+    new FinanceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("Should expose entity fields, constructors and Lombok accessors")
+  void entities_ShouldBeReflectable() {
+    for (Class<?> entity : new Class<?>[] {TransactionEntity.class, UserEntity.class}) {
+      assertTrue(RuntimeHintsPredicates.reflection().onType(entity)
+          .withMemberCategories(MemberCategory.DECLARED_FIELDS,
+              MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+          .test(hints), entity.getSimpleName());
+    }
+    assertTrue(RuntimeHintsPredicates.reflection()
+        .onMethod(TransactionEntity.class, "getAmountMinor").test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection()
+        .onMethod(UserEntity.class, "setEmail").test(hints));
+  }
+
+  @Test
+  @DisplayName("Should expose the properties read by templates and bound from forms")
+  void viewModels_ShouldBeReflectable() {
+    assertTrue(RuntimeHintsPredicates.reflection()
+        .onMethod(TransactionDto.class, "getDescription").test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection()
+        .onMethod(TransactionDto.class, "setAmount").test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection()
+        .onMethod(RowError.class, "message").test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection().onType(TransactionType.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+  }
+
+  @Test
+  @DisplayName("Should include templates, static assets and migrations in the image")
+  void resources_ShouldBeIncluded() {
+    for (String resource : new String[] {
+        "templates/layout.html",
+        "templates/transaction/add.html",
+        "static/css/style.css",
+        "db/migration/V1__create_tables.sql",
+        "db/migration/V8__add_user_data_version.sql"}) {
+      assertTrue(RuntimeHintsPredicates.resource().forResource(resource).test(hints), resource);
+    }
+  }
+
+  @Test
+  @DisplayName("Should allow the JDBC proxies created by the query monitor")
+  void jdbcProxies_ShouldBeRegistered() {
+    assertTrue(RuntimeHintsPredicates.proxies()
+        .forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+    assertTrue(RuntimeHintsPredicates.proxies()
+        .forInterfaces(ProxyJdbcObject.class, PreparedStatement.class).test(hints));
+  }
+}
@@ -0,0 +1,37 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the selective lazy initialization of the startup profile.
+ */
+@SpringBootTest(properties = "spring.main.lazy-initialization=true")
+@ActiveProfiles("test")
+class LazyInitializationConfigTest {
+
+  @Autowired
+  private ConfigurableListableBeanFactory beanFactory;
+
+  @Test
+  @DisplayName("Should build the persistence unit and scheduled jobs at startup")
+  void startup_ShouldCreatePersistenceAndScheduledJobs() {
+    assertTrue(beanFactory.containsSingleton("dataSource"));
+    assertTrue(beanFactory.containsSingleton("entityManagerFactory"));
+    assertTrue(beanFactory.containsSingleton("balanceReconciliationJob"));
+  }
+
+  @Test
+  @DisplayName("Should defer the web layer until it is first used")
+  void startup_ShouldDeferControllers() {
+    assertFalse(beanFactory.containsSingleton("dashboardController"));
+    assertFalse(beanFactory.containsSingleton("transactionApiController"));
+  }
+}
@@ -0,0 +1,116 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for the metrics published on the Prometheus scrape endpoint.
+ */
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class PrometheusMetricsTest {
+
+  private static final String EMAIL = "metrics@example.com";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+    userRepository.save(new UserEntity(new User(EMAIL, "Test@2024", "Metrics User")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should publish the stages of a dashboard request to a local scraper")
+  @WithMockUser(username = EMAIL)
+  void prometheus_AfterDashboard_ShouldPublishStageMetrics() throws Exception {
+    mockMvc.perform(get("/dashboard"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString(
+            "finance_usecase_seconds_count{class=\"com.finance.manager.cleanarch.application"
+                + ".usecase.TransactionUseCase\",exception=\"none\",method=\"getDashboard\"")))
+        .andExpect(content().string(containsString(
+            "finance_repository_seconds_count{class=\"com.finance.manager.cleanarch.infrastructure"
+                + ".persistence.repository.JpaTransactionRepository\"")))
+        .andExpect(content().string(containsString(
+            "finance_repository_rows_count{entity=\"transaction\",query=\"findPageByUser\"")))
+        .andExpect(content().string(containsString(
+            "finance_repository_mapped_rows_total{entity=\"user\"")))
+        .andExpect(content().string(containsString(
+            "finance_view_render_seconds_count{outcome=\"success\",view=\"dashboard\"")));
+  }
+
+  @Test
+  @DisplayName("Should refuse scrapes from other hosts")
+  void prometheus_FromRemoteHost_ShouldBeRefused() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus").with(request -> {
+      request.setRemoteAddr("192.0.2.10");
+      return request;
+    }))
+        .andExpect(status().is3xxRedirection());
+  }
+
+  @Test
+  @DisplayName("Should refuse metrics and cache endpoints to signed-in users on other hosts")
+  @WithMockUser(username = EMAIL)
+  void actuator_FromRemoteHost_ShouldBeForbiddenEvenWhenSignedIn() throws Exception {
+    mockMvc.perform(get("/actuator/metrics").with(remoteHost()))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/actuator/caches").with(remoteHost()))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(delete("/actuator/caches").with(csrf()).with(remoteHost()))
+        .andExpect(status().isForbidden());
+  }
+
+  private static RequestPostProcessor remoteHost() {
+    return request -> {
+      request.setRemoteAddr("192.0.2.10");
+      return request;
+    };
+  }
+}
@@ -3,6 +3,7 @@ package com.finance.manager.cleanarch.infrastructure.config;
 import com.finance.manager.cleanarch.domain.repository.UserRepository;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
@@ -13,7 +14,8 @@ import org.springframework.context.annotation.Bean;
 public class TestRepositoryConfig {
 
   @Bean
-  public UserRepository userRepository(SpringUserRepository springUserRepository) {
-    return new JpaUserRepository(springUserRepository);
+  public UserRepository userRepository(SpringUserRepository springUserRepository,
+      MeterRegistry meterRegistry) {
+    return new JpaUserRepository(springUserRepository, meterRegistry);
   }
 }
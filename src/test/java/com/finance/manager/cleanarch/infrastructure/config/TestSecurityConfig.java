@@ -1,8 +1,10 @@
 package com.finance.manager.cleanarch.infrastructure.config;
 
+import com.finance.manager.cleanarch.domain.repository.UserRepository;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
 import com.finance.manager.cleanarch.infrastructure.security.CustomUserDetailsService;
 import com.finance.manager.cleanarch.infrastructure.security.SecurityConfig;
+import com.finance.manager.cleanarch.infrastructure.security.UserDetailsCache;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -25,7 +27,9 @@ public class TestSecurityConfig {
   }
 
   @Bean
-  public UserDetailsService userDetailsService(SpringUserRepository userRepository) {
-    return new CustomUserDetailsService(userRepository);
+  public UserDetailsService userDetailsService(SpringUserRepository userRepository,
+      UserRepository domainUserRepository) {
+    return new CustomUserDetailsService(userRepository, domainUserRepository,
+        new UserDetailsCache(userRepository));
   }
 }
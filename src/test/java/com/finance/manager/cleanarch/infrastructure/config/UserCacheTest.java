@@ -0,0 +1,127 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
+import com.finance.manager.cleanarch.infrastructure.security.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the user lookup caches.
+ */
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+class UserCacheTest {
+
+  private static final String EMAIL = "cached@example.com";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JpaUserRepository userRepository;
+
+  @Autowired
+  private CustomUserDetailsService userDetailsService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    user = userRepository.save(new User(EMAIL, "Test@2024", "Cached User"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should serve repeated lookups by email and ID from the cache")
+  void findUser_Twice_ShouldHitCache() {
+    double hitsBefore = hits(CacheConfig.USERS_BY_EMAIL);
+
+    User first = userRepository.findByEmail(EMAIL).orElseThrow();
+    User second = userRepository.findByEmail(EMAIL).orElseThrow();
+
+    assertSame(first, second);
+    assertSame(userRepository.findById(user.getId()).orElseThrow(),
+        userRepository.findById(user.getId()).orElseThrow());
+    assertEquals(hitsBefore + 1, hits(CacheConfig.USERS_BY_EMAIL));
+  }
+
+  @Test
+  @DisplayName("Should not cache lookups of unknown users")
+  void findByEmail_WithUnknownUser_ShouldNotCacheMiss() {
+    assertTrue(userRepository.findByEmail("unknown@example.com").isEmpty());
+
+    assertEquals(null, cacheManager.getCache(CacheConfig.USERS_BY_EMAIL)
+        .get("unknown@example.com"));
+  }
+
+  @Test
+  @DisplayName("Should cache immutable user details and hand out a copy per lookup")
+  void loadUserByUsername_Twice_ShouldCopyCachedDetails() {
+    double hitsBefore = hits(CacheConfig.USER_DETAILS);
+
+    UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+    ((CredentialsContainer) first).eraseCredentials();
+    UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+
+    assertEquals(hitsBefore + 1, hits(CacheConfig.USER_DETAILS));
+    assertNotSame(first, second);
+    assertEquals(user.getPassword(), second.getPassword());
+    assertInstanceOf(org.springframework.security.core.userdetails.User.class, second);
+    assertInstanceOf(org.springframework.security.core.userdetails.User.class,
+        cacheManager.getCache(CacheConfig.USER_DETAILS).get(EMAIL).get());
+  }
+
+  @Test
+  @DisplayName("Should evict cached lookups when the user is saved")
+  void save_ShouldEvictCachedUser() {
+    User cached = userRepository.findByEmail(EMAIL).orElseThrow();
+    userDetailsService.loadUserByUsername(EMAIL);
+    userRepository.findById(user.getId());
+
+    User renamed = User.rehydrate(user.getId(), EMAIL, "$2a$10$renamed", "Renamed User");
+    userRepository.save(renamed);
+
+    User reloaded = userRepository.findByEmail(EMAIL).orElseThrow();
+    assertNotSame(cached, reloaded);
+    assertEquals("Renamed User", reloaded.getName());
+    assertEquals("Renamed User", userRepository.findById(user.getId()).orElseThrow().getName());
+    assertEquals("$2a$10$renamed", userDetailsService.loadUserByUsername(EMAIL).getPassword());
+  }
+
+  private double hits(String cacheName) {
+    return meterRegistry.get("cache.gets")
+        .tag("cache", cacheName)
+        .tag("result", "hit")
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,121 @@
+package com.finance.manager.cleanarch.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for the cache of rendered view fragments.
+ */
+@SpringBootTest(properties = {
+    "spring.thymeleaf.cache=true",
+    "finance.view.fragment-cache.enabled=true"
+})
+@ActiveProfiles("test")
+class ViewFragmentCacheTest {
+
+  private static final Pattern CSRF_TOKEN =
+      Pattern.compile("id=\"logout-form\"[^>]*><input type=\"hidden\" name=\"_csrf\" "
+          + "value=\"([^\"]+)\"");
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should serve the navigation and type selector from the cache on later renders")
+  @WithMockUser(username = "fragments@example.com")
+  void addForm_Twice_ShouldReuseRenderedFragments() throws Exception {
+    String first = render("/dashboard/add", new MockHttpSession());
+    double hitsBefore = hits();
+
+    String second = render("/dashboard/add", new MockHttpSession());
+
+    assertEquals(hitsBefore + 2, hits());
+    assertEquals(navigation(first), navigation(second));
+    assertTrue(second.contains(
+        "<select class=\"form-select\" id=\"type\" required name=\"type\">"));
+    assertTrue(second.contains("<option value=\"INCOME\">INCOME</option>"));
+    assertTrue(second.contains("<option value=\"EXPENSE\">EXPENSE</option>"));
+    assertFalse(second.contains("fin:cache"));
+  }
+
+  @Test
+  @DisplayName("Should keep separate navigation for signed-in and anonymous users")
+  @WithAnonymousUser
+  void navigation_ShouldDependOnAuthentication() throws Exception {
+    String anonymous = render("/login", new MockHttpSession());
+
+    assertTrue(navigation(anonymous).contains(">Login</a>"));
+    assertFalse(navigation(anonymous).contains("Logout"));
+    assertFalse(anonymous.contains("logout-form\""));
+  }
+
+  @Test
+  @DisplayName("Should render the session's own CSRF token in the logout form")
+  @WithMockUser(username = "fragments@example.com")
+  void logoutForm_ShouldNotBeCachedAcrossSessions() throws Exception {
+    String first = render("/dashboard/add", new MockHttpSession());
+    String second = render("/dashboard/add", new MockHttpSession());
+
+    assertTrue(navigation(second).contains("Logout"));
+    assertFalse(navigation(second).contains(">Login</a>"));
+    assertNotEquals(csrfToken(first), csrfToken(second));
+  }
+
+  private String render(String path, MockHttpSession session) throws Exception {
+    return mockMvc.perform(get(path).session(session))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+  }
+
+  private static String navigation(String page) {
+    return page.substring(page.indexOf("<nav"), page.indexOf("</nav>"));
+  }
+
+  private static String csrfToken(String page) {
+    Matcher matcher = CSRF_TOKEN.matcher(page);
+    assertTrue(matcher.find(), "The logout form should carry a CSRF token");
+    return matcher.group(1);
+  }
+
+  private double hits() {
+    return meterRegistry.get("cache.gets")
+        .tag("cache", "viewFragments")
+        .tag("result", "hit")
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,180 @@
+package com.finance.manager.cleanarch.infrastructure.ingestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.ingestion.TransactionIngestionQueue.AckMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Unit tests for TransactionIngestionQueue.
+ */
+class TransactionIngestionQueueTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final TransactionUseCase transactionUseCase = mock(TransactionUseCase.class);
+  private final List<Integer> commits = new CopyOnWriteArrayList<>();
+  private final CountDownLatch writing = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private User alice;
+  private User bob;
+  private TransactionIngestionQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    alice = user(1L, "alice@example.com");
+    bob = user(2L, "bob@example.com");
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    queue.close();
+  }
+
+  @Test
+  @DisplayName("Should write the transactions queued during a commit in one shared commit")
+  void submit_DuringCommit_ShouldGroupQueuedTransactions() throws Exception {
+    blockFirstWrite();
+    queue = queue(100, 500);
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+    for (int i = 0; i < 10; i++) {
+      queue.submit(transaction(alice), AckMode.ACCEPTED);
+    }
+    CompletableFuture<Boolean> last = CompletableFuture.supplyAsync(
+        () -> queue.submit(transaction(alice), AckMode.COMMITTED));
+    awaitQueued(11);
+    release.countDown();
+
+    assertTrue(last.get(5, TimeUnit.SECONDS));
+    assertEquals(List.of(1, 11), commits);
+    assertEquals(12, registry.get("finance.ingestion.batch").summary().totalAmount());
+  }
+
+  @Test
+  @DisplayName("Should refuse a transaction once the queue has stayed full for the offer timeout")
+  void submit_WhenFull_ShouldApplyBackPressure() throws Exception {
+    blockFirstWrite();
+    queue = queue(1, 500);
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+
+    assertThrows(IngestionRejectedException.class,
+        () -> queue.submit(transaction(alice), AckMode.ACCEPTED));
+    assertEquals(1.0, registry.get("finance.ingestion.rejected").counter().count());
+    assertEquals(1.0, registry.get("finance.ingestion.queue").gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should retry each user alone when a shared commit fails")
+  void submit_WhenOneUserFails_ShouldStillCommitOthers() throws Exception {
+    blockFirstWrite();
+    doThrow(new IllegalStateException("Rollup locked"))
+        .when(transactionUseCase).addTransactions(eq(bob), anyList());
+    queue = queue(100, 500);
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<Boolean> forAlice = CompletableFuture.supplyAsync(
+        () -> queue.submit(transaction(alice), AckMode.COMMITTED));
+    CompletableFuture<Boolean> forBob = CompletableFuture.supplyAsync(
+        () -> queue.submit(transaction(bob), AckMode.COMMITTED));
+    awaitQueued(2);
+    release.countDown();
+
+    assertTrue(forAlice.get(5, TimeUnit.SECONDS));
+    Exception failure = assertThrows(Exception.class, () -> forBob.get(5, TimeUnit.SECONDS));
+    assertTrue(failure.getCause() instanceof IllegalStateException);
+    assertEquals(1.0, registry.get("finance.ingestion.failed").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should write the transactions already queued before closing")
+  void close_ShouldDrainQueue() throws Exception {
+    blockFirstWrite();
+    queue = queue(100, 500);
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+    queue.submit(transaction(alice), AckMode.ACCEPTED);
+    queue.submit(transaction(bob), AckMode.ACCEPTED);
+
+    release.countDown();
+    queue.close();
+
+    assertEquals(List.of(1, 1, 1), commits);
+    assertThrows(IngestionRejectedException.class,
+        () -> queue.submit(transaction(alice), AckMode.ACCEPTED));
+  }
+
+  @Test
+  @DisplayName("Should answer before the commit when only acceptance is asked for")
+  void submit_WithAcceptedAck_ShouldNotWaitForCommit() throws Exception {
+    blockFirstWrite();
+    queue = queue(100, 500);
+
+    assertFalse(queue.submit(transaction(alice), AckMode.ACCEPTED));
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+    assertTrue(commits.isEmpty());
+  }
+
+  private TransactionIngestionQueue queue(int capacity, int batchSize) {
+    return new TransactionIngestionQueue(transactionUseCase,
+        TransactionOperations.withoutTransaction(), capacity, batchSize, Duration.ofMillis(50),
+        Duration.ofSeconds(5), Duration.ofSeconds(5), registry);
+  }
+
+  private void awaitQueued(int count) throws InterruptedException {
+    while (registry.get("finance.ingestion.queue").gauge().value() < count) {
+      Thread.sleep(1);
+    }
+  }
+
+  private void blockFirstWrite() {
+    doAnswer(invocation -> {
+      if (writing.getCount() > 0) {
+        writing.countDown();
+        assertTrue(release.await(5, TimeUnit.SECONDS));
+      }
+      List<?> transactions = invocation.getArgument(1);
+      commits.add(transactions.size());
+      return null;
+    }).when(transactionUseCase).addTransactions(any(User.class), anyList());
+  }
+
+  private static Transaction transaction(User user) {
+    return new Transaction(Money.parse("10.00"), "Feed", "Bank", TransactionType.EXPENSE, user);
+  }
+
+  private static User user(Long id, String email) {
+    User user = new User(email, "Test@2024", "Feed User");
+    user.setId(id);
+    return user;
+  }
+}
@@ -0,0 +1,67 @@
+package com.finance.manager.cleanarch.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the minor units migration converts existing decimal amounts exactly.
+ */
+class AmountMinorUnitsMigrationTest {
+
+  private static final String URL = "jdbc:h2:mem:minor-units-migration;DB_CLOSE_DELAY=-1";
+
+  @AfterEach
+  void dropAll() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+  }
+
+  @Test
+  @DisplayName("Should convert decimal amounts to signed cents in the default currency")
+  void migrate_ShouldConvertAmountsToSignedMinorUnits() throws SQLException {
+    migrateTo("4");
+    try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO transactions (user_id, description, amount, type, category, "
+          + "date) VALUES (2, 'Coffee', -0.99, 'EXPENSE', 'Food', TIMESTAMP '2025-03-21 08:00:00')");
+    }
+
+    migrateTo("5");
+
+    List<String> rows = new ArrayList<>();
+    try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(
+            "SELECT description, amount_minor, currency FROM transactions "
+                + "WHERE user_id = 2 ORDER BY date")) {
+      while (resultSet.next()) {
+        rows.add(resultSet.getString(1) + " " + resultSet.getLong(2) + " "
+            + resultSet.getString(3));
+      }
+    }
+    assertEquals(List.of(
+        "Freelance Work 200000 USD", "Internet Bill -8999 USD", "Coffee -99 USD"), rows);
+  }
+
+  private static void migrateTo(String version) {
+    Flyway.configure()
+        .dataSource(URL, "sa", "")
+        .locations("classpath:db/migration")
+        .target(version)
+        .load()
+        .migrate();
+  }
+}
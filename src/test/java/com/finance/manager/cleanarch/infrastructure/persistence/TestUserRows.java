@@ -0,0 +1,34 @@
+package com.finance.manager.cleanarch.infrastructure.persistence;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Deletes the rows that an integration test created for its own users, so that tests sharing
+ * the test database leave each other's rows, and any seeded users, in place.
+ */
+public final class TestUserRows {
+
+  private static final String USER_IDS = "SELECT id FROM users WHERE email = ?";
+  private static final List<String> OWNED_TABLES =
+      List.of("transaction_rollups", "user_balances", "transactions");
+
+  private TestUserRows() {
+  }
+
+  /**
+   * Deletes users by email together with their transactions, stored totals and rollups.
+   *
+   * @param jdbcTemplate the template of the test database
+   * @param emails the emails of the users the test created
+   */
+  public static void delete(JdbcTemplate jdbcTemplate, String... emails) {
+    for (String email : emails) {
+      for (String table : OWNED_TABLES) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE user_id IN (" + USER_IDS + ")",
+            email);
+      }
+      jdbcTemplate.update("DELETE FROM users WHERE email = ?", email);
+    }
+  }
+}
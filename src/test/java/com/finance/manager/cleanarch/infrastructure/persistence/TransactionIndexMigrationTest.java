@@ -0,0 +1,206 @@
+package com.finance.manager.cleanarch.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRollupRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Verifies through H2 EXPLAIN that the SQL Hibernate generates for the transaction access
+ * paths uses the migrated indexes. The schema is created by the Flyway migrations, and each
+ * repository query is captured from the data source and explained with its own parameters.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=none"
+})
+@ActiveProfiles("test")
+@Import(TransactionIndexMigrationTest.StatementCaptureConfig.class)
+class TransactionIndexMigrationTest {
+
+  private static final long USER_ID = 1L;
+  private static final CapturedStatements statements = new CapturedStatements();
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  @Autowired
+  private SpringTransactionRollupRepository rollupRepository;
+
+  @BeforeEach
+  void setUp() {
+    statements.clear();
+  }
+
+  @Test
+  @DisplayName("Should read the first dashboard page from the user/date index without sorting")
+  void firstPage_ShouldUseUserDateIndex() throws SQLException {
+    transactionRepository.findFirstPageByUserId(USER_ID, Limit.of(21));
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("IDX_TRANSACTIONS_USER_DATE"), plan);
+    assertTrue(plan.contains("index sorted"), plan);
+  }
+
+  @Test
+  @DisplayName("Should read keyset continuation pages from the user/date index")
+  void nextPage_ShouldUseUserDateIndex() throws SQLException {
+    transactionRepository.findByUserIdAfter(USER_ID, LocalDateTime.of(2025, 3, 10, 15, 30),
+        3L, Limit.of(21));
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("IDX_TRANSACTIONS_USER_DATE"), plan);
+    assertTrue(plan.contains("index sorted"), plan);
+  }
+
+  @Test
+  @DisplayName("Should aggregate a user's categories through the user/category index")
+  void categoryBreakdown_ShouldUseUserCategoryIndex() throws SQLException {
+    transactionRepository.sumAbsoluteAmountByUserIdGroupByCategory(USER_ID);
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("IDX_TRANSACTIONS_USER_CATEGORY"), plan);
+  }
+
+  @Test
+  @DisplayName("Should total a user's transactions per type through the user/category index")
+  void typeTotals_ShouldUseUserCategoryIndex() throws SQLException {
+    transactionRepository.sumAbsoluteAmountByUserIdGroupByType(USER_ID);
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("IDX_TRANSACTIONS_USER_CATEGORY"), plan);
+  }
+
+  @Test
+  @DisplayName("Should read a user's monthly rollups through an index instead of a scan")
+  void monthlyRollups_ShouldUseUserIndex() throws SQLException {
+    rollupRepository.sumByMonth(USER_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 1));
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("USER_ID = ?1 */"), plan);
+    assertFalse(plan.contains("tableScan"), plan);
+  }
+
+  @Test
+  @DisplayName("Should read a user's category rollups through an index instead of a scan")
+  void categoryRollups_ShouldUseUserIndex() throws SQLException {
+    rollupRepository.sumByCategory(USER_ID, LocalDate.of(2025, 1, 1),
+        LocalDate.of(2025, 12, 1));
+
+    String plan = explainCaptured();
+
+    assertTrue(plan.contains("USER_ID = ?1 */"), plan);
+    assertFalse(plan.contains("tableScan"), plan);
+  }
+
+  /**
+   * Explains the first statement the repository call executed, which is its query, with the
+   * parameters it was executed with. Statements that follow it, such as loading the owner of
+   * a seeded row, are ignored.
+   */
+  private String explainCaptured() throws SQLException {
+    List<QueryInfo> captured = statements.take();
+    assertFalse(captured.isEmpty(), "No statement was executed");
+    QueryInfo query = captured.get(0);
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("EXPLAIN " + query.getQuery())) {
+      for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+        for (ParameterSetOperation operation : parameters) {
+          operation.getMethod().invoke(statement, operation.getArgs());
+        }
+      }
+      try (ResultSet resultSet = statement.executeQuery()) {
+        StringBuilder plan = new StringBuilder();
+        while (resultSet.next()) {
+          plan.append(resultSet.getString(1));
+        }
+        return plan.toString();
+      }
+    } catch (ReflectiveOperationException e) {
+      throw new SQLException("Could not bind the captured parameters", e);
+    }
+  }
+
+  /**
+   * Statements executed through the data source since the last call to {@link #take}.
+   */
+  private static final class CapturedStatements implements QueryExecutionListener {
+
+    private final List<QueryInfo> queries = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      queries.addAll(queryInfoList);
+    }
+
+    List<QueryInfo> take() {
+      List<QueryInfo> taken = List.copyOf(queries);
+      queries.clear();
+      return taken;
+    }
+
+    void clear() {
+      queries.clear();
+    }
+  }
+
+  @TestConfiguration
+  static class StatementCaptureConfig {
+
+    @Bean
+    static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource source) || bean instanceof ProxyDataSource) {
+            return bean;
+          }
+          return ProxyDataSourceBuilder.create(source)
+              .name(beanName)
+              .listener(statements)
+              .build();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc result matchers that hold a request to a budget of SQL statements, based on the
+ * {@link QueryStats} collected for the request.
+ */
+public final class QueryBudget {
+
+  private QueryBudget() {
+  }
+
+  /**
+   * Expects the request to have executed at most a number of statements.
+   *
+   * @param max the budget, counting each batch once
+   * @return the matcher
+   */
+  public static ResultMatcher statementsAtMost(int max) {
+    return result -> {
+      int statements = stats(result).getStatements();
+      assertTrue(statements <= max, "Expected at most " + max + " SQL statements for "
+          + result.getRequest().getRequestURI() + " but " + statements + " were executed");
+    };
+  }
+
+  /**
+   * Expects the request to have executed exactly a number of statements.
+   *
+   * @param count the expected number, counting each batch once
+   * @return the matcher
+   */
+  public static ResultMatcher statements(int count) {
+    return result -> assertEquals(count, stats(result).getStatements(),
+        "SQL statements executed for " + result.getRequest().getRequestURI());
+  }
+
+  /**
+   * Expects no statement to have been executed more than a number of times outside batches,
+   * which would suggest an N+1 query.
+   *
+   * @param max the most executions allowed for one statement
+   * @return the matcher
+   */
+  public static ResultMatcher repeatedAtMost(int max) {
+    return result -> {
+      Map<String, Integer> repeated = stats(result).getRepeatedStatements(max + 1);
+      assertTrue(repeated.isEmpty(), "Statements repeated more than " + max + " times for "
+          + result.getRequest().getRequestURI() + ": " + repeated);
+    };
+  }
+
+  private static QueryStats stats(MvcResult result) {
+    QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryStats.ATTRIBUTE);
+    assertNotNull(stats, "The request was not monitored");
+    return stats;
+  }
+}
@@ -0,0 +1,100 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for QueryMonitor.
+ */
+class QueryMonitorTest {
+
+  private static final String SELECT = "select * from transactions where user_id=?";
+  private static final String INSERT = "insert into transactions values (?)";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final QueryMonitor monitor = new QueryMonitor(registry, Duration.ofSeconds(1), 3);
+
+  @Test
+  @DisplayName("Should count the statements of a request and report repeated ones")
+  void finish_WithRepeatedStatement_ShouldReportPossibleNPlusOne() {
+    QueryStats stats = monitor.start();
+    execute(SELECT, false, 0);
+    execute(SELECT, false, 0);
+    execute(SELECT, false, 0);
+
+    monitor.finish(stats, "/dashboard");
+
+    assertEquals(3, stats.getStatements());
+    assertEquals(Map.of(SELECT, 3), stats.getRepeatedStatements(3));
+    assertEquals(3.0, registry.get("finance.jdbc.statements").tag("type", "select")
+        .timer().count());
+    assertEquals(1, registry.get("finance.jdbc.request.statements").tag("uri", "/dashboard")
+        .summary().count());
+    assertEquals(1.0, registry.get("finance.jdbc.repeated").tag("uri", "/dashboard")
+        .counter().count());
+  }
+
+  @Test
+  @DisplayName("Should not mistake batched statements for N+1 queries")
+  void finish_WithBatches_ShouldNotReportRepeats() {
+    QueryStats stats = monitor.start();
+    for (int i = 0; i < 5; i++) {
+      execute(INSERT, true, 0);
+    }
+
+    monitor.finish(stats, "/api/transactions/bulk");
+
+    assertEquals(5, stats.getStatements());
+    assertTrue(stats.getRepeatedStatements(1).isEmpty());
+    assertNull(registry.find("finance.jdbc.repeated").counter());
+  }
+
+  @Test
+  @DisplayName("Should count statements slower than the threshold")
+  void afterQuery_WhenSlow_ShouldCountSlowStatement() {
+    QueryStats stats = monitor.start();
+    execute(SELECT, false, 1_500);
+    execute(SELECT, false, 0);
+
+    assertEquals(1, stats.getSlowStatements());
+    assertTrue(stats.getElapsed().compareTo(Duration.ofMillis(1_500)) >= 0);
+    assertEquals(1.0, registry.get("finance.jdbc.slow").tag("type", "select")
+        .counter().count());
+    monitor.finish(stats, "/dashboard");
+  }
+
+  @Test
+  @DisplayName("Should only time statements run outside a monitored request")
+  void afterQuery_OutsideRequest_ShouldOnlyTime() {
+    QueryStats stats = monitor.start();
+    monitor.finish(stats, "/dashboard");
+
+    execute(INSERT, false, 0);
+
+    assertEquals(0, stats.getStatements());
+    assertEquals(1.0, registry.get("finance.jdbc.statements").tag("type", "insert")
+        .timer().count());
+  }
+
+  private void execute(String sql, boolean batch, long elapsedMillis) {
+    ExecutionInfo execInfo = new ExecutionInfo();
+    execInfo.setBatch(batch);
+    execInfo.setElapsedTime(elapsedMillis);
+    List<QueryInfo> queries = List.of(new QueryInfo(sql));
+    // Without beforeQuery the monitor falls back to the time measured by the proxy.
+    if (elapsedMillis == 0) {
+      monitor.beforeQuery(execInfo, queries);
+    }
+    monitor.afterQuery(execInfo, queries);
+  }
+}
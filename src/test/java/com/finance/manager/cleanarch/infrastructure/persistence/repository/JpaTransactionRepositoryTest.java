@@ -0,0 +1,120 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Unit tests for JpaTransactionRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class JpaTransactionRepositoryTest {
+
+  @Mock
+  private SpringTransactionRepository springRepository;
+
+  @Mock
+  private SpringTransactionRollupRepository rollupRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private UserEntity lazyUser;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private JpaTransactionRepository repository;
+  private User owner;
+
+  @BeforeEach
+  void setUp() {
+    repository = new JpaTransactionRepository(springRepository, rollupRepository, entityManager,
+        new IdempotencyKeyStore(Duration.ofMinutes(1), 100, registry), registry);
+    owner = User.rehydrate(1L, "owner@example.com", "hash", "Owner");
+  }
+
+  @Test
+  @DisplayName("Should attach the same owner instance to every transaction of a user")
+  void findByUser_ShouldShareOwnerInstance() {
+    when(springRepository.findByUserId(1L)).thenReturn(entities(5));
+
+    List<Transaction> transactions = repository.findByUser(owner);
+
+    assertEquals(5, transactions.size());
+    transactions.forEach(transaction -> assertSame(owner, transaction.getUser()));
+    verifyNoInteractions(lazyUser);
+  }
+
+  @Test
+  @DisplayName("Should attach the same owner instance to every transaction of a page")
+  void findPageByUser_ShouldShareOwnerInstance() {
+    when(springRepository.findFirstPageByUserId(eq(1L), any(Limit.class)))
+        .thenReturn(entities(3));
+
+    TransactionPage page = repository.findPageByUser(owner, null, 2);
+
+    assertEquals(2, page.transactions().size());
+    page.transactions().forEach(transaction -> assertSame(owner, transaction.getUser()));
+    verifyNoInteractions(lazyUser);
+  }
+
+  @Test
+  @DisplayName("Should record the rows of a page and the mapped transactions")
+  void findPageByUser_ShouldRecordRowAndMappingMetrics() {
+    when(springRepository.findFirstPageByUserId(eq(1L), any(Limit.class)))
+        .thenReturn(entities(3));
+
+    repository.findPageByUser(owner, null, 2);
+
+    DistributionSummary rows = registry.get("finance.repository.rows")
+        .tag("query", "findPageByUser").summary();
+    assertEquals(1, rows.count());
+    assertEquals(2.0, rows.totalAmount());
+    assertEquals(2.0, registry.get("finance.repository.mapped").tag("entity", "transaction")
+        .counter().count());
+    assertEquals(1, registry.get("finance.repository.mapping").tag("entity", "transaction")
+        .timer().count());
+  }
+
+  private List<TransactionEntity> entities(int count) {
+    List<TransactionEntity> entities = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      TransactionEntity entity = new TransactionEntity();
+      entity.setId((long) count - i);
+      entity.setAmountMinor(-1000);
+      entity.setCurrency(Money.DEFAULT_CURRENCY);
+      entity.setDescription("Transaction " + i);
+      entity.setCategory("Category");
+      entity.setType(TransactionType.EXPENSE);
+      entity.setDate(LocalDateTime.of(2025, 3, 1, 9, 0).minusDays(i));
+      entity.setUser(lazyUser);
+      entities.add(entity);
+    }
+    return entities;
+  }
+}
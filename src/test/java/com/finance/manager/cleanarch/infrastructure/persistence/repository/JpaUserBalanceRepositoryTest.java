@@ -0,0 +1,129 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the atomic updates of stored user totals.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JpaUserBalanceRepositoryTest {
+
+  private static final String EMAIL = "totals@example.com";
+  private static final int WRITERS = 8;
+  private static final int ADDITIONS_PER_WRITER = 25;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JpaUserBalanceRepository balanceRepository;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = new User(EMAIL, "Test@2024", "Totals User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should not lose concurrent additions, including the one creating the totals")
+  void add_Concurrently_ShouldCountEveryAddition() throws Exception {
+    UserBalance delta = new UserBalance(user.getId(), Money.parse("1.00"), Money.parse("0.25"));
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> writers = new ArrayList<>();
+    try {
+      for (int i = 0; i < WRITERS; i++) {
+        writers.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < ADDITIONS_PER_WRITER; j++) {
+            balanceRepository.add(delta);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> writer : writers) {
+        writer.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    int additions = WRITERS * ADDITIONS_PER_WRITER;
+    assertEquals(new UserBalance(user.getId(), Money.ofMinor(100L * additions),
+        Money.ofMinor(25L * additions)), balanceRepository.findByUser(user).orElseThrow());
+    assertEquals(additions, balanceRepository.findDataVersion(user));
+  }
+
+  @Test
+  @DisplayName("Should advance the data version with every change to the totals")
+  void findDataVersion_ShouldAdvanceOnEveryChange() {
+    assertEquals(0, balanceRepository.findDataVersion(user));
+
+    balanceRepository.add(new UserBalance(user.getId(), Money.parse("5.00"), Money.parse("1.00")));
+    balanceRepository.add(new UserBalance(user.getId(), Money.parse("1.00"), Money.parse("0.00")));
+    assertEquals(2, balanceRepository.findDataVersion(user));
+
+    balanceRepository.replace(
+        new UserBalance(user.getId(), Money.parse("6.00"), Money.parse("1.00")));
+    assertEquals(3, balanceRepository.findDataVersion(user));
+  }
+
+  @Test
+  @DisplayName("Should overwrite stored totals on replace")
+  void replace_ShouldOverwriteTotals() {
+    balanceRepository.add(new UserBalance(user.getId(), Money.parse("5.00"), Money.parse("1.00")));
+    UserBalance corrected =
+        new UserBalance(user.getId(), Money.parse("7.00"), Money.parse("2.00"));
+
+    balanceRepository.replace(corrected);
+
+    assertEquals(corrected, balanceRepository.findByUser(user).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Should refuse to add amounts in another currency than the stored totals")
+  void add_WithOtherCurrency_ShouldThrowException() {
+    balanceRepository.add(new UserBalance(user.getId(), Money.parse("5.00"), Money.parse("1.00")));
+    Currency euro = Currency.getInstance("EUR");
+
+    Exception exception = assertThrows(DataIntegrityViolationException.class,
+        () -> balanceRepository.add(UserBalance.empty(user.getId(), euro)));
+    assertEquals("Totals of user " + user.getId() + " are not kept in EUR",
+        exception.getMessage());
+  }
+}
@@ -0,0 +1,234 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for the custom queries of SpringTransactionRepository.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class SpringTransactionRepositoryTest {
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  @Autowired
+  private SpringTransactionRollupRepository rollupRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private User owner;
+  private User other;
+
+  @BeforeEach
+  void setUp() {
+    owner = persistUser("owner@example.com");
+    other = persistUser("other@example.com");
+  }
+
+  @Test
+  @DisplayName("Should sum absolute amounts per type for one user")
+  void sumAbsoluteAmountByUserIdGroupByType_ShouldAggregatePerType() {
+    persistTransaction(1000.0, TransactionType.INCOME, owner);
+    persistTransaction(250.5, TransactionType.INCOME, owner);
+    persistTransaction(300.0, TransactionType.EXPENSE, owner);
+    persistTransaction(99.5, TransactionType.EXPENSE, owner);
+    persistTransaction(5000.0, TransactionType.INCOME, other);
+
+    List<SpringTransactionRepository.TypeTotal> rows =
+        transactionRepository.sumAbsoluteAmountByUserIdGroupByType(owner.getId());
+
+    Map<TransactionType, Long> totals = new EnumMap<>(TransactionType.class);
+    rows.forEach(row -> totals.put(row.getType(), row.getTotal()));
+    assertEquals(2, rows.size());
+    rows.forEach(row -> assertEquals(Money.DEFAULT_CURRENCY, row.getCurrency()));
+    assertEquals(125050L, totals.get(TransactionType.INCOME));
+    assertEquals(39950L, totals.get(TransactionType.EXPENSE));
+  }
+
+  @Test
+  @DisplayName("Should return no rows for a user without transactions")
+  void sumAbsoluteAmountByUserIdGroupByType_WithNoTransactions_ShouldBeEmpty() {
+    persistTransaction(5000.0, TransactionType.INCOME, other);
+
+    assertTrue(transactionRepository.sumAbsoluteAmountByUserIdGroupByType(owner.getId()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should sum and count one user's transactions per category and type")
+  void sumAbsoluteAmountByUserIdGroupByCategory_ShouldAggregatePerCategory() {
+    persistTransaction(40.0, "Food", TransactionType.EXPENSE, owner);
+    persistTransaction(2.5, "Food", TransactionType.EXPENSE, owner);
+    persistTransaction(900.0, "Housing", TransactionType.EXPENSE, owner);
+    persistTransaction(10.0, "Food", TransactionType.INCOME, owner);
+    persistTransaction(75.0, "Food", TransactionType.EXPENSE, other);
+
+    List<SpringTransactionRepository.CategoryTypeTotal> rows =
+        transactionRepository.sumAbsoluteAmountByUserIdGroupByCategory(owner.getId());
+
+    assertEquals(3, rows.size());
+    assertEquals("Housing", rows.get(0).getCategory());
+    assertEquals(90000L, rows.get(0).getTotal());
+    assertEquals("Food", rows.get(1).getCategory());
+    assertEquals(TransactionType.EXPENSE, rows.get(1).getType());
+    assertEquals(4250L, rows.get(1).getTotal());
+    assertEquals(2L, rows.get(1).getCount());
+    assertEquals(TransactionType.INCOME, rows.get(2).getType());
+    assertEquals(1L, rows.get(2).getCount());
+  }
+
+  @Test
+  @DisplayName("Should page through transactions by date and ID without gaps or repeats")
+  void findPageByUser_ShouldWalkAllPagesInOrder() {
+    LocalDateTime sameDate = LocalDateTime.of(2025, 3, 10, 12, 0);
+    for (int i = 0; i < 4; i++) {
+      persistTransaction(10.0 + i, TransactionType.EXPENSE, owner, sameDate);
+    }
+    persistTransaction(99.0, TransactionType.INCOME, owner, sameDate.plusDays(1));
+    persistTransaction(1.0, TransactionType.INCOME, owner, sameDate.minusDays(1));
+    persistTransaction(7.0, TransactionType.INCOME, other, sameDate);
+    JpaTransactionRepository pagedRepository =
+        new JpaTransactionRepository(transactionRepository, rollupRepository, entityManager,
+        new IdempotencyKeyStore(Duration.ofMinutes(1), 100, registry), registry);
+
+    List<Transaction> seen = new ArrayList<>();
+    TransactionCursor cursor = null;
+    int pages = 0;
+    do {
+      TransactionPage page = pagedRepository.findPageByUser(owner, cursor, 2);
+      assertTrue(page.transactions().size() <= 2);
+      seen.addAll(page.transactions());
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertEquals(3, pages);
+    assertEquals(6, seen.size());
+    assertEquals(6, seen.stream().map(Transaction::getId).distinct().count());
+    for (int i = 1; i < seen.size(); i++) {
+      Transaction previous = seen.get(i - 1);
+      Transaction current = seen.get(i);
+      assertTrue(previous.getDate().isAfter(current.getDate())
+          || previous.getDate().equals(current.getDate())
+          && previous.getId() > current.getId());
+    }
+  }
+
+  @Test
+  @DisplayName("Should report no next page when the page is not full")
+  void findPageByUser_WithFewTransactions_ShouldHaveNoNextPage() {
+    persistTransaction(10.0, TransactionType.INCOME, owner);
+    JpaTransactionRepository pagedRepository =
+        new JpaTransactionRepository(transactionRepository, rollupRepository, entityManager,
+        new IdempotencyKeyStore(Duration.ofMinutes(1), 100, registry), registry);
+
+    TransactionPage page = pagedRepository.findPageByUser(owner, null, 2);
+
+    assertEquals(1, page.transactions().size());
+    assertFalse(page.hasNext());
+  }
+
+  @Test
+  @DisplayName("Should stream all transactions of a user most recent first and detach them")
+  void forEachByUser_ShouldStreamInOrder() {
+    LocalDateTime start = LocalDateTime.of(2025, 3, 10, 12, 0);
+    for (int i = 0; i < 5; i++) {
+      persistTransaction(10.0 + i, TransactionType.EXPENSE, owner, start.plusDays(i));
+    }
+    persistTransaction(7.0, TransactionType.INCOME, other, start);
+    entityManager.flush();
+    entityManager.clear();
+    JpaTransactionRepository streamingRepository =
+        new JpaTransactionRepository(transactionRepository, rollupRepository, entityManager,
+        new IdempotencyKeyStore(Duration.ofMinutes(1), 100, registry), registry);
+
+    List<Transaction> seen = new ArrayList<>();
+    streamingRepository.forEachByUser(owner, seen::add);
+
+    assertEquals(5, seen.size());
+    assertEquals(start.plusDays(4), seen.get(0).getDate());
+    assertEquals(start, seen.get(4).getDate());
+    assertTrue(seen.stream().allMatch(transaction -> transaction.getUser() == owner));
+    assertTrue(entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+        .map(EntityKey.class::cast)
+        .noneMatch(key -> key.getEntityName().equals(TransactionEntity.class.getName())));
+  }
+
+  @Test
+  @DisplayName("Should keep idempotency keys unique per user")
+  void idempotencyKey_ShouldBeUniquePerUser() {
+    TransactionEntity first = keyedTransaction(owner, "retry-1");
+    transactionRepository.saveAndFlush(first);
+    transactionRepository.saveAndFlush(keyedTransaction(other, "retry-1"));
+
+    assertEquals(first.getId(), transactionRepository
+        .findByUserIdAndIdempotencyKey(owner.getId(), "retry-1").orElseThrow().getId());
+    assertThrows(DataIntegrityViolationException.class,
+        () -> transactionRepository.saveAndFlush(keyedTransaction(owner, "retry-1")));
+  }
+
+  private User persistUser(String email) {
+    User user = new User(email, "Test@2024", "Test User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    return user;
+  }
+
+  private static TransactionEntity keyedTransaction(User user, String key) {
+    Transaction transaction = new Transaction(Money.of(BigDecimal.TEN), "Description", "Category",
+        TransactionType.EXPENSE, user);
+    transaction.setIdempotencyKey(key);
+    return new TransactionEntity(transaction);
+  }
+
+  private void persistTransaction(double amount, TransactionType type, User user) {
+    persistTransaction(amount, type, user, LocalDateTime.now());
+  }
+
+  private void persistTransaction(double amount, String category, TransactionType type,
+      User user) {
+    transactionRepository.save(new TransactionEntity(new Transaction(
+        Money.of(BigDecimal.valueOf(amount)), "Description", category, type, user)));
+  }
+
+  private void persistTransaction(double amount, TransactionType type, User user,
+      LocalDateTime date) {
+    Transaction transaction = new Transaction(Money.of(BigDecimal.valueOf(amount)), "Description", "Category", type, user);
+    transaction.setDate(date);
+    transactionRepository.save(new TransactionEntity(transaction));
+  }
+}
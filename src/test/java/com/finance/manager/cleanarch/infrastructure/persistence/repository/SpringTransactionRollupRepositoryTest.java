@@ -0,0 +1,158 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tests for the monthly rollups maintained by JpaTransactionRepository.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class SpringTransactionRollupRepositoryTest {
+
+  private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+  private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+  private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  @Autowired
+  private SpringTransactionRollupRepository rollupRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private JpaTransactionRepository repository;
+  private User owner;
+  private User other;
+
+  @BeforeEach
+  void setUp() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    repository = new JpaTransactionRepository(transactionRepository, rollupRepository,
+        entityManager, new IdempotencyKeyStore(Duration.ofMinutes(1), 100, registry), registry);
+    owner = persistUser("owner@example.com");
+    other = persistUser("other@example.com");
+  }
+
+  @Test
+  @DisplayName("Should sum added transactions per month and type")
+  void addToRollups_ShouldServeMonthlyTotals() {
+    add(owner, "1000.00", TransactionType.INCOME, "Salary", JANUARY);
+    add(owner, "40.00", TransactionType.EXPENSE, "Food", JANUARY);
+    add(owner, "2.50", TransactionType.EXPENSE, "Food", JANUARY);
+    add(owner, "60.00", TransactionType.EXPENSE, "Transport", FEBRUARY);
+    add(owner, "5.00", TransactionType.EXPENSE, "Food", MARCH);
+    add(other, "70.00", TransactionType.EXPENSE, "Food", JANUARY);
+
+    List<MonthlyTotal> totals = repository.findMonthlyTotals(owner, JANUARY, FEBRUARY);
+
+    assertEquals(List.of(
+        new MonthlyTotal(JANUARY, TransactionType.EXPENSE, Money.parse("42.50"), 2),
+        new MonthlyTotal(JANUARY, TransactionType.INCOME, Money.parse("1000.00"), 1),
+        new MonthlyTotal(FEBRUARY, TransactionType.EXPENSE, Money.parse("60.00"), 1)),
+        totals);
+  }
+
+  @Test
+  @DisplayName("Should sum added transactions per category, largest first")
+  void addToRollups_ShouldServeCategoryTotals() {
+    add(owner, "40.00", TransactionType.EXPENSE, "Food", JANUARY);
+    add(owner, "30.00", TransactionType.EXPENSE, "Food", FEBRUARY);
+    add(owner, "60.00", TransactionType.EXPENSE, "Transport", FEBRUARY);
+    add(owner, "500.00", TransactionType.EXPENSE, "Rent", MARCH);
+
+    List<CategoryTotal> totals = repository.findCategoryTotals(owner, JANUARY, FEBRUARY);
+
+    assertEquals(List.of(
+        new CategoryTotal("Food", TransactionType.EXPENSE, Money.parse("70.00"), 2),
+        new CategoryTotal("Transport", TransactionType.EXPENSE, Money.parse("60.00"), 1)),
+        totals);
+  }
+
+  @Test
+  @DisplayName("Should rebuild the same buckets as the incremental updates")
+  void rebuildRollups_ShouldMatchIncrementalTotals() {
+    add(owner, "1000.00", TransactionType.INCOME, "Salary", JANUARY);
+    add(owner, "40.00", TransactionType.EXPENSE, "Food", JANUARY);
+    add(owner, "2.50", TransactionType.EXPENSE, "Food", JANUARY);
+    add(owner, "60.00", TransactionType.EXPENSE, "Transport", FEBRUARY);
+    add(other, "70.00", TransactionType.EXPENSE, "Food", JANUARY);
+    List<MonthlyTotal> monthly = repository.findMonthlyTotals(owner, JANUARY, MARCH);
+    List<CategoryTotal> categories = repository.findCategoryTotals(owner, JANUARY, MARCH);
+    rollupRepository.deleteByUserId(owner.getId());
+
+    int buckets = repository.rebuildRollups(owner);
+
+    assertEquals(3, buckets);
+    assertEquals(monthly, repository.findMonthlyTotals(owner, JANUARY, MARCH));
+    assertEquals(categories, repository.findCategoryTotals(owner, JANUARY, MARCH));
+    assertEquals(1, repository.findMonthlyTotals(other, JANUARY, MARCH).size());
+  }
+
+  @Test
+  @DisplayName("Should return no totals for months without transactions")
+  void findMonthlyTotals_WithNoTransactions_ShouldBeEmpty() {
+    add(owner, "40.00", TransactionType.EXPENSE, "Food", JANUARY);
+
+    assertTrue(repository.findMonthlyTotals(owner, FEBRUARY, MARCH).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should reject amounts in another currency than the bucket")
+  void addToRollups_WithOtherCurrency_ShouldThrowException() {
+    add(owner, "40.00", TransactionType.EXPENSE, "Food", JANUARY);
+    Transaction euros = transaction(owner,
+        new Money(1000, Currency.getInstance("EUR")), TransactionType.EXPENSE, "Food", JANUARY);
+
+    assertThrows(DataIntegrityViolationException.class,
+        () -> repository.addToRollups(owner, List.of(euros)));
+  }
+
+  private void add(User user, String amount, TransactionType type, String category,
+      YearMonth month) {
+    Transaction transaction = transaction(user, Money.parse(amount), type, category, month);
+    repository.addToRollups(user, List.of(transaction));
+    repository.save(transaction);
+  }
+
+  private Transaction transaction(User user, Money amount, TransactionType type,
+      String category, YearMonth month) {
+    Transaction transaction = new Transaction(amount, "Description", category, type, user);
+    transaction.setDate(LocalDateTime.of(month.getYear(), month.getMonth(), 15, 12, 0));
+    return transaction;
+  }
+
+  private User persistUser(String email) {
+    User user = new User(email, "Test@2024", "Test User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    return user;
+  }
+}
@@ -0,0 +1,110 @@
+package com.finance.manager.cleanarch.infrastructure.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.application.usecase.BalanceReconciliationUseCase.BalanceDrift;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase.FinancialSummary;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.domain.model.UserBalance;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserBalanceRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import com.finance.manager.cleanarch.infrastructure.scheduling.BalanceReconciliationJob.ReconciliationReport;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the stored user totals and their reconciliation.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceReconciliationJobTest {
+
+  private static final String EMAIL = "balances@example.com";
+
+  @Autowired
+  private BalanceReconciliationJob reconciliationJob;
+
+  @Autowired
+  private TransactionUseCase transactionUseCase;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringUserBalanceRepository balanceRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = new User(EMAIL, "Test@2024", "Balance User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    transactionUseCase.addTransaction(user,
+        new Transaction(Money.parse("1000.00"), "Salary", "Income", TransactionType.INCOME, user));
+    transactionUseCase.addTransactions(user, List.of(
+        new Transaction(Money.parse("250.00"), "Rent", "Housing", TransactionType.EXPENSE, user),
+        new Transaction(Money.parse("49.99"), "Food", "Food", TransactionType.EXPENSE, user)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should keep the stored totals in step with added transactions")
+  void addTransaction_ShouldUpdateStoredTotals() {
+    FinancialSummary summary = transactionUseCase.getFinancialSummary(user);
+
+    assertEquals(Money.parse("1000.00"), summary.totalIncome());
+    assertEquals(Money.parse("299.99"), summary.totalExpenses());
+    assertEquals(Money.parse("700.01"), summary.balance());
+  }
+
+  @Test
+  @DisplayName("Should report and correct totals that drifted from the transactions")
+  void run_WithDriftedTotals_ShouldCorrectThem() {
+    jdbcTemplate.update("UPDATE user_balances SET total_expenses_minor = 0 WHERE user_id = ?",
+        user.getId());
+
+    ReconciliationReport report = reconciliationJob.run();
+
+    List<BalanceDrift> drifts = report.drifts().stream()
+        .filter(drift -> drift.userId().equals(user.getId()))
+        .toList();
+    assertEquals(1, drifts.size());
+    assertEquals(Money.parse("0.00"), drifts.get(0).stored().totalExpenses());
+    assertEquals(new UserBalance(user.getId(), Money.parse("1000.00"), Money.parse("299.99")),
+        drifts.get(0).ledger());
+    assertEquals(Money.parse("700.01"), transactionUseCase.getFinancialSummary(user).balance());
+    assertTrue(reconciliationJob.run().drifts().stream()
+        .noneMatch(drift -> drift.userId().equals(user.getId())));
+  }
+
+  @Test
+  @DisplayName("Should recreate totals that are missing for a user with transactions")
+  void run_WithMissingTotals_ShouldRecreateThem() {
+    balanceRepository.deleteById(user.getId());
+
+    reconciliationJob.run();
+
+    assertEquals(Money.parse("700.01"), transactionUseCase.getFinancialSummary(user).balance());
+  }
+}
@@ -0,0 +1,127 @@
+package com.finance.manager.cleanarch.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for BoundedPasswordEncoder.
+ */
+class BoundedPasswordEncoderTest {
+
+  private static final String PASSWORD = "Test@2024";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    encoder.close();
+  }
+
+  @Test
+  @DisplayName("Should hash and verify passwords on the pool and record the waiting time")
+  void encodeAndMatches_ShouldDelegateAndRecordTimers() {
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+        Duration.ofSeconds(5), registry);
+
+    String hash = encoder.encode(PASSWORD);
+
+    assertTrue(encoder.matches(PASSWORD, hash));
+    assertFalse(encoder.matches("Wrong@2024", hash));
+    assertEquals(1, registry.get("password.hashing").tag("operation", "encode").timer().count());
+    assertEquals(2, registry.get("password.hashing").tag("operation", "matches").timer().count());
+    assertEquals(0.0, registry.get("executor.queued").tag("name", "passwordHashing")
+        .gauge().value());
+  }
+
+  @Test
+  @DisplayName("Should reject a call at once when every thread is busy and the queue is full")
+  void matches_WhenSaturated_ShouldFailFast() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 0,
+        Duration.ofSeconds(5), registry);
+    CompletableFuture<Boolean> first =
+        CompletableFuture.supplyAsync(() -> encoder.matches(PASSWORD, "hash"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(PasswordHashingBusyException.class, () -> encoder.matches(PASSWORD, "hash"));
+    assertEquals(1.0, registry.get("password.hashing.rejected").tag("operation", "matches")
+        .counter().count());
+
+    release.countDown();
+    assertTrue(first.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("Should give up on a queued call after the timeout")
+  void encode_WhenQueuedPastTimeout_ShouldThrowBusy() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1,
+        Duration.ofMillis(50), registry);
+    CompletableFuture.runAsync(() -> encoder.matches(PASSWORD, "hash"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(PasswordHashingBusyException.class, () -> encoder.encode(PASSWORD));
+    assertEquals(1.0, registry.get("password.hashing.rejected").tag("operation", "encode")
+        .counter().count());
+  }
+
+  @Test
+  @DisplayName("Should ask for a new hash when the stored one has a lower work factor")
+  void upgradeEncoding_WithLowerWorkFactor_ShouldBeTrue() {
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1,
+        Duration.ofSeconds(5), registry);
+
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    assertFalse(encoder.upgradeEncoding(encoder.encode(PASSWORD)));
+  }
+
+  @Test
+  @DisplayName("Should reject a pool without threads")
+  void constructor_WithoutThreads_ShouldThrowException() {
+    encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 0,
+        Duration.ofSeconds(5), registry);
+
+    assertThrows(IllegalArgumentException.class, () -> new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(4), 0, 0, Duration.ofSeconds(5), registry));
+  }
+
+  private PasswordEncoder blockingEncoder(CountDownLatch started) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        return "hash";
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        started.countDown();
+        // Like a real hash, ignore interrupts and keep the thread busy until released.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (release.getCount() > 0 && System.nanoTime() < deadline) {
+          try {
+            release.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          } catch (InterruptedException e) {
+            // keep waiting
+          }
+        }
+        return release.getCount() == 0;
+      }
+    };
+  }
+}
@@ -0,0 +1,91 @@
+package com.finance.manager.cleanarch.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for replacing outdated password hashes at login.
+ */
+@SpringBootTest(properties = "finance.security.bcrypt.strength=5")
+@ActiveProfiles("test")
+class PasswordRehashTest {
+
+  private static final String EMAIL = "rehash@example.com";
+  private static final String PASSWORD = "Test@2024";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should rehash a password with a lower work factor after a successful login")
+  void login_WithLowerWorkFactor_ShouldRehashPassword() throws Exception {
+    saveUser(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+    mockMvc.perform(formLogin().user(EMAIL).password(PASSWORD))
+        .andExpect(redirectedUrl("/dashboard"));
+
+    assertTrue(storedHash().startsWith("$2a$05$"), storedHash());
+    mockMvc.perform(formLogin().user(EMAIL).password(PASSWORD))
+        .andExpect(redirectedUrl("/dashboard"));
+  }
+
+  @Test
+  @DisplayName("Should keep the stored hash after a failed login")
+  void login_WithWrongPassword_ShouldKeepHash() throws Exception {
+    String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+    saveUser(hash);
+
+    mockMvc.perform(formLogin().user(EMAIL).password("Wrong@2024"))
+        .andExpect(redirectedUrl("/login?error=true"));
+
+    assertTrue(storedHash().equals(hash));
+  }
+
+  private void saveUser(String hash) {
+    userRepository.save(new UserEntity(User.rehydrate(null, EMAIL, hash, "Rehash User")));
+  }
+
+  private String storedHash() {
+    return userRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+  }
+}
@@ -0,0 +1,104 @@
+package com.finance.manager.cleanarch.interfaces.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.CategoryTotal;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.MonthlyTotal;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the monthly rollups and the command that rebuilds them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RebuildRollupsCommandTest {
+
+  private static final String EMAIL = "rollups@example.com";
+  private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+  private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+
+  @Autowired
+  private RebuildRollupsCommand command;
+
+  @Autowired
+  private TransactionUseCase transactionUseCase;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = new User(EMAIL, "Test@2024", "Rollup User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    transactionUseCase.addTransaction(user,
+        transaction("3000.00", TransactionType.INCOME, "Salary", JANUARY));
+    transactionUseCase.addTransactions(user, List.of(
+        transaction("42.10", TransactionType.EXPENSE, "Food", JANUARY),
+        transaction("17.90", TransactionType.EXPENSE, "Food", FEBRUARY),
+        transaction("900.00", TransactionType.EXPENSE, "Rent", FEBRUARY)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should keep the rollups in step with added transactions")
+  void addTransaction_ShouldUpdateRollups() {
+    List<CategoryTotal> breakdown =
+        transactionUseCase.getCategoryBreakdown(user, JANUARY, FEBRUARY);
+
+    assertEquals(List.of(
+        new CategoryTotal("Salary", TransactionType.INCOME, Money.parse("3000.00"), 1),
+        new CategoryTotal("Rent", TransactionType.EXPENSE, Money.parse("900.00"), 1),
+        new CategoryTotal("Food", TransactionType.EXPENSE, Money.parse("60.00"), 2)),
+        breakdown);
+    assertEquals(3, transactionUseCase.getMonthlyTotals(user, JANUARY, FEBRUARY).size());
+  }
+
+  @Test
+  @DisplayName("Should backfill rollups that are missing for existing transactions")
+  void rebuildAll_WithMissingRollups_ShouldRecreateThem() {
+    List<MonthlyTotal> expected = transactionUseCase.getMonthlyTotals(user, JANUARY, FEBRUARY);
+    jdbcTemplate.update("DELETE FROM transaction_rollups WHERE user_id = ?", user.getId());
+    assertTrue(transactionUseCase.getMonthlyTotals(user, JANUARY, FEBRUARY).isEmpty());
+
+    long buckets = command.rebuildAll();
+
+    assertTrue(buckets >= 4);
+    assertEquals(expected, transactionUseCase.getMonthlyTotals(user, JANUARY, FEBRUARY));
+  }
+
+  private Transaction transaction(String amount, TransactionType type, String category,
+      YearMonth month) {
+    Transaction transaction =
+        new Transaction(Money.parse(amount), "Description", category, type, user);
+    transaction.setDate(LocalDateTime.of(month.getYear(), month.getMonth(), 10, 9, 30));
+    return transaction;
+  }
+}
@@ -0,0 +1,79 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CsvTransactionReader.
+ */
+class CsvTransactionReaderTest {
+
+  @Test
+  @DisplayName("Should skip the header and blank lines and keep source line numbers")
+  void read_WithHeader_ShouldSkipHeaderAndBlankLines() {
+    List<ImportRow> rows = readAll("""
+        Date,Description,Category,Type,Amount
+        2025-03-01,Salary,Income,INCOME,5000.00
+
+        2025-03-05,Rent,Housing,EXPENSE,1500.00
+        """);
+
+    assertEquals(List.of(
+        new ImportRow(2, "2025-03-01", "Salary", "Income", "INCOME", "5000.00"),
+        new ImportRow(4, "2025-03-05", "Rent", "Housing", "EXPENSE", "1500.00")), rows);
+  }
+
+  @Test
+  @DisplayName("Should read quoted fields containing commas and quotes")
+  void read_WithQuotedFields_ShouldUnquote() {
+    List<ImportRow> rows = readAll(
+        "2025-03-10,\"Dinner, \"\"The Place\"\"\",Food,EXPENSE,\"1,200.5\"\n");
+
+    assertEquals(new ImportRow(1, "2025-03-10", "Dinner, \"The Place\"", "Food", "EXPENSE",
+        "1,200.5"), rows.get(0));
+  }
+
+  @Test
+  @DisplayName("Should read quoted fields across lines and number rows by their first line")
+  void read_WithLineBreakInQuotedField_ShouldKeepLineBreak() {
+    List<ImportRow> rows = readAll(
+        "2025-03-10,\"Dinner\r\nwith friends\",Food,EXPENSE,42.10\r\n"
+            + "2025-03-11,Taxi,Travel,EXPENSE,20.00\r\n");
+
+    assertEquals(List.of(
+        new ImportRow(1, "2025-03-10", "Dinner\r\nwith friends", "Food", "EXPENSE", "42.10"),
+        new ImportRow(3, "2025-03-11", "Taxi", "Travel", "EXPENSE", "20.00")), rows);
+  }
+
+  @Test
+  @DisplayName("Should pass short rows on with empty fields")
+  void read_WithMissingColumns_ShouldFillEmptyFields() {
+    List<ImportRow> rows = readAll("2025-03-10,Coffee\n");
+
+    assertEquals(new ImportRow(1, "2025-03-10", "Coffee", "", "", ""), rows.get(0));
+  }
+
+  @Test
+  @DisplayName("Should throw when reading past the last row")
+  void next_AfterLastRow_ShouldThrow() {
+    CsvTransactionReader reader = new CsvTransactionReader(new StringReader(""));
+
+    assertFalse(reader.hasNext());
+    assertThrows(NoSuchElementException.class, reader::next);
+  }
+
+  private static List<ImportRow> readAll(String csv) {
+    List<ImportRow> rows = new ArrayList<>();
+    new CsvTransactionReader(new StringReader(csv)).forEachRemaining(rows::add);
+    return rows;
+  }
+}
@@ -0,0 +1,126 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CsvTransactionWriter.
+ */
+class CsvTransactionWriterTest {
+
+  private User user;
+  private StringWriter output;
+  private CsvTransactionWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    user = new User("test@example.com", "Test@2024", "Test User");
+    output = new StringWriter();
+    writer = new CsvTransactionWriter(output);
+  }
+
+  @Test
+  @DisplayName("Should write a header and unsigned amounts with two decimals")
+  void write_ShouldWriteRows() {
+    writer.writeHeader();
+    writer.write(transaction("1500", "Rent", "Housing", TransactionType.EXPENSE));
+    writer.write(transaction("12345678.5", "Salary", "Income", TransactionType.INCOME));
+
+    assertEquals("""
+        date,description,category,type,amount
+        2025-03-01T09:30:00,Rent,Housing,EXPENSE,1500.00
+        2025-03-01T09:30:00,Salary,Income,INCOME,12345678.50
+        """, output.toString());
+  }
+
+  @Test
+  @DisplayName("Should write rows that the CSV reader reads back unchanged")
+  void write_WithSpecialCharacters_ShouldRoundTrip() {
+    writer.writeHeader();
+    writer.write(transaction("42.1", "Dinner, \"The Place\"", "Food", TransactionType.EXPENSE));
+
+    List<ImportRow> rows = new ArrayList<>();
+    new CsvTransactionReader(new StringReader(output.toString())).forEachRemaining(rows::add);
+
+    assertEquals(List.of(new ImportRow(2, "2025-03-01T09:30:00", "Dinner, \"The Place\"", "Food",
+        "EXPENSE", "42.10")), rows);
+  }
+
+  @Test
+  @DisplayName("Should prefix text cells that a spreadsheet would run as formulas")
+  void write_WithFormulaText_ShouldNeutraliseCells() {
+    writer.write(transaction("10", "=HYPERLINK(\"http://x\")", "+Misc", TransactionType.EXPENSE));
+    writer.write(transaction("10", "-5 refund", "@Work", TransactionType.INCOME));
+
+    assertEquals("""
+        2025-03-01T09:30:00,"'=HYPERLINK(""http://x"")",'+Misc,EXPENSE,10.00
+        2025-03-01T09:30:00,'-5 refund,'@Work,INCOME,10.00
+        """, output.toString());
+  }
+
+  @Test
+  @DisplayName("Should read neutralised formula cells back without the prefix")
+  void write_WithFormulaText_ShouldRoundTrip() {
+    writer.writeHeader();
+    writer.write(transaction("10", "=SUM(A1:A2)", "'Quoted", TransactionType.EXPENSE));
+
+    List<ImportRow> rows = new ArrayList<>();
+    new CsvTransactionReader(new StringReader(output.toString())).forEachRemaining(rows::add);
+
+    assertEquals(List.of(new ImportRow(2, "2025-03-01T09:30:00", "=SUM(A1:A2)", "'Quoted",
+        "EXPENSE", "10.00")), rows);
+  }
+
+  @Test
+  @DisplayName("Should prefix text cells starting with a tab")
+  void write_WithLeadingTab_ShouldNeutraliseCell() {
+    writer.write(transaction("10", "\t=1+1", "Misc", TransactionType.EXPENSE));
+
+    assertEquals("2025-03-01T09:30:00,'\t=1+1,Misc,EXPENSE,10.00\n", output.toString());
+  }
+
+  @Test
+  @DisplayName("Should prefix text cells starting with a carriage return")
+  void write_WithLeadingCarriageReturn_ShouldNeutraliseCell() {
+    writer.write(transaction("10", "Lunch", "\r=1+1", TransactionType.EXPENSE));
+
+    assertEquals("2025-03-01T09:30:00,Lunch,\"'\r=1+1\",EXPENSE,10.00\n", output.toString());
+  }
+
+  @Test
+  @DisplayName("Should keep line breaks inside quoted cells and read them back")
+  void write_WithLineBreaks_ShouldRoundTrip() {
+    writer.writeHeader();
+    writer.write(transaction("10", "Dinner\r\nwith friends", "\tFood", TransactionType.EXPENSE));
+    writer.write(transaction("20", "Taxi\nhome", "Travel", TransactionType.EXPENSE));
+
+    List<ImportRow> rows = new ArrayList<>();
+    new CsvTransactionReader(new StringReader(output.toString())).forEachRemaining(rows::add);
+
+    assertEquals(List.of(
+        new ImportRow(2, "2025-03-01T09:30:00", "Dinner\r\nwith friends", "\tFood", "EXPENSE",
+            "10.00"),
+        new ImportRow(4, "2025-03-01T09:30:00", "Taxi\nhome", "Travel", "EXPENSE", "20.00")),
+        rows);
+  }
+
+  private Transaction transaction(String amount, String description, String category,
+      TransactionType type) {
+    Transaction transaction = new Transaction(Money.parse(amount), description, category, type, user);
+    transaction.setDate(LocalDateTime.of(2025, 3, 1, 9, 30));
+    return transaction;
+  }
+}
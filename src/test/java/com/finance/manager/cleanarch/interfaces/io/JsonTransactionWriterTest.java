@@ -0,0 +1,74 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for JsonTransactionWriter.
+ */
+class JsonTransactionWriterTest {
+
+  private User user;
+  private StringWriter output;
+
+  @BeforeEach
+  void setUp() {
+    user = new User("test@example.com", "Test@2024", "Test User");
+    output = new StringWriter();
+  }
+
+  @Test
+  @DisplayName("Should write one object per transaction with signed decimal amounts")
+  void write_ShouldWriteObjects() throws IOException {
+    write(false, "next");
+
+    assertEquals("{\"transactions\":["
+        + "{\"id\":1,\"amount\":-1500.00,\"description\":\"Rent\",\"category\":\"Housing\","
+        + "\"type\":\"EXPENSE\",\"date\":\"2025-03-01T09:30:00\"},"
+        + "{\"id\":2,\"amount\":42.10,\"description\":\"Refund \\\"A\\\"\","
+        + "\"category\":\"Income\",\"type\":\"INCOME\",\"date\":\"2025-03-01T09:30:00\"}],"
+        + "\"nextCursor\":\"next\"}", output.toString());
+  }
+
+  @Test
+  @DisplayName("Should name the columns once and write each transaction as a row")
+  void write_WithColumnarLayout_ShouldWriteRows() throws IOException {
+    write(true, null);
+
+    assertEquals("{\"columns\":[\"id\",\"date\",\"type\",\"category\",\"description\","
+        + "\"amountMinor\",\"currency\"],\"rows\":["
+        + "[1,\"2025-03-01T09:30:00\",\"EXPENSE\",\"Housing\",\"Rent\",-150000,\"USD\"],"
+        + "[2,\"2025-03-01T09:30:00\",\"INCOME\",\"Income\",\"Refund \\\"A\\\"\",4210,\"USD\"]],"
+        + "\"nextCursor\":null}", output.toString());
+  }
+
+  private void write(boolean columnar, String nextCursor) throws IOException {
+    try (JsonGenerator generator = new JsonFactory().createGenerator(output)) {
+      JsonTransactionWriter writer = new JsonTransactionWriter(generator, columnar);
+      writer.writeStart();
+      writer.write(transaction(1L, "1500", "Rent", "Housing", TransactionType.EXPENSE));
+      writer.write(transaction(2L, "42.1", "Refund \"A\"", "Income", TransactionType.INCOME));
+      writer.writeEnd(nextCursor);
+    }
+  }
+
+  private Transaction transaction(Long id, String amount, String description, String category,
+      TransactionType type) {
+    Transaction transaction = new Transaction(Money.parse(amount), description, category, type, user);
+    transaction.setId(id);
+    transaction.setDate(LocalDateTime.of(2025, 3, 1, 9, 30));
+    return transaction;
+  }
+}
@@ -0,0 +1,80 @@
+package com.finance.manager.cleanarch.interfaces.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportRow;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for OfxTransactionReader.
+ */
+class OfxTransactionReaderTest {
+
+  @Test
+  @DisplayName("Should read statement transactions from SGML OFX")
+  void read_WithSgmlOfx_ShouldReadTransactions() {
+    List<ImportRow> rows = readAll("""
+        OFXHEADER:100
+        DATA:OFXSGML
+        VERSION:102
+
+        <OFX>
+        <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+        <BANKTRANLIST>
+        <DTSTART>20250301
+        <STMTTRN>
+        <TRNTYPE>CREDIT
+        <DTPOSTED>20250301120000[-3:BRT]
+        <TRNAMT>5000.00
+        <FITID>1
+        <NAME>Salary &amp; Bonus
+        </STMTTRN>
+        <STMTTRN>
+        <TRNTYPE>DEBIT
+        <DTPOSTED>20250305
+        <TRNAMT>-89,99
+        <FITID>2
+        <MEMO>Internet bill
+        </STMTTRN>
+        </BANKTRANLIST>
+        </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+        </OFX>
+        """);
+
+    assertEquals(List.of(
+        new ImportRow(9, "2025-03-01T12:00:00", "Salary & Bonus", OfxTransactionReader.CATEGORY,
+            "", "5000.00"),
+        new ImportRow(16, "2025-03-05", "Internet bill", OfxTransactionReader.CATEGORY, "",
+            "-89.99")), rows);
+  }
+
+  @Test
+  @DisplayName("Should read statement transactions from XML OFX")
+  void read_WithXmlOfx_ShouldReadTransactions() {
+    List<ImportRow> rows = readAll("<?xml version=\"1.0\"?><OFX><BANKTRANLIST>"
+        + "<STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20250310093000.000</DTPOSTED>"
+        + "<TRNAMT>-42.10</TRNAMT><NAME>Groceries</NAME><MEMO>Market</MEMO></STMTTRN>"
+        + "</BANKTRANLIST></OFX>");
+
+    assertEquals(List.of(new ImportRow(1, "2025-03-10T09:30:00", "Groceries",
+        OfxTransactionReader.CATEGORY, "", "-42.10")), rows);
+  }
+
+  @Test
+  @DisplayName("Should pass malformed dates on unchanged")
+  void read_WithMalformedDate_ShouldKeepValue() {
+    List<ImportRow> rows = readAll("<STMTTRN><DTPOSTED>March<TRNAMT>1<NAME>x</STMTTRN>");
+
+    assertEquals("March", rows.get(0).date());
+  }
+
+  private static List<ImportRow> readAll(String ofx) {
+    List<ImportRow> rows = new ArrayList<>();
+    new OfxTransactionReader(new StringReader(ofx)).forEachRemaining(rows::add);
+    return rows;
+  }
+}
@@ -15,6 +15,7 @@ import com.finance.manager.cleanarch.application.usecase.UserUseCase;
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import com.finance.manager.cleanarch.infrastructure.security.PasswordHashingBusyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -81,6 +82,16 @@ class AuthControllerTest {
         .andExpect(model().attributeExists("error"));
   }
 
+  @Test
+  @DisplayName("Should ask to retry when the login could not be checked in time")
+  @WithAnonymousUser
+  void login_WhenBusy_ShouldShowLoginPageWithError() throws Exception {
+    mockMvc.perform(get("/login").param("busy", "true"))
+        .andExpect(status().isOk())
+        .andExpect(view().name("login"))
+        .andExpect(model().attributeExists("error"));
+  }
+
   @Test
   @DisplayName("Should authenticate and redirect to dashboard")
   void login_WithValidCredentials_ShouldAuthenticateAndRedirectToDashboard() throws Exception {
@@ -225,6 +236,23 @@ class AuthControllerTest {
         .andExpect(model().attributeExists("error"));
   }
 
+  @Test
+  @DisplayName("Should ask to retry when the password could not be hashed in time")
+  void register_WhenHashingBusy_ShouldReturnToRegisterFormWithError() throws Exception {
+    when(userUseCase.registerUser(anyString(), anyString(), anyString()))
+        .thenThrow(new PasswordHashingBusyException("Password hashing queue is full", null));
+
+    mockMvc.perform(post("/register")
+            .with(csrf())
+            .param("email", "test@example.com")
+            .param("password", "Password1!")
+            .param("passwordConfirmation", "Password1!")
+            .param("name", "Test User"))
+        .andExpect(status().isOk())
+        .andExpect(view().name("register"))
+        .andExpect(model().attributeExists("error"));
+  }
+
   @Test
   @DisplayName("Should pass password pattern to model on validation error")
   @WithAnonymousUser
@@ -1,7 +1,11 @@
 package com.finance.manager.cleanarch.interfaces.web;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -14,12 +18,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.Money;
 import com.finance.manager.cleanarch.domain.model.Transaction;
 import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.TransactionPage;
 import com.finance.manager.cleanarch.domain.model.User;
 import com.finance.manager.cleanarch.infrastructure.persistence.repository.JpaUserRepository;
 import com.finance.manager.cleanarch.interfaces.dto.TransactionDto;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -74,11 +82,11 @@ class DashboardControllerTest {
     testUser = new User("test@example.com", "Test@2024", "Test User");
     testUser.setId(1L);
 
-    Transaction income = new Transaction(1000.0, "Salary", "Income", TransactionType.INCOME, testUser);
+    Transaction income = new Transaction(Money.parse("1000.00"), "Salary", "Income", TransactionType.INCOME, testUser);
     income.setId(1L);
     income.setDate(LocalDateTime.now());
 
-    Transaction expense = new Transaction(500.0, "Rent", "Housing", TransactionType.EXPENSE, testUser);
+    Transaction expense = new Transaction(Money.parse("500.00"), "Rent", "Housing", TransactionType.EXPENSE, testUser);
     expense.setId(2L);
     expense.setDate(LocalDateTime.now());
 
@@ -86,7 +94,8 @@ class DashboardControllerTest {
     testTransactionDtos = testTransactions.stream()
         .map(TransactionDto::fromDomain)
         .collect(Collectors.toList());
-    testSummary = new TransactionUseCase.FinancialSummary(1000.0, 500.0, 500.0);
+    testSummary = new TransactionUseCase.FinancialSummary(
+        Money.parse("1000.00"), Money.parse("500.00"), Money.parse("500.00"));
 
     when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
   }
@@ -113,8 +122,9 @@ class DashboardControllerTest {
   @DisplayName("Should show dashboard with transactions and summary")
   @WithMockUser(username = "test@example.com")
   void dashboard_ShouldShowDashboardWithTransactionsAndSummary() throws Exception {
-    when(transactionUseCase.getUserTransactions(any(User.class))).thenReturn(testTransactions);
-    when(transactionUseCase.getFinancialSummary(any(User.class))).thenReturn(testSummary);
+    when(transactionUseCase.getDashboard(any(User.class), isNull(), eq(20)))
+        .thenReturn(new TransactionUseCase.DashboardView(
+            new TransactionPage(testTransactions, null), testSummary));
 
     mockMvc.perform(get("/dashboard")
             .with(csrf()))
@@ -125,9 +135,10 @@ class DashboardControllerTest {
         .andExpect(model().attributeExists("totalExpenses"))
         .andExpect(model().attributeExists("balance"))
         .andExpect(model().attribute("transactions", testTransactionDtos))
-        .andExpect(model().attribute("totalIncome", testSummary.totalIncome()))
-        .andExpect(model().attribute("totalExpenses", testSummary.totalExpenses()))
-        .andExpect(model().attribute("balance", testSummary.balance()));
+        .andExpect(model().attribute("totalIncome", testSummary.totalIncome().toBigDecimal()))
+        .andExpect(model().attribute("totalExpenses", testSummary.totalExpenses().toBigDecimal()))
+        .andExpect(model().attribute("balance", testSummary.balance().toBigDecimal()))
+        .andExpect(model().attribute("currency", "USD"));
   }
 
   @Test
@@ -135,11 +146,13 @@ class DashboardControllerTest {
   @WithMockUser(username = "new@example.com")
   void dashboard_ShouldShowEmptyDashboardForNewUser() throws Exception {
     User newUser = new User("new@example.com", "Test@2024", "New User");
-    TransactionUseCase.FinancialSummary emptySummary = new TransactionUseCase.FinancialSummary(0.0, 0.0, 0.0);
+    TransactionUseCase.FinancialSummary emptySummary = new TransactionUseCase.FinancialSummary(
+        Money.ofMinor(0), Money.ofMinor(0), Money.ofMinor(0));
 
     when(userRepository.findByEmail("new@example.com")).thenReturn(Optional.of(newUser));
-    when(transactionUseCase.getUserTransactions(any(User.class))).thenReturn(List.of());
-    when(transactionUseCase.getFinancialSummary(any(User.class))).thenReturn(emptySummary);
+    when(transactionUseCase.getDashboard(any(User.class), isNull(), anyInt()))
+        .thenReturn(new TransactionUseCase.DashboardView(
+            new TransactionPage(List.of(), null), emptySummary));
 
     mockMvc.perform(get("/dashboard")
             .with(csrf()))
@@ -150,9 +163,64 @@ class DashboardControllerTest {
         .andExpect(model().attributeExists("totalExpenses"))
         .andExpect(model().attributeExists("balance"))
         .andExpect(model().attribute("transactions", List.of()))
-        .andExpect(model().attribute("totalIncome", 0.0))
-        .andExpect(model().attribute("totalExpenses", 0.0))
-        .andExpect(model().attribute("balance", 0.0));
+        .andExpect(model().attribute("totalIncome", new BigDecimal("0.00")))
+        .andExpect(model().attribute("totalExpenses", new BigDecimal("0.00")))
+        .andExpect(model().attribute("balance", new BigDecimal("0.00")));
+  }
+
+  @Test
+  @DisplayName("Should pass cursor and page size through and expose the next cursor")
+  @WithMockUser(username = "test@example.com")
+  void dashboard_WithCursor_ShouldShowRequestedPage() throws Exception {
+    TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2025, 3, 1, 9, 0), 42L);
+    TransactionCursor next = TransactionCursor.after(testTransactions.get(1));
+    when(transactionUseCase.getDashboard(any(User.class), eq(cursor), eq(2)))
+        .thenReturn(new TransactionUseCase.DashboardView(
+            new TransactionPage(testTransactions, next), testSummary));
+
+    mockMvc.perform(get("/dashboard")
+            .param("cursor", cursor.toToken())
+            .param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("transactions", testTransactionDtos))
+        .andExpect(model().attribute("nextCursor", next.toToken()))
+        .andExpect(model().attribute("firstPage", false))
+        .andExpect(model().attribute("pageSize", 2));
+  }
+
+  @Test
+  @DisplayName("Should treat a blank cursor as the first page")
+  @WithMockUser(username = "test@example.com")
+  void dashboard_WithBlankCursor_ShouldShowFirstPage() throws Exception {
+    when(transactionUseCase.getDashboard(any(User.class), isNull(), anyInt()))
+        .thenReturn(new TransactionUseCase.DashboardView(
+            new TransactionPage(testTransactions, null), testSummary));
+
+    mockMvc.perform(get("/dashboard").param("cursor", ""))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("transactions", testTransactionDtos))
+        .andExpect(model().attribute("firstPage", true));
+  }
+
+  @Test
+  @DisplayName("Should cap the page size")
+  @WithMockUser(username = "test@example.com")
+  void dashboard_WithHugePageSize_ShouldCapPageSize() throws Exception {
+    when(transactionUseCase.getDashboard(any(User.class), isNull(), eq(100)))
+        .thenReturn(new TransactionUseCase.DashboardView(
+            new TransactionPage(testTransactions, null), testSummary));
+
+    mockMvc.perform(get("/dashboard").param("size", "100000"))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("pageSize", 100));
+  }
+
+  @Test
+  @DisplayName("Should reject a malformed cursor")
+  @WithMockUser(username = "test@example.com")
+  void dashboard_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/dashboard").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
   }
 
   @Test
@@ -172,7 +240,8 @@ class DashboardControllerTest {
         .andExpect(status().isOk())
         .andExpect(view().name("transaction/add"))
         .andExpect(model().attributeExists("transaction"))
-        .andExpect(model().attributeExists("transactionTypes"));
+        .andExpect(model().attributeExists("transactionTypes"))
+        .andExpect(model().attributeExists("idempotencyKey"));
   }
 
   @Test
@@ -180,30 +249,52 @@ class DashboardControllerTest {
   @WithMockUser(username = "test@example.com")
   void addTransaction_ShouldAddTransactionSuccessfully() throws Exception {
     TransactionDto transactionDto = new TransactionDto();
-    transactionDto.setAmount(100.0);
+    transactionDto.setAmount(new BigDecimal("100.0"));
     transactionDto.setDescription("Test Transaction");
     transactionDto.setCategory("Test");
     transactionDto.setType(TransactionType.INCOME);
 
-    when(transactionUseCase.addTransaction(any(User.class), any(Transaction.class)))
-        .thenReturn(new Transaction(100.0, "Test Transaction", "Test", TransactionType.INCOME, testUser));
+    when(transactionUseCase.addTransaction(any(User.class), any(Transaction.class),
+        eq("form-key")))
+        .thenReturn(new Transaction(Money.parse("100.00"), "Test Transaction", "Test", TransactionType.INCOME, testUser));
 
     mockMvc.perform(post("/dashboard/add")
             .with(csrf())
             .param("amount", "100.0")
             .param("description", "Test Transaction")
             .param("category", "Test")
-            .param("type", "INCOME"))
+            .param("type", "INCOME")
+            .param("idempotencyKey", "form-key"))
         .andExpect(status().is3xxRedirection())
         .andExpect(redirectedUrl("/dashboard"))
         .andExpect(flash().attributeExists("success"));
+    verify(transactionUseCase).addTransaction(any(User.class), any(Transaction.class),
+        eq("form-key"));
+  }
+
+  @Test
+  @DisplayName("Should prefer the idempotency key header over the form field")
+  @WithMockUser(username = "test@example.com")
+  void addTransaction_WithIdempotencyKeyHeader_ShouldUseHeader() throws Exception {
+    mockMvc.perform(post("/dashboard/add")
+            .with(csrf())
+            .header(DashboardController.IDEMPOTENCY_KEY_HEADER, "header-key")
+            .param("amount", "100.0")
+            .param("description", "Test Transaction")
+            .param("category", "Test")
+            .param("type", "INCOME")
+            .param("idempotencyKey", "form-key"))
+        .andExpect(redirectedUrl("/dashboard"));
+
+    verify(transactionUseCase).addTransaction(any(User.class), any(Transaction.class),
+        eq("header-key"));
   }
 
   @Test
   @DisplayName("Should handle validation errors when adding transaction")
   @WithMockUser(username = "test@example.com")
   void addTransaction_ShouldHandleValidationErrors() throws Exception {
-    when(transactionUseCase.addTransaction(any(User.class), any(Transaction.class)))
+    when(transactionUseCase.addTransaction(any(User.class), any(Transaction.class), isNull()))
         .thenThrow(new IllegalArgumentException("Invalid transaction"));
 
     mockMvc.perform(post("/dashboard/add")
@@ -0,0 +1,201 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import static com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryBudget.repeatedAtMost;
+import static com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryBudget.statements;
+import static com.finance.manager.cleanarch.infrastructure.persistence.monitoring.QueryBudget.statementsAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.TransactionCursor;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Budgets of SQL statements per endpoint, measured at the JDBC level.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EndpointQueryBudgetTest {
+
+  private static final String EMAIL = "query-budget@example.com";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+
+    User user = new User(EMAIL, "Test@2024", "Query Budget");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    for (int i = 0; i < 30; i++) {
+      TransactionType type = i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+      transactionRepository.save(new TransactionEntity(
+          new Transaction(Money.ofMinor(1000 + i * 100L), "Transaction " + i, "Category", type, user)));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should render the dashboard within its statement budget")
+  @WithMockUser(username = EMAIL)
+  void dashboard_ShouldStayWithinBudget() throws Exception {
+    mockMvc.perform(get("/dashboard").param("size", "20"))
+        .andExpect(status().isOk())
+        .andExpect(statements(4))
+        .andExpect(repeatedAtMost(1));
+  }
+
+  @Test
+  @DisplayName("Should render a deep dashboard page with the statements of the first page")
+  @WithMockUser(username = EMAIL)
+  void dashboard_DeepPage_ShouldStayWithinBudget() throws Exception {
+    String cursor = new TransactionCursor(LocalDateTime.now().minusYears(1), Long.MAX_VALUE)
+        .toToken();
+
+    mockMvc.perform(get("/dashboard").param("size", "20").param("cursor", cursor))
+        .andExpect(status().isOk())
+        .andExpect(statements(4))
+        .andExpect(repeatedAtMost(1));
+  }
+
+  @Test
+  @DisplayName("Should answer an unchanged dashboard with 304 without reading transactions")
+  @WithMockUser(username = EMAIL)
+  void dashboard_WithCurrentEtag_ShouldOnlyReadUserAndDataVersion() throws Exception {
+    MockHttpSession session = new MockHttpSession();
+    String etag = mockMvc.perform(get("/dashboard").session(session))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/dashboard").session(session).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""))
+        .andExpect(statements(2));
+  }
+
+  @Test
+  @DisplayName("Should not reuse a dashboard rendered in another session")
+  @WithMockUser(username = EMAIL)
+  void dashboard_WithEtagOfOtherSession_ShouldRender() throws Exception {
+    String etag = mockMvc.perform(get("/dashboard").session(new MockHttpSession()))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/dashboard").session(new MockHttpSession())
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(statements(4));
+  }
+
+  @Test
+  @DisplayName("Should list a page of transactions within its statement budget")
+  @WithMockUser(username = EMAIL)
+  void listTransactions_ShouldStayWithinBudget() throws Exception {
+    mockMvc.perform(get("/api/transactions").param("size", "20"))
+        .andExpect(status().isOk())
+        .andExpect(statementsAtMost(3))
+        .andExpect(repeatedAtMost(1));
+  }
+
+  @Test
+  @DisplayName("Should compute the summary within its statement budget")
+  @WithMockUser(username = EMAIL)
+  void summary_ShouldStayWithinBudget() throws Exception {
+    mockMvc.perform(get("/api/transactions/summary"))
+        .andExpect(status().isOk())
+        .andExpect(statementsAtMost(3))
+        .andExpect(repeatedAtMost(1));
+  }
+
+  @Test
+  @DisplayName("Should insert a bulk request in batches rather than one statement per row")
+  @WithMockUser(username = EMAIL)
+  void bulkCreate_ShouldBatchInserts() throws Exception {
+    StringJoiner body = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < 40; i++) {
+      body.add("{\"amount\": 10, \"description\": \"Item " + i
+          + "\", \"category\": \"Food\", \"type\": \"EXPENSE\"}");
+    }
+
+    mockMvc.perform(post("/api/transactions/bulk")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body.toString()))
+        .andExpect(status().isCreated())
+        .andExpect(statementsAtMost(15))
+        .andExpect(repeatedAtMost(2));
+  }
+
+  @Test
+  @DisplayName("Should publish the statement count of each request by URI pattern")
+  @WithMockUser(username = EMAIL)
+  void dashboard_ShouldPublishStatementsPerRequest() throws Exception {
+    double before = statementsRecorded();
+
+    mockMvc.perform(get("/dashboard"))
+        .andExpect(status().isOk());
+
+    assertEquals(4.0, statementsRecorded() - before);
+  }
+
+  private double statementsRecorded() {
+    DistributionSummary summary = meterRegistry.find("finance.jdbc.request.statements")
+        .tag("uri", "/dashboard").summary();
+    return summary == null ? 0.0 : summary.totalAmount();
+  }
+}
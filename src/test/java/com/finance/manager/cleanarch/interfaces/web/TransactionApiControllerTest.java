@@ -0,0 +1,361 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for TransactionApiController.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionApiControllerTest {
+
+  private static final String EMAIL = "api@example.com";
+  private static final String PASSWORD = "Test@2024";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  private MockMvc mockMvc;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+
+    user = new User(EMAIL, PASSWORD, "Api User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should stream pages of transactions most recent first")
+  @WithMockUser(username = EMAIL)
+  void listTransactions_ShouldPageThroughHistory() throws Exception {
+    persistTransaction("5000.00", "Salary", TransactionType.INCOME, 1);
+    persistTransaction("1500.00", "Rent", TransactionType.EXPENSE, 2);
+    persistTransaction("42.10", "Food", TransactionType.EXPENSE, 3);
+
+    JsonNode first = list(get("/api/transactions").param("size", "2"),
+        MediaType.APPLICATION_JSON);
+    assertEquals(2, first.get("transactions").size());
+    assertEquals("Food", first.get("transactions").get(0).get("description").asText());
+    assertEquals(-42.10, first.get("transactions").get(0).get("amount").asDouble());
+
+    JsonNode second = list(get("/api/transactions").param("size", "2")
+        .param("cursor", first.get("nextCursor").asText()), MediaType.APPLICATION_JSON);
+    assertEquals(1, second.get("transactions").size());
+    assertEquals("Salary", second.get("transactions").get(0).get("description").asText());
+    assertEquals(true, second.get("nextCursor").isNull());
+  }
+
+  @Test
+  @DisplayName("Should write the columnar layout when the client asks for it")
+  @WithMockUser(username = EMAIL)
+  void listTransactions_WithColumnarAccept_ShouldWriteRows() throws Exception {
+    persistTransaction("1500.00", "Rent", TransactionType.EXPENSE, 2);
+
+    JsonNode page = list(get("/api/transactions")
+            .accept(TransactionApiController.COLUMNAR_JSON_VALUE),
+        MediaType.parseMediaType(TransactionApiController.COLUMNAR_JSON_VALUE));
+
+    assertEquals("amountMinor", page.get("columns").get(5).asText());
+    assertEquals(-150000, page.get("rows").get(0).get(5).asLong());
+    assertEquals("Rent", page.get("rows").get(0).get(4).asText());
+  }
+
+  @Test
+  @DisplayName("Should create a transaction and include it in the summary")
+  @WithMockUser(username = EMAIL)
+  void createTransaction_ShouldUpdateSummary() throws Exception {
+    mockMvc.perform(post("/api/transactions")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"amount": 12.5, "description": "Lunch", "category": "Food",
+                 "type": "EXPENSE", "date": "2025-03-01T12:00:00"}
+                """))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").isNumber())
+        .andExpect(jsonPath("$.amount").value(-12.5));
+
+    mockMvc.perform(get("/api/transactions/summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalExpenses").value(12.5))
+        .andExpect(jsonPath("$.balance").value(-12.5))
+        .andExpect(jsonPath("$.currency").value("USD"));
+  }
+
+  @Test
+  @DisplayName("Should break down the transactions by category, largest first")
+  @WithMockUser(username = EMAIL)
+  void getCategoryBreakdown_ShouldTotalPerCategoryAndType() throws Exception {
+    persistTransaction("20.00", "Lunch", TransactionType.EXPENSE, 1);
+    persistTransaction("30.00", "Dinner", TransactionType.EXPENSE, 2);
+    persistTransaction("1500.00", "Salary", TransactionType.INCOME, 3);
+
+    mockMvc.perform(get("/api/transactions/categories"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].type").value("INCOME"))
+        .andExpect(jsonPath("$[1].category").value("Category"))
+        .andExpect(jsonPath("$[1].type").value("EXPENSE"))
+        .andExpect(jsonPath("$[1].total").value(50.0))
+        .andExpect(jsonPath("$[1].count").value(2))
+        .andExpect(jsonPath("$[1].currency").value("USD"));
+  }
+
+  @Test
+  @DisplayName("Should create a batch of transactions together")
+  @WithMockUser(username = EMAIL)
+  void createTransactions_ShouldAddBatch() throws Exception {
+    mockMvc.perform(post("/api/transactions/bulk")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [{"amount": 3000, "description": "Salary", "category": "Income",
+                  "type": "INCOME"},
+                 {"amount": 900, "description": "Rent", "category": "Housing",
+                  "type": "EXPENSE"}]
+                """))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.created").value(2));
+
+    assertEquals(2, transactionRepository.findByUserId(user.getId()).size());
+    mockMvc.perform(get("/api/transactions/summary"))
+        .andExpect(jsonPath("$.balance").value(2100));
+  }
+
+  @Test
+  @DisplayName("Should reject a batch with an invalid transaction without adding any")
+  @WithMockUser(username = EMAIL)
+  void createTransactions_WithInvalidEntry_ShouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/api/transactions/bulk")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [{"amount": 3000, "description": "Salary", "category": "Income",
+                  "type": "INCOME"},
+                 {"description": "Rent", "category": "Housing", "type": "EXPENSE"}]
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value("Transaction 1: Transaction amount is required"));
+
+    assertEquals(0, transactionRepository.findByUserId(user.getId()).size());
+  }
+
+  @Test
+  @DisplayName("Should answer a committed ingestion once the transaction is stored")
+  @WithMockUser(username = EMAIL)
+  void ingestTransaction_WithCommittedAck_ShouldStoreBeforeAnswering() throws Exception {
+    mockMvc.perform(post("/api/transactions/ingest")
+            .param("ack", "COMMITTED")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"amount": 19.99, "description": "Feed", "category": "Bank",
+                 "type": "EXPENSE", "date": "2025-03-01T12:00:00"}
+                """))
+        .andExpect(status().isCreated());
+
+    assertEquals(1, transactionRepository.findByUserId(user.getId()).size());
+    mockMvc.perform(get("/api/transactions/summary"))
+        .andExpect(jsonPath("$.totalExpenses").value(19.99));
+  }
+
+  @Test
+  @DisplayName("Should validate an ingested transaction before queueing it")
+  @WithMockUser(username = EMAIL)
+  void ingestTransaction_WithoutAmount_ShouldReturnBadRequest() throws Exception {
+    mockMvc.perform(post("/api/transactions/ingest")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"description": "Feed", "category": "Bank", "type": "EXPENSE"}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value("Transaction amount is required"));
+  }
+
+  @Test
+  @DisplayName("Should answer 304 until a write changes the user's data")
+  @WithMockUser(username = EMAIL)
+  void getSummary_WithCurrentEtag_ShouldReturnNotModifiedUntilWrite() throws Exception {
+    String etag = mockMvc.perform(get("/api/transactions/summary"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/transactions/summary").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    mockMvc.perform(post("/api/transactions")
+            .with(csrf())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"amount": 10, "description": "Book", "category": "Books", "type": "EXPENSE"}
+                """))
+        .andExpect(status().isCreated());
+
+    String newEtag = mockMvc.perform(get("/api/transactions/summary")
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalExpenses").value(10))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertNotEquals(etag, newEtag);
+  }
+
+  @Test
+  @DisplayName("Should not revalidate one list layout with the ETag of the other")
+  @WithMockUser(username = EMAIL)
+  void listTransactions_WithEtagOfOtherLayout_ShouldReturnBody() throws Exception {
+    persistTransaction("1500.00", "Rent", TransactionType.EXPENSE, 2);
+    String etag = mockMvc.perform(get("/api/transactions"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/transactions").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    JsonNode page = list(get("/api/transactions")
+            .accept(TransactionApiController.COLUMNAR_JSON_VALUE)
+            .header(HttpHeaders.IF_NONE_MATCH, etag),
+        MediaType.parseMediaType(TransactionApiController.COLUMNAR_JSON_VALUE));
+    assertEquals("Rent", page.get("rows").get(0).get(4).asText());
+  }
+
+  @Test
+  @DisplayName("Should answer 401 instead of redirecting to the login page")
+  void listTransactions_WithoutUser_ShouldReturnUnauthorized() throws Exception {
+    mockMvc.perform(get("/api/transactions").accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isUnauthorized())
+        .andExpect(header().doesNotExist(HttpHeaders.WWW_AUTHENTICATE));
+  }
+
+  @Test
+  @DisplayName("Should answer 401 to wrong HTTP Basic credentials")
+  void listTransactions_WithWrongBasicCredentials_ShouldReturnUnauthorized() throws Exception {
+    useStoredPasswordHash();
+
+    mockMvc.perform(get("/api/transactions").with(httpBasic(EMAIL, "Wrong@2024")))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @DisplayName("Should accept HTTP Basic credentials without a CSRF token or session")
+  void createTransaction_WithBasicCredentials_ShouldNotNeedCsrfToken() throws Exception {
+    useStoredPasswordHash();
+
+    MvcResult result = mockMvc.perform(post("/api/transactions")
+            .with(httpBasic(EMAIL, PASSWORD))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"amount": 12.5, "description": "Lunch", "category": "Food",
+                 "type": "EXPENSE", "date": "2025-03-01T12:00:00"}
+                """))
+        .andExpect(status().isCreated())
+        .andReturn();
+
+    assertNull(result.getRequest().getSession(false));
+  }
+
+  @Test
+  @DisplayName("Should still require a CSRF token for session logins")
+  @WithMockUser(username = EMAIL)
+  void createTransaction_WithSessionWithoutCsrfToken_ShouldReturnForbidden() throws Exception {
+    mockMvc.perform(post("/api/transactions")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"amount": 12.5, "description": "Lunch", "category": "Food",
+                 "type": "EXPENSE", "date": "2025-03-01T12:00:00"}
+                """))
+        .andExpect(status().isForbidden());
+  }
+
+  private JsonNode list(MockHttpServletRequestBuilder builder, MediaType mediaType)
+      throws Exception {
+    MvcResult result = mockMvc.perform(builder)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    // Let the body finish writing before the response is inspected from this thread.
+    result.getAsyncResult();
+    String body = mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(mediaType))
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body);
+  }
+
+  private void useStoredPasswordHash() {
+    jdbcTemplate.update("UPDATE users SET password = ? WHERE email = ?",
+        new BCryptPasswordEncoder(4).encode(PASSWORD), EMAIL);
+  }
+
+  private void persistTransaction(String amount, String description, TransactionType type,
+      int day) {
+    Transaction transaction = new Transaction(Money.parse(amount), description, "Category", type, user);
+    transaction.setDate(LocalDateTime.of(2025, 3, day, 9, 0));
+    transactionRepository.save(new TransactionEntity(transaction));
+  }
+}
@@ -0,0 +1,127 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.TransactionEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for TransactionExportController.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionExportControllerTest {
+
+  private static final String EMAIL = "export@example.com";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+
+    User user = new User(EMAIL, "Test@2024", "Export User");
+    user.setId(userRepository.save(new UserEntity(user)).getId());
+    persistTransaction("5000.00", "Salary", TransactionType.INCOME, user,
+        LocalDateTime.of(2025, 3, 1, 9, 0));
+    persistTransaction("1500.00", "Rent, March", TransactionType.EXPENSE, user,
+        LocalDateTime.of(2025, 3, 5, 10, 0));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should stream the user's transactions as a CSV download")
+  @WithMockUser(username = EMAIL)
+  void exportTransactions_ShouldStreamCsv() throws Exception {
+    MvcResult result = mockMvc.perform(get("/dashboard/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Disposition",
+            "attachment; filename=\"transactions.csv\""))
+        .andExpect(content().contentType("text/csv;charset=UTF-8"))
+        .andExpect(content().string("""
+            date,description,category,type,amount
+            2025-03-05T10:00:00,"Rent, March",Category,EXPENSE,1500.00
+            2025-03-01T09:00:00,Salary,Category,INCOME,5000.00
+            """));
+  }
+
+  @Test
+  @DisplayName("Should answer an unchanged history with 304")
+  @WithMockUser(username = EMAIL)
+  void exportTransactions_WithCurrentEtag_ShouldReturnNotModified() throws Exception {
+    MvcResult result = mockMvc.perform(get("/dashboard/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    result.getAsyncResult();
+    String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/dashboard/export").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(request().asyncNotStarted());
+  }
+
+  @Test
+  @DisplayName("Should require authentication")
+  void exportTransactions_WithoutUser_ShouldRedirectToLogin() throws Exception {
+    mockMvc.perform(get("/dashboard/export"))
+        .andExpect(status().is3xxRedirection());
+  }
+
+  private void persistTransaction(String amount, String description, TransactionType type,
+      User user, LocalDateTime date) {
+    Transaction transaction = new Transaction(Money.parse(amount), description, "Category", type, user);
+    transaction.setDate(date);
+    transactionRepository.save(new TransactionEntity(transaction));
+  }
+}
@@ -0,0 +1,197 @@
+package com.finance.manager.cleanarch.interfaces.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.ImportResult;
+import com.finance.manager.cleanarch.application.usecase.TransactionImportUseCase.RowError;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringTransactionRepository;
+import com.finance.manager.cleanarch.infrastructure.persistence.repository.SpringUserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for TransactionImportController.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TransactionImportControllerTest {
+
+  private static final String EMAIL = "import@example.com";
+  private static final int ROWS = 120;
+  // The chunk size of TransactionImportUseCase
+  private static final int CHUNK_SIZE = 500;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private SpringUserRepository userRepository;
+
+  @Autowired
+  private SpringTransactionRepository transactionRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private MockMvc mockMvc;
+  private Long userId;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders
+        .webAppContextSetup(context)
+        .apply(springSecurity())
+        .build();
+
+    User user = new User(EMAIL, "Test@2024", "Import User");
+    userId = userRepository.save(new UserEntity(user)).getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should show the import form")
+  @WithMockUser(username = EMAIL)
+  void showImportForm_ShouldReturnImportView() throws Exception {
+    mockMvc.perform(get("/dashboard/import"))
+        .andExpect(status().isOk())
+        .andExpect(view().name("transaction/import"));
+  }
+
+  @Test
+  @DisplayName("Should import valid CSV rows in batches and report invalid ones")
+  @WithMockUser(username = EMAIL)
+  void importTransactions_WithCsv_ShouldImportInBatches() throws Exception {
+    StringBuilder csv = new StringBuilder("date,description,category,type,amount\n");
+    for (int i = 0; i < ROWS; i++) {
+      csv.append("2025-03-01,Row ").append(i).append(",Food,EXPENSE,12.50\n");
+    }
+    csv.append("2025-03-01,Broken,Food,EXPENSE,abc\n");
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    MvcResult result = mockMvc.perform(multipart("/dashboard/import")
+            .file(new MockMultipartFile("file", "statement.csv", "text/csv",
+                csv.toString().getBytes(StandardCharsets.UTF_8)))
+            .with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(view().name("transaction/import"))
+        .andReturn();
+
+    ImportResult importResult = (ImportResult) result.getModelAndView().getModel().get("result");
+    assertEquals(ROWS, importResult.imported());
+    assertEquals(List.of(new RowError(ROWS + 2, "Invalid amount: abc")), importResult.errors());
+    assertEquals(ROWS, transactionRepository.findByUserId(userId).size());
+    // Besides the batched inserts, the chunk creates the user's stored totals and one
+    // rollup bucket, which does not grow with the number of rows.
+    assertTrue(statistics.getPrepareStatementCount() < 20,
+        "Inserts should be batched, but " + statistics.getPrepareStatementCount()
+            + " statements were prepared");
+  }
+
+  @Test
+  @DisplayName("Should import an OFX statement")
+  @WithMockUser(username = EMAIL)
+  void importTransactions_WithOfx_ShouldImport() throws Exception {
+    String ofx = "<OFX><STMTTRN><DTPOSTED>20250305<TRNAMT>-89.99<NAME>Internet</STMTTRN></OFX>";
+
+    mockMvc.perform(multipart("/dashboard/import")
+            .file(new MockMultipartFile("file", "statement.ofx", "application/x-ofx",
+                ofx.getBytes(StandardCharsets.UTF_8)))
+            .with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("result", new ImportResult(1, 0, List.of())));
+  }
+
+  @Test
+  @DisplayName("Should keep and report the saved chunks when the file fails partway")
+  @WithMockUser(username = EMAIL)
+  void importTransactions_WhenReadingFailsAfterFirstChunk_ShouldReportSavedRows()
+      throws Exception {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < CHUNK_SIZE + 50; i++) {
+      csv.append("2025-03-01,Row ").append(i).append(",Food,EXPENSE,12.50\n");
+    }
+    byte[] content = csv.toString().getBytes(StandardCharsets.UTF_8);
+    MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv",
+        content) {
+      @Override
+      public InputStream getInputStream() {
+        return new SequenceInputStream(new ByteArrayInputStream(content), new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("Connection reset");
+          }
+        });
+      }
+    };
+
+    MvcResult result = mockMvc.perform(multipart("/dashboard/import")
+            .file(file)
+            .with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(view().name("transaction/import"))
+        .andReturn();
+
+    Map<String, Object> model = result.getModelAndView().getModel();
+    assertEquals(new ImportResult(CHUNK_SIZE, 0, List.of()),
+        model.get("result"));
+    assertEquals("The file could not be read. The import stopped after 500 transactions were"
+        + " saved. They are kept, so import only the rows after them to avoid duplicates.",
+        model.get("error"));
+    assertEquals(CHUNK_SIZE,
+        transactionRepository.findByUserId(userId).size());
+  }
+
+  @Test
+  @DisplayName("Should reject an unsupported format")
+  @WithMockUser(username = EMAIL)
+  void importTransactions_WithUnknownFormat_ShouldShowError() throws Exception {
+    mockMvc.perform(multipart("/dashboard/import")
+            .file(new MockMultipartFile("file", "statement.xls", "application/octet-stream",
+                new byte[] {1}))
+            .param("format", "xls")
+            .with(csrf()))
+        .andExpect(status().isOk())
+        .andExpect(model().attribute("error", "Unsupported import format: xls"));
+  }
+}
@@ -0,0 +1,138 @@
+package com.finance.manager.cleanarch.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.finance.manager.cleanarch.application.usecase.TransactionUseCase;
+import com.finance.manager.cleanarch.domain.model.Money;
+import com.finance.manager.cleanarch.domain.model.Transaction;
+import com.finance.manager.cleanarch.domain.model.Transaction.TransactionType;
+import com.finance.manager.cleanarch.domain.model.User;
+import com.finance.manager.cleanarch.infrastructure.persistence.TestUserRows;
+import com.finance.manager.cleanarch.infrastructure.persistence.entity.UserEntity;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Checks the persistence path for virtual threads that get pinned to their carrier, using the
+ * {@code jdk.VirtualThreadPinned} JFR event. Only compiled and run by the virtual-threads
+ * profile, which builds with Java 21.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadPinningTest {
+
+  private static final String EMAIL = "pinning@example.com";
+  private static final int TASKS = 50;
+  private static final String PINNED = "jdk.VirtualThreadPinned";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JpaUserRepository userRepository;
+
+  @Autowired
+  private JpaTransactionRepository transactionRepository;
+
+  @Autowired
+  private TransactionUseCase transactionUseCase;
+
+  @Autowired
+  private SpringUserRepository springUserRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = new User(EMAIL, "Test@2024", "Pinning");
+    user.setId(springUserRepository.save(new UserEntity(user)).getId());
+    // Load and initialize the classes on the path before recording.
+    transactionUseCase.addTransaction(user, expense(0));
+    readDashboard();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUserRows.delete(jdbcTemplate, EMAIL);
+  }
+
+  @Test
+  @DisplayName("Should not pin virtual threads that read users and transactions")
+  void reads_ShouldNotPinVirtualThreads() {
+    List<RecordedEvent> pinned = record(this::readDashboard);
+
+    assertTrue(pinned.isEmpty(), () -> "Pinned while reading:\n" + describe(pinned));
+  }
+
+  @Test
+  @DisplayName("Should pin virtual threads that write only while waiting for an H2 row lock")
+  void concurrentWrites_ShouldOnlyPinInH2RowLockWaits() {
+    List<RecordedEvent> pinned = record(() -> transactionUseCase.addTransaction(user, expense(1)));
+
+    List<RecordedEvent> elsewhere = pinned.stream()
+        .filter(event -> !isH2RowLockWait(event))
+        .toList();
+    assertTrue(elsewhere.isEmpty(), () -> "Pinned outside H2 row lock waits:\n"
+        + describe(elsewhere));
+    assertEquals(TASKS + 1, transactionRepository.findByUser(user).size());
+  }
+
+  private void readDashboard() {
+    User found = userRepository.findByEmail(EMAIL).orElseThrow();
+    transactionUseCase.getDashboard(found, null, 20);
+  }
+
+  private Transaction expense(long minor) {
+    return new Transaction(Money.ofMinor(-100 - minor), "Coffee", "Food",
+        TransactionType.EXPENSE, user);
+  }
+
+  private static List<RecordedEvent> record(Runnable task) {
+    List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+    try (RecordingStream stream = new RecordingStream()) {
+      stream.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+      stream.onEvent(PINNED, pinned::add);
+      stream.startAsync();
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < TASKS; i++) {
+          executor.submit(task);
+        }
+      }
+      stream.stop();
+    }
+    return pinned;
+  }
+
+  private static boolean isH2RowLockWait(RecordedEvent event) {
+    return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+        .anyMatch(frame -> frame.getMethod().getType().getName()
+            .equals("org.h2.mvstore.tx.Transaction")
+            && frame.getMethod().getName().equals("waitForThisToEnd"));
+  }
+
+  private static String describe(List<RecordedEvent> events) {
+    return events.stream()
+        .map(event -> event.getStackTrace().getFrames().stream()
+            .limit(15)
+            .map(RecordedFrame::toString)
+            .collect(Collectors.joining("\n  ", "  ", "")))
+        .distinct()
+        .collect(Collectors.joining("\n\n"));
+  }
+}